@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.util.concurrent.TimeUnit
+
+import scala.collection.JavaConverters._
+import scala.util.Random
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import org.opensearch.flint.core.field.bloomfilter.{BloomFilter, BloomFilterFactory}
+import org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory._
+import org.opensearch.flint.spark.skipping.bloomfilter.BloomFilterAgg
+
+import org.apache.spark.sql.catalyst.expressions.Literal
+
+/**
+ * Benchmark of bloom filter insert, membership check and BloomFilterAgg serialization for each
+ * bloom filter algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class BloomFilterBenchmark {
+
+  @Param(Array("classic", "split_block", "adaptive"))
+  var algorithm: String = _
+
+  @Param(Array("100000"))
+  var numItems: Int = _
+
+  private var factory: BloomFilterFactory = _
+
+  private var agg: BloomFilterAgg = _
+
+  private var items: Array[Long] = _
+
+  /** Half of the probes are inserted items and the other half are not */
+  private var probes: Array[Long] = _
+
+  private var bloomFilter: BloomFilter = _
+
+  /** Buffer of BloomFilterAgg */
+  private var buffer: Array[Byte] = _
+
+  /** Final result of BloomFilterAgg which is the serialized best candidate if adaptive */
+  private var result: Array[Byte] = _
+
+  @Setup
+  def setup(): Unit = {
+    val params = algorithm match {
+      case "classic" =>
+        Map(
+          BLOOM_FILTER_ADAPTIVE_KEY -> "false",
+          CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY -> numItems.toString)
+      case "split_block" =>
+        Map(
+          BLOOM_FILTER_ADAPTIVE_KEY -> "false",
+          BLOOM_FILTER_SPLIT_BLOCK_KEY -> "true",
+          CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY -> numItems.toString)
+      case "adaptive" => Map(BLOOM_FILTER_ADAPTIVE_KEY -> "true")
+    }
+    factory = BloomFilterFactory.of(params.asJava)
+    agg = new BloomFilterAgg(Literal(0L), factory)
+
+    val random = new Random(42L)
+    items = Array.fill(numItems)(random.nextLong())
+    probes = items.zipWithIndex.map { case (item, i) => if (i % 2 == 0) item else ~item }
+
+    bloomFilter = factory.create()
+    items.foreach(bloomFilter.put)
+    buffer = agg.serialize(bloomFilter)
+    result = agg.eval(bloomFilter).asInstanceOf[Array[Byte]]
+  }
+
+  @Benchmark
+  def put(bh: Blackhole): Unit = {
+    val bf = factory.create()
+    var i = 0
+    while (i < items.length) {
+      bf.put(items(i))
+      i += 1
+    }
+    bh.consume(bf)
+  }
+
+  @Benchmark
+  def mightContain(bh: Blackhole): Unit = {
+    var i = 0
+    while (i < probes.length) {
+      bh.consume(bloomFilter.mightContain(probes(i)))
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def mightContainSerialized(bh: Blackhole): Unit = {
+    var i = 0
+    while (i < probes.length) {
+      bh.consume(BloomFilter.mightContain(result, probes(i)))
+      i += 1
+    }
+  }
+
+  @Benchmark
+  def serialize(bh: Blackhole): Unit = {
+    bh.consume(agg.serialize(bloomFilter))
+  }
+
+  @Benchmark
+  def deserialize(bh: Blackhole): Unit = {
+    bh.consume(agg.deserialize(buffer))
+  }
+}
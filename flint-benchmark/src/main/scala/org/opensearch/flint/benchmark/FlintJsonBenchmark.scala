@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.io.OutputStream
+import java.util.concurrent.TimeUnit
+
+import scala.collection.JavaConverters._
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import org.opensearch.flint.core.storage.{FlintReader, FlintWriter}
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.json.JSONOptions
+import org.apache.spark.sql.catalyst.util.CaseInsensitiveMap
+import org.apache.spark.sql.flint.{FlintColumnarPartitionReader, FlintPartitionReader}
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.flint.datatype.FlintDataType.DATE_FORMAT_PARAMETERS
+import org.apache.spark.sql.flint.json.FlintJacksonGenerator
+import org.apache.spark.sql.types.StructType
+
+/**
+ * Benchmark of converting documents between JSON and Spark rows by FlintJacksonParser and
+ * FlintJacksonGenerator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class FlintJsonBenchmark {
+
+  @Param(Array("10", "50"))
+  var width: Int = _
+
+  @Param(Array("0", "2"))
+  var depth: Int = _
+
+  @Param(Array("1000"))
+  var numDocs: Int = _
+
+  private var schema: StructType = _
+
+  private var docs: IndexedSeq[String] = _
+
+  private var rows: IndexedSeq[InternalRow] = _
+
+  private val options = FlintSparkConf(Map.empty[String, String].asJava)
+
+  @Setup
+  def setup(): Unit = {
+    val generator = SyntheticDocuments(width, depth)
+    schema = generator.schema
+    docs = generator.json(numDocs)
+    rows = generator.rows(numDocs)
+  }
+
+  @Benchmark
+  def parse(bh: Blackhole): Unit = {
+    val reader = new FlintPartitionReader(new DocumentReader(docs), schema, options)
+    while (reader.next()) {
+      bh.consume(reader.get())
+    }
+    reader.close()
+  }
+
+  @Benchmark
+  def generate(bh: Blackhole): Unit = {
+    val writer = new DiscardingWriter
+    val gen = FlintJacksonGenerator(
+      schema,
+      writer,
+      new JSONOptions(CaseInsensitiveMap(DATE_FORMAT_PARAMETERS), options.timeZone, ""))
+    rows.foreach { row =>
+      gen.write(row)
+      gen.writeLineEnding()
+    }
+    gen.flush()
+    bh.consume(writer.getBufferSize)
+  }
+}
+
+/**
+ * Benchmark of reading flat documents by row based and columnar partition reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class FlintColumnarReadBenchmark {
+
+  @Param(Array("10", "50"))
+  var width: Int = _
+
+  @Param(Array("4096"))
+  var numDocs: Int = _
+
+  private var schema: StructType = _
+
+  private var docs: IndexedSeq[String] = _
+
+  private val options = FlintSparkConf(Map.empty[String, String].asJava)
+
+  @Setup
+  def setup(): Unit = {
+    val generator = SyntheticDocuments(width, depth = 0)
+    schema = generator.schema
+    docs = generator.json(numDocs)
+  }
+
+  @Benchmark
+  def readRows(bh: Blackhole): Unit = {
+    val reader = new FlintPartitionReader(new DocumentReader(docs), schema, options)
+    while (reader.next()) {
+      bh.consume(reader.get())
+    }
+    reader.close()
+  }
+
+  @Benchmark
+  def readColumnarBatches(bh: Blackhole): Unit = {
+    val reader =
+      new FlintColumnarPartitionReader(new DocumentReader(docs), schema, options, batchSize = 1024)
+    while (reader.next()) {
+      bh.consume(reader.get())
+    }
+    reader.close()
+  }
+}
+
+/**
+ * Flint reader over documents in memory.
+ */
+class DocumentReader(docs: Seq[String]) extends FlintReader {
+  private val iterator = docs.iterator
+
+  override def hasNext: Boolean = iterator.hasNext
+
+  override def next(): String = iterator.next()
+
+  override def close(): Unit = {}
+}
+
+/**
+ * Flint writer that only counts the size of data written.
+ */
+class DiscardingWriter extends FlintWriter {
+  private var size = 0L
+
+  private val out = new OutputStream {
+    override def write(b: Int): Unit = size += 1
+
+    override def write(b: Array[Byte], off: Int, len: Int): Unit = size += len
+  }
+
+  override def getBufferSize: Long = size
+
+  override def getOutputStream: OutputStream = out
+
+  override def write(cbuf: Array[Char], off: Int, len: Int): Unit = size += len
+
+  override def flush(): Unit = {}
+
+  override def close(): Unit = {}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.util.concurrent.TimeUnit
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+import org.apache.spark.sql.connector.expressions.{Expression, FieldReference, LiteralValue}
+import org.apache.spark.sql.connector.expressions.filter.{And, Or, Predicate}
+import org.apache.spark.sql.flint.storage.FlintQueryCompiler
+import org.apache.spark.sql.types.{LongType, StructType}
+import org.apache.spark.unsafe.types.UTF8String
+
+/**
+ * Benchmark of compiling pushed down predicates to OpenSearch query DSL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class FlintQueryCompilerBenchmark {
+
+  @Param(Array("1", "10", "100"))
+  var numPredicates: Int = _
+
+  private var schema: StructType = _
+
+  private var predicates: Array[Predicate] = _
+
+  @Setup
+  def setup(): Unit = {
+    schema = SyntheticDocuments(width = 4, depth = 0).schema
+    // Alternate conjunction of long equality and disjunction of keyword equality
+    predicates = (0 until numPredicates).map { i =>
+      if (i % 2 == 0) {
+        equalTo("f0", LiteralValue(i.toLong, LongType))
+      } else {
+        new Or(
+          equalTo("f2", LiteralValue(UTF8String.fromString(s"a$i"), schema("f2").dataType)),
+          new And(
+            equalTo("f0", LiteralValue(i.toLong, LongType)),
+            equalTo("f2", LiteralValue(UTF8String.fromString(s"b$i"), schema("f2").dataType))))
+      }
+    }.toArray
+  }
+
+  @Benchmark
+  def compile(bh: Blackhole): Unit = {
+    bh.consume(FlintQueryCompiler(schema).compile(predicates))
+  }
+
+  private def equalTo(field: String, value: LiteralValue[_]): Predicate =
+    new Predicate("=", Array[Expression](FieldReference(field), value))
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets
+
+import com.sun.net.httpserver.{HttpExchange, HttpServer}
+
+/**
+ * In-process HTTP stand-in of OpenSearch `_bulk` and `_search` API, so read and write loops can
+ * be benchmarked end-to-end without a cluster. Bulk requests are drained and acknowledged
+ * without error. A search request without search_after gets one page of the given hits, and the
+ * next one with search_after gets an empty page.
+ *
+ * @param docs
+ *   document source of each hit in the search page
+ */
+class LocalOpenSearchServer(docs: Seq[String]) {
+
+  private val server = HttpServer.create(new InetSocketAddress("localhost", 0), 0)
+
+  private val bulkResponse = """{"took":1,"errors":false,"items":[]}"""
+
+  private val searchResponse = page(docs)
+
+  private val emptySearchResponse = page(Seq.empty)
+
+  server.createContext(
+    "/",
+    (exchange: HttpExchange) => {
+      val body = exchange.getRequestBody.readAllBytes()
+      val path = exchange.getRequestURI.getPath
+      if (path.endsWith("/_bulk")) {
+        respond(exchange, 200, bulkResponse)
+      } else if (path.endsWith("/_search")) {
+        val searchAfter = new String(body, StandardCharsets.UTF_8).contains("search_after")
+        respond(exchange, 200, if (searchAfter) emptySearchResponse else searchResponse)
+      } else {
+        respond(exchange, 404, s"""{"error":"unsupported path $path","status":404}""")
+      }
+    })
+
+  /** Port the server listens on */
+  def port: Int = server.getAddress.getPort
+
+  def start(): Unit = server.start()
+
+  def stop(): Unit = server.stop(0)
+
+  private def respond(exchange: HttpExchange, status: Int, response: Array[Byte]): Unit = {
+    exchange.getResponseHeaders.add("Content-Type", "application/json; charset=UTF-8")
+    exchange.sendResponseHeaders(status, response.length)
+    val out = exchange.getResponseBody
+    try {
+      out.write(response)
+    } finally {
+      out.close()
+    }
+  }
+
+  private def respond(exchange: HttpExchange, status: Int, response: String): Unit =
+    respond(exchange, status, response.getBytes(StandardCharsets.UTF_8))
+
+  private def page(sources: Seq[String]): Array[Byte] = {
+    val hits = sources.zipWithIndex
+      .map { case (source, i) =>
+        s"""{"_index":"bench","_id":"$i","_score":null,"_source":$source,"sort":[$i]}"""
+      }
+      .mkString(",")
+    // scalastyle:off
+    s"""{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":${sources.size},"relation":"eq"},"max_score":null,"hits":[$hits]}}"""
+      .getBytes(StandardCharsets.UTF_8)
+    // scalastyle:on
+  }
+}
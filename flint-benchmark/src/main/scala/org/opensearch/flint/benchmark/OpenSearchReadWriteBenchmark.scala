@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.util.concurrent.TimeUnit
+
+import scala.collection.JavaConverters._
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import org.opensearch.action.search.SearchRequest
+import org.opensearch.flint.core.FlintOptions
+import org.opensearch.flint.core.storage.{FlintOpenSearchClient, OpenSearchClientPool, OpenSearchClientUtils, OpenSearchSearchAfterQueryReader, OpenSearchStreamingSearchAfterQueryReader}
+import org.opensearch.search.builder.SearchSourceBuilder
+import org.opensearch.search.sort.SortOrder
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.flint.{FlintPartitionReader, FlintPartitionWriter}
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.types.StructType
+
+/**
+ * End-to-end benchmark of Flint read and write loop against an in-process OpenSearch stand-in.
+ * It measures client side cost of request building, response parsing and row conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class OpenSearchReadWriteBenchmark {
+
+  @Param(Array("10", "50"))
+  var width: Int = _
+
+  @Param(Array("1"))
+  var depth: Int = _
+
+  @Param(Array("1000"))
+  var numDocs: Int = _
+
+  private var server: LocalOpenSearchServer = _
+
+  private var flintOptions: FlintOptions = _
+
+  private var options: FlintSparkConf = _
+
+  private var schema: StructType = _
+
+  private var rows: IndexedSeq[InternalRow] = _
+
+  @Setup
+  def setup(): Unit = {
+    val generator = SyntheticDocuments(width, depth)
+    schema = generator.schema
+    rows = generator.rows(numDocs)
+    server = new LocalOpenSearchServer(generator.json(numDocs))
+    server.start()
+
+    val conf = Map(
+      FlintOptions.HOST -> "localhost",
+      FlintOptions.PORT -> server.port.toString,
+      FlintOptions.SCHEME -> "http")
+    flintOptions = new FlintOptions(conf.asJava)
+    options = FlintSparkConf(conf.asJava)
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    OpenSearchClientPool.closeAll()
+    server.stop()
+  }
+
+  @Benchmark
+  def read(bh: Blackhole): Unit = {
+    val reader = new FlintPartitionReader(
+      new OpenSearchSearchAfterQueryReader(
+        OpenSearchClientUtils.createClient(flintOptions),
+        search),
+      schema,
+      options)
+    consume(reader, bh)
+  }
+
+  @Benchmark
+  def readStreaming(bh: Blackhole): Unit = {
+    val reader = new FlintPartitionReader(
+      new OpenSearchStreamingSearchAfterQueryReader(
+        OpenSearchClientUtils.createClient(flintOptions),
+        search,
+        Long.MaxValue),
+      schema,
+      options)
+    consume(reader, bh)
+  }
+
+  @Benchmark
+  def write(bh: Blackhole): Unit = {
+    val writer = FlintPartitionWriter(
+      new FlintOpenSearchClient(flintOptions).createWriter("bench"),
+      schema,
+      options,
+      partitionId = 0,
+      taskId = 0)
+    rows.foreach(writer.write)
+    bh.consume(writer.commit())
+    writer.close()
+  }
+
+  private def search: SearchRequest =
+    new SearchRequest("bench")
+      .source(new SearchSourceBuilder().size(numDocs).sort("_doc", SortOrder.ASC))
+
+  private def consume(reader: FlintPartitionReader, bh: Blackhole): Unit = {
+    while (reader.next()) {
+      bh.consume(reader.get())
+    }
+    reader.close()
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import java.util.concurrent.TimeUnit
+
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import org.opensearch.flint.spark.ppl.PlaneUtils.plan
+import org.opensearch.flint.spark.ppl.PPLSyntaxParser
+import org.opensearch.sql.ppl.{CatalystPlanContext, CatalystQueryPlanVisitor}
+
+/**
+ * Benchmark of translating PPL query to Spark logical plan by PPLSyntaxParser and
+ * CatalystQueryPlanVisitor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+class PPLPlanBenchmark {
+
+  @Param(
+    Array(
+      "source = t | where a > 1 | fields a, b",
+      "source = t | where a > 1 and b = 'x' | stats avg(c) by e | sort - e | head 10",
+      "source = t | eval x = a + b * 2 | parse email '.+@(?<host>.+)' | fields x, host"))
+  var query: String = _
+
+  private val parser = new PPLSyntaxParser()
+
+  private val visitor = new CatalystQueryPlanVisitor()
+
+  @Benchmark
+  def parse(bh: Blackhole): Unit = {
+    bh.consume(plan(parser, query))
+  }
+
+  @Benchmark
+  def parseAndTranslate(bh: Blackhole): Unit = {
+    bh.consume(visitor.visit(plan(parser, query), new CatalystPlanContext))
+  }
+}
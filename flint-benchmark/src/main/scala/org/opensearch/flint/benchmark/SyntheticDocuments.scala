@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.benchmark
+
+import scala.util.Random
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow
+import org.apache.spark.sql.types._
+import org.apache.spark.unsafe.types.UTF8String
+
+/**
+ * Deterministic synthetic documents for benchmarks. Each level of a document has `width` leaf
+ * fields of rotating long, double, keyword and boolean type, and a nested object field down to
+ * the given nesting depth.
+ *
+ * @param width
+ *   number of leaf fields in each level
+ * @param depth
+ *   number of nested object levels below the root
+ * @param seed
+ *   random seed so the same documents are generated in every run
+ */
+case class SyntheticDocuments(width: Int, depth: Int, seed: Long = 42L) {
+
+  private val leafTypes = Seq(LongType, DoubleType, StringType, BooleanType)
+
+  /** Spark schema of the documents */
+  val schema: StructType = structType(depth)
+
+  /**
+   * Generate documents as JSON.
+   *
+   * @param num
+   *   number of documents
+   * @return
+   *   documents
+   */
+  def json(num: Int): IndexedSeq[String] = {
+    val random = new Random(seed)
+    (0 until num).map(_ => toJson(schema, random))
+  }
+
+  /**
+   * Generate documents as Spark internal rows.
+   *
+   * @param num
+   *   number of documents
+   * @return
+   *   rows
+   */
+  def rows(num: Int): IndexedSeq[InternalRow] = {
+    val random = new Random(seed)
+    (0 until num).map(_ => toRow(schema, random))
+  }
+
+  private def structType(level: Int): StructType = {
+    val leaves = (0 until width).map(i => StructField(s"f$i", leafTypes(i % leafTypes.size)))
+    if (level == 0) {
+      StructType(leaves)
+    } else {
+      StructType(leaves :+ StructField("nested", structType(level - 1)))
+    }
+  }
+
+  private def toJson(struct: StructType, random: Random): String = {
+    struct.fields
+      .map { field =>
+        val value = field.dataType match {
+          case LongType => random.nextLong().toString
+          case DoubleType => random.nextDouble().toString
+          case StringType => s""""${random.alphanumeric.take(16).mkString}""""
+          case BooleanType => random.nextBoolean().toString
+          case nested: StructType => toJson(nested, random)
+        }
+        s""""${field.name}":$value"""
+      }
+      .mkString("{", ",", "}")
+  }
+
+  private def toRow(struct: StructType, random: Random): InternalRow = {
+    new GenericInternalRow(struct.fields.map[Any, Array[Any]] { field =>
+      field.dataType match {
+        case LongType => random.nextLong()
+        case DoubleType => random.nextDouble()
+        case StringType => UTF8String.fromString(random.alphanumeric.take(16).mkString)
+        case BooleanType => random.nextBoolean()
+        case nested: StructType => toRow(nested, random)
+      }
+    })
+  }
+}
@@ -30,6 +30,17 @@ trait StatementExecutionManager {
    */
   def getNextStatement(): Option[FlintStatement]
 
+  /**
+   * Waits for next statement up to the given time. Implementation may return early once it is
+   * notified of new statement submitted. By default, it simply sleeps for the given time.
+   *
+   * @param maxWaitMillis
+   *   maximum time to wait in milliseconds
+   */
+  def awaitNextStatement(maxWaitMillis: Long): Unit = {
+    Thread.sleep(maxWaitMillis)
+  }
+
   /**
    * Updates a specific statement.
    */
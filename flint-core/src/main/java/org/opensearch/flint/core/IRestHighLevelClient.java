@@ -26,6 +26,8 @@ import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.core.pit.CreatePitResponse;
 import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitResponse;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.GetIndexResponse;
 import org.opensearch.client.indices.PutMappingRequest;
@@ -38,6 +40,7 @@ import org.opensearch.flint.core.metrics.MetricsUtil;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Interface for wrapping the OpenSearch High Level REST Client with additional functionality,
@@ -67,6 +70,14 @@ public interface IRestHighLevelClient extends Closeable {
 
     SearchResponse search(SearchRequest searchRequest, RequestOptions options) throws IOException;
 
+    /**
+     * Search and return the raw response body without parsing it into {@link SearchResponse}.
+     * Only indices, preference and source of the search request are sent. The body is fully
+     * buffered in memory by the REST client before returned. Caller must close the returned
+     * stream.
+     */
+    InputStream searchAsStream(SearchRequest searchRequest, RequestOptions options) throws IOException;
+
     SearchResponse scroll(SearchScrollRequest searchScrollRequest, RequestOptions options) throws IOException;
 
     DocWriteResponse update(UpdateRequest updateRequest, RequestOptions options) throws IOException;
@@ -75,6 +86,8 @@ public interface IRestHighLevelClient extends Closeable {
 
     CreatePitResponse createPit(CreatePitRequest request) throws IOException;
 
+    DeletePitResponse deletePit(DeletePitRequest request) throws IOException;
+
     /**
      * Records the success of an OpenSearch operation by incrementing the corresponding metric counter.
      * This method constructs the metric name by appending ".200.count" to the provided metric name prefix.
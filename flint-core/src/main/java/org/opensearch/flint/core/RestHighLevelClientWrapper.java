@@ -23,6 +23,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Request;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
@@ -34,11 +35,15 @@ import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
 import org.opensearch.client.opensearch.core.pit.CreatePitResponse;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitResponse;
 import org.opensearch.client.opensearch.indices.IndicesStatsRequest;
 import org.opensearch.client.opensearch.indices.IndicesStatsResponse;
 import org.opensearch.client.transport.rest_client.RestClientTransport;
+import org.opensearch.common.Strings;
 
 import java.io.IOException;
+import java.io.InputStream;
 import org.opensearch.flint.core.storage.BulkRequestRateLimiter;
 import org.opensearch.flint.core.storage.OpenSearchBulkRetryWrapper;
 
@@ -138,6 +143,22 @@ public class RestHighLevelClientWrapper implements IRestHighLevelClient {
         return execute(() -> client.search(searchRequest, options), OS_READ_OP_METRIC_PREFIX, OS_SEARCH_OP_METRIC_PREFIX);
     }
 
+    @Override
+    public InputStream searchAsStream(SearchRequest searchRequest, RequestOptions options) throws IOException {
+        return execute(() -> {
+            String indices = String.join(",", searchRequest.indices());
+            Request request = new Request("POST", indices.isEmpty() ? "/_search" : "/" + indices + "/_search");
+            if (searchRequest.preference() != null) {
+                request.addParameter("preference", searchRequest.preference());
+            }
+            if (searchRequest.source() != null) {
+                request.setJsonEntity(Strings.toString(searchRequest.source()));
+            }
+            request.setOptions(options);
+            return client.getLowLevelClient().performRequest(request).getEntity().getContent();
+        }, OS_READ_OP_METRIC_PREFIX, OS_SEARCH_OP_METRIC_PREFIX);
+    }
+
     @Override
     public SearchResponse scroll(SearchScrollRequest searchScrollRequest, RequestOptions options) throws IOException {
         return execute(() -> client.scroll(searchScrollRequest, options), OS_READ_OP_METRIC_PREFIX);
@@ -164,6 +185,11 @@ public class RestHighLevelClientWrapper implements IRestHighLevelClient {
         return execute(() -> openSearchClient().createPit(request), OS_WRITE_OP_METRIC_PREFIX);
     }
 
+    @Override
+    public DeletePitResponse deletePit(DeletePitRequest request) throws IOException {
+        return execute(() -> openSearchClient().deletePit(request), OS_WRITE_OP_METRIC_PREFIX);
+    }
+
     /**
      * Executes a given operation, tracks metrics, and handles exceptions.
      *
@@ -173,7 +199,7 @@ public class RestHighLevelClientWrapper implements IRestHighLevelClient {
      * @return the result of the operation
      * @throws IOException if an I/O exception occurs
      */
-    private <T> T execute(IOCallable<T> operation, String... metricNamePrefixes) throws IOException {
+    protected <T> T execute(IOCallable<T> operation, String... metricNamePrefixes) throws IOException {
         long startTime = System.currentTimeMillis();
         try {
             T result = operation.call();
@@ -198,7 +224,7 @@ public class RestHighLevelClientWrapper implements IRestHighLevelClient {
      * @param <T> the return type of the operation
      */
     @FunctionalInterface
-    private interface IOCallable<T> {
+    protected interface IOCallable<T> {
         T call() throws IOException;
     }
 
@@ -7,18 +7,23 @@ package org.opensearch.flint.core.field.bloomfilter;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import org.opensearch.flint.core.field.bloomfilter.blocked.SplitBlockBloomFilter;
+import org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter;
 
 /**
  * Bloom filter interface inspired by [[org.apache.spark.util.sketch.BloomFilter]] but adapts to
  * Flint index use and remove unnecessary API.
  */
-public interface BloomFilter {
+public interface BloomFilter extends AutoCloseable {
 
   /**
    * Bloom filter binary format version.
    */
   enum Version {
-    V1(1);
+    /** Classic bloom filter */
+    V1(1),
+    /** Split block bloom filter */
+    V2(2);
 
     private final int versionNumber;
 
@@ -65,4 +70,30 @@ public interface BloomFilter {
    * @param out output stream to write
    */
   void writeTo(OutputStream out) throws IOException;
+
+  /**
+   * Release memory allocated outside of JVM heap, if any. The bloom filter must not be used
+   * afterwards.
+   */
+  @Override
+  default void close() {
+  }
+
+  /**
+   * Check membership directly on a serialized bloom filter of any version.
+   *
+   * @param bytes serialized bloom filter
+   * @param item  Long value item to check
+   * @return true if the item may exist in the bloom filter. Otherwise, it is definitely not exist.
+   */
+  static boolean mightContain(byte[] bytes, long item) {
+    int version = ((bytes[0] & 0xFF) << 24)
+        | ((bytes[1] & 0xFF) << 16)
+        | ((bytes[2] & 0xFF) << 8)
+        | (bytes[3] & 0xFF);
+    if (version == Version.V2.getVersionNumber()) {
+      return SplitBlockBloomFilter.mightContain(bytes, item);
+    }
+    return ClassicBloomFilter.mightContain(bytes, item);
+  }
 }
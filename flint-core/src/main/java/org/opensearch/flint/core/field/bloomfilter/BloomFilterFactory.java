@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.Optional;
 import org.opensearch.flint.core.field.bloomfilter.adaptive.AdaptiveBloomFilter;
+import org.opensearch.flint.core.field.bloomfilter.blocked.SplitBlockBloomFilter;
 import org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter;
 
 /**
@@ -23,6 +24,12 @@ public abstract class BloomFilterFactory implements Serializable {
   public static final String BLOOM_FILTER_ADAPTIVE_KEY = "adaptive";
   public static final boolean DEFAULT_BLOOM_FILTER_ADAPTIVE = true;
 
+  /**
+   * Split block bloom filter key and default value. Only applies to non-adaptive bloom filter.
+   */
+  public static final String BLOOM_FILTER_SPLIT_BLOCK_KEY = "split_block";
+  public static final boolean DEFAULT_BLOOM_FILTER_SPLIT_BLOCK = false;
+
   /**
    * Expected number of unique items key and default value.
    */
@@ -46,8 +53,19 @@ public abstract class BloomFilterFactory implements Serializable {
    */
   private final Map<String, String> parameters;
 
+  /**
+   * Allocate bit array of bloom filter in off-heap memory. This only changes where the bloom
+   * filter lives in memory and has no impact on its algorithm or serialized format.
+   */
+  protected final boolean offHeap;
+
   protected BloomFilterFactory(Map<String, String> parameters) {
+    this(parameters, false);
+  }
+
+  protected BloomFilterFactory(Map<String, String> parameters, boolean offHeap) {
     this.parameters = parameters;
+    this.offHeap = offHeap;
   }
 
   /**
@@ -77,15 +95,29 @@ public abstract class BloomFilterFactory implements Serializable {
    * @return BloomFilter factory instance
    */
   public static BloomFilterFactory of(Map<String, String> parameters) {
+    return of(parameters, false);
+  }
+
+  /**
+   * Create specific BloomFilter factory given the parameters and memory mode.
+   *
+   * @param parameters BloomFilter parameters
+   * @param offHeap    allocate bit array of the bloom filters created in off-heap memory
+   * @return BloomFilter factory instance
+   */
+  public static BloomFilterFactory of(Map<String, String> parameters, boolean offHeap) {
     if (isAdaptiveEnabled(parameters)) {
-      return createAdaptiveBloomFilterFactory(parameters);
+      return createAdaptiveBloomFilterFactory(parameters, offHeap);
+    } else if (isSplitBlockEnabled(parameters)) {
+      return createSplitBlockBloomFilterFactory(parameters);
     } else {
-      return createClassicBloomFilterFactory(parameters);
+      return createClassicBloomFilterFactory(parameters, offHeap);
     }
   }
 
-  private static BloomFilterFactory createAdaptiveBloomFilterFactory(Map<String, String> parameters) {
-    return new BloomFilterFactory(parameters) {
+  private static BloomFilterFactory createAdaptiveBloomFilterFactory(Map<String, String> parameters,
+                                                                     boolean offHeap) {
+    return new BloomFilterFactory(parameters, offHeap) {
       @Override
       public Map<String, String> getParameters() {
         return Map.of(
@@ -96,34 +128,58 @@ public abstract class BloomFilterFactory implements Serializable {
 
       @Override
       public BloomFilter create() {
-        return new AdaptiveBloomFilter(numCandidates(), fpp());
+        return new AdaptiveBloomFilter(numCandidates(), fpp(), offHeap);
       }
 
       @Override
       public BloomFilter deserialize(InputStream in) {
-        return AdaptiveBloomFilter.readFrom(numCandidates(), in);
+        return AdaptiveBloomFilter.readFrom(numCandidates(), in, offHeap);
       }
     };
   }
 
-  private static BloomFilterFactory createClassicBloomFilterFactory(Map<String, String> parameters) {
+  private static BloomFilterFactory createClassicBloomFilterFactory(Map<String, String> parameters,
+                                                                    boolean offHeap) {
+    return new BloomFilterFactory(parameters, offHeap) {
+      @Override
+      public Map<String, String> getParameters() {
+        return Map.of(
+            BLOOM_FILTER_ADAPTIVE_KEY, "false",
+            CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY, Integer.toString(expectedNumItems()),
+            CLASSIC_BLOOM_FILTER_FPP_KEY, Double.toString(fpp()));
+      }
+
+      @Override
+      public BloomFilter create() {
+        return new ClassicBloomFilter(expectedNumItems(), fpp(), offHeap);
+      }
+
+      @Override
+      public BloomFilter deserialize(InputStream in) {
+        return ClassicBloomFilter.readFrom(in, offHeap);
+      }
+    };
+  }
+
+  private static BloomFilterFactory createSplitBlockBloomFilterFactory(Map<String, String> parameters) {
     return new BloomFilterFactory(parameters) {
       @Override
       public Map<String, String> getParameters() {
         return Map.of(
             BLOOM_FILTER_ADAPTIVE_KEY, "false",
+            BLOOM_FILTER_SPLIT_BLOCK_KEY, "true",
             CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY, Integer.toString(expectedNumItems()),
             CLASSIC_BLOOM_FILTER_FPP_KEY, Double.toString(fpp()));
       }
 
       @Override
       public BloomFilter create() {
-        return new ClassicBloomFilter(expectedNumItems(), fpp());
+        return new SplitBlockBloomFilter(expectedNumItems(), fpp());
       }
 
       @Override
       public BloomFilter deserialize(InputStream in) {
-        return ClassicBloomFilter.readFrom(in);
+        return SplitBlockBloomFilter.readFrom(in);
       }
     };
   }
@@ -134,6 +190,12 @@ public abstract class BloomFilterFactory implements Serializable {
         .orElse(DEFAULT_BLOOM_FILTER_ADAPTIVE);
   }
 
+  private static boolean isSplitBlockEnabled(Map<String, String> params) {
+    return Optional.ofNullable(params.get(BLOOM_FILTER_SPLIT_BLOCK_KEY))
+        .map(Boolean::parseBoolean)
+        .orElse(DEFAULT_BLOOM_FILTER_SPLIT_BLOCK);
+  }
+
   protected int expectedNumItems() {
     return Optional.ofNullable(parameters.get(CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY))
         .map(Integer::parseInt)
@@ -45,8 +45,19 @@ public class AdaptiveBloomFilter implements BloomFilter {
    * @param fpp           false positive probability
    */
   public AdaptiveBloomFilter(int numCandidates, double fpp) {
+    this(numCandidates, fpp, false);
+  }
+
+  /**
+   * Construct adaptive BloomFilter instance with the given algorithm parameters.
+   *
+   * @param numCandidates number of candidate
+   * @param fpp           false positive probability
+   * @param offHeap       allocate bit array of each candidate in off-heap memory
+   */
+  public AdaptiveBloomFilter(int numCandidates, double fpp, boolean offHeap) {
     this.candidates = initializeCandidates(numCandidates,
-        expectedNumItems -> new ClassicBloomFilter(expectedNumItems, fpp));
+        expectedNumItems -> new ClassicBloomFilter(expectedNumItems, fpp, offHeap));
   }
 
   /**
@@ -69,6 +80,18 @@ public class AdaptiveBloomFilter implements BloomFilter {
    * @return adaptive BloomFilter instance
    */
   public static BloomFilter readFrom(int numCandidates, InputStream in) {
+    return readFrom(numCandidates, in, false);
+  }
+
+  /**
+   * Deserialize adaptive BloomFilter instance from input stream.
+   *
+   * @param numCandidates number of candidates
+   * @param in            input stream of serialized adaptive BloomFilter instance
+   * @param offHeap       allocate bit array of each candidate in off-heap memory
+   * @return adaptive BloomFilter instance
+   */
+  public static BloomFilter readFrom(int numCandidates, InputStream in, boolean offHeap) {
     try {
       // Read total distinct counter
       int cardinality = new DataInputStream(in).readInt();
@@ -76,7 +99,7 @@ public class AdaptiveBloomFilter implements BloomFilter {
       // Read BloomFilter candidate array
       BloomFilter[] candidates = new BloomFilter[numCandidates];
       for (int i = 0; i < numCandidates; i++) {
-        candidates[i] = ClassicBloomFilter.readFrom(in);
+        candidates[i] = ClassicBloomFilter.readFrom(in, offHeap);
       }
       return new AdaptiveBloomFilter(cardinality, candidates);
     } catch (IOException e) {
@@ -141,6 +164,13 @@ public class AdaptiveBloomFilter implements BloomFilter {
     }
   }
 
+  @Override
+  public void close() {
+    for (BloomFilterCandidate candidate : candidates) {
+      candidate.bloomFilter.close();
+    }
+  }
+
   private BloomFilterCandidate[] initializeCandidates(int numCandidates,
                                                       Function<Integer, BloomFilter> initializer) {
     BloomFilterCandidate[] candidates = new BloomFilterCandidate[numCandidates];
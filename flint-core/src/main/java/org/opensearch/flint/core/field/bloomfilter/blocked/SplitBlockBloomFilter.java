@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.field.bloomfilter.blocked;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.opensearch.flint.core.field.bloomfilter.BloomFilter;
+
+/**
+ * Split block bloom filter implementation inspired by Parquet bloom filter spec. The bit array is
+ * divided into 256-bit blocks of eight 32-bit words. An item is hashed to one block and sets one
+ * bit in each word of the block, so all probes of an item hit the same cache line. Bloom filter is
+ * serialized in the following format:
+ * <p>
+ * 1) Version number, always 2 (32 bit)
+ * 2) Number of blocks (32 bit)
+ * 3) The words (numBlocks * 8 * 32 bit)
+ */
+public class SplitBlockBloomFilter implements BloomFilter {
+
+  /**
+   * Number of 32-bit words in a block.
+   */
+  private static final int WORDS_PER_BLOCK = 8;
+
+  /**
+   * Size of version and number of blocks before the words.
+   */
+  private static final int SERIALIZED_HEADER_BYTES = 2 * Integer.BYTES;
+
+  /**
+   * Odd constants to derive the bit to set in each word of a block.
+   */
+  private static final int[] SALT = {
+      0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d,
+      0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+  };
+
+  /**
+   * Words of all blocks
+   */
+  private final int[] words;
+
+  /**
+   * Number of blocks
+   */
+  private final int numBlocks;
+
+  public SplitBlockBloomFilter(int expectedNumItems, double fpp) {
+    this(new int[optimalNumOfBlocks(expectedNumItems, fpp) * WORDS_PER_BLOCK]);
+  }
+
+  SplitBlockBloomFilter(int[] words) {
+    this.words = words;
+    this.numBlocks = words.length / WORDS_PER_BLOCK;
+  }
+
+  @Override
+  public long bitSize() {
+    return (long) words.length * Integer.SIZE;
+  }
+
+  @Override
+  public boolean put(long item) {
+    long hash = hash(item);
+    int offset = blockIndex(hash, numBlocks) * WORDS_PER_BLOCK;
+    int key = (int) hash;
+
+    boolean bitsChanged = false;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      int mask = 1 << ((key * SALT[i]) >>> 27);
+      int word = words[offset + i];
+      bitsChanged |= (word & mask) == 0;
+      words[offset + i] = word | mask;
+    }
+    return bitsChanged;
+  }
+
+  @Override
+  public BloomFilter merge(BloomFilter other) {
+    if (!(other instanceof SplitBlockBloomFilter)) {
+      throw new IllegalStateException("Cannot merge incompatible bloom filter of class"
+          + other.getClass().getName());
+    }
+    int[] otherWords = ((SplitBlockBloomFilter) other).words;
+    if (words.length != otherWords.length) {
+      throw new IllegalStateException("Cannot merge bloom filters of different size");
+    }
+    for (int i = 0; i < words.length; i++) {
+      words[i] |= otherWords[i];
+    }
+    return this;
+  }
+
+  @Override
+  public boolean mightContain(long item) {
+    long hash = hash(item);
+    int offset = blockIndex(hash, numBlocks) * WORDS_PER_BLOCK;
+    int key = (int) hash;
+
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      if ((words[offset + i] & (1 << ((key * SALT[i]) >>> 27))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    DataOutputStream dos = new DataOutputStream(out);
+
+    dos.writeInt(Version.V2.getVersionNumber());
+    dos.writeInt(numBlocks);
+    for (int word : words) {
+      dos.writeInt(word);
+    }
+  }
+
+  /**
+   * Check membership directly on the serialized bloom filter without deserializing the words.
+   *
+   * @param bytes serialized bloom filter
+   * @param item  item to check
+   * @return false if the item is definitely not in the bloom filter, otherwise true
+   */
+  public static boolean mightContain(byte[] bytes, long item) {
+    int version = readInt(bytes, 0);
+    if (version != Version.V2.getVersionNumber()) {
+      throw new IllegalStateException("Unexpected Bloom filter version number (" + version + ")");
+    }
+    int numBlocks = readInt(bytes, 4);
+
+    long hash = hash(item);
+    int offset = SERIALIZED_HEADER_BYTES
+        + blockIndex(hash, numBlocks) * WORDS_PER_BLOCK * Integer.BYTES;
+    int key = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      int word = readInt(bytes, offset + i * Integer.BYTES);
+      if ((word & (1 << ((key * SALT[i]) >>> 27))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Deserialize and read bloom filter from an input stream.
+   *
+   * @param in input stream
+   * @return bloom filter
+   */
+  public static BloomFilter readFrom(InputStream in) {
+    try {
+      DataInputStream dis = new DataInputStream(in);
+
+      // Check version compatibility
+      int version = dis.readInt();
+      if (version != Version.V2.getVersionNumber()) {
+        throw new IllegalStateException("Unexpected Bloom filter version number (" + version + ")");
+      }
+
+      // Read bloom filter content
+      int numBlocks = dis.readInt();
+      int[] words = new int[numBlocks * WORDS_PER_BLOCK];
+      for (int i = 0; i < words.length; i++) {
+        words[i] = dis.readInt();
+      }
+      return new SplitBlockBloomFilter(words);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Mix the bits of the item, which may not be a well distributed hash value, by the finalizer of
+   * Murmur3 64-bit hash.
+   */
+  private static long hash(long item) {
+    long h = item;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * Map the upper 32 bits of the hash to a block by multiply-shift instead of modulo.
+   */
+  private static int blockIndex(long hash, int numBlocks) {
+    return (int) (((hash >>> 32) * numBlocks) >>> 32);
+  }
+
+  private static int readInt(byte[] bytes, int offset) {
+    return ((bytes[offset] & 0xFF) << 24)
+        | ((bytes[offset + 1] & 0xFF) << 16)
+        | ((bytes[offset + 2] & 0xFF) << 8)
+        | (bytes[offset + 3] & 0xFF);
+  }
+
+  private static int optimalNumOfBlocks(long n, double p) {
+    // Bits needed by split block bloom filter with 8 bits set per item for the given FPP
+    double numBits = -WORDS_PER_BLOCK * n / Math.log(1 - Math.pow(p, 1.0 / WORDS_PER_BLOCK));
+    long numBlocks = (long) Math.ceil(numBits / (WORDS_PER_BLOCK * Integer.SIZE));
+    if (numBlocks * WORDS_PER_BLOCK > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Can't allocate enough space for " + n + " items");
+    }
+    return (int) Math.max(1, numBlocks);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    }
+    if (!(other instanceof SplitBlockBloomFilter)) {
+      return false;
+    }
+    return Arrays.equals(words, ((SplitBlockBloomFilter) other).words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+}
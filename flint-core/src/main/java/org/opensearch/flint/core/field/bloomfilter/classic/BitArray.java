@@ -29,33 +29,51 @@ package org.opensearch.flint.core.field.bloomfilter.classic;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
 
 /**
- * Bit array.
+ * Bit array. Words are stored either in an on-heap long array or in off-heap memory, while the
+ * serialized format is the same regardless of the storage.
  */
-class BitArray {
-  private final long[] data;
-  private long bitCount;
+abstract class BitArray {
+  /**
+   * Number of set bits.
+   */
+  long bitCount;
 
-  BitArray(long numBits) {
-    this(new long[numWords(numBits)]);
+  /**
+   * Allocate an empty bit array.
+   *
+   * @param numBits number of bits
+   * @param offHeap allocate words in off-heap memory of current Spark task if available
+   * @return bit array
+   */
+  static BitArray allocate(long numBits, boolean offHeap) {
+    int numWords = numWords(numBits);
+    return offHeap ? OffHeapBitArray.allocate(numWords) : new OnHeapBitArray(new long[numWords]);
   }
 
-  BitArray(long[] data) {
-    this.data = data;
-    long bitCount = 0;
-    for (long word : data) {
-      bitCount += Long.bitCount(word);
-    }
-    this.bitCount = bitCount;
-  }
+  /**
+   * @return number of 64-bit words
+   */
+  abstract int numWords();
+
+  /**
+   * @param index word index
+   * @return word at the given index
+   */
+  abstract long word(int index);
+
+  /**
+   * @param index word index
+   * @param word  word to store at the given index
+   */
+  abstract void setWord(int index, long word);
 
   /**
    * @return array length in bits
    */
   long bitSize() {
-    return (long) data.length * Long.SIZE;
+    return (long) numWords() * Long.SIZE;
   }
 
   /**
@@ -63,7 +81,7 @@ class BitArray {
    * @return whether bits at the given index is set
    */
   boolean get(long index) {
-    return (data[(int) (index >>> 6)] & (1L << index)) != 0;
+    return (word((int) (index >>> 6)) & (1L << index)) != 0;
   }
 
   /**
@@ -73,8 +91,11 @@ class BitArray {
    * @return bit changed or not
    */
   boolean set(long index) {
-    if (!get(index)) {
-      data[(int) (index >>> 6)] |= (1L << index);
+    int i = (int) (index >>> 6);
+    long word = word(i);
+    long mask = 1L << index;
+    if ((word & mask) == 0) {
+      setWord(i, word | mask);
       bitCount++;
       return true;
     }
@@ -82,29 +103,69 @@ class BitArray {
   }
 
   /**
-   * Put another array in this bit array.
+   * Check bits at the given indexes, e.g. all probes of a single item.
+   *
+   * @param indexes bit indexes
+   * @param count   number of indexes to check from the beginning of the array
+   * @return true if all bits are set
+   */
+  boolean getAll(long[] indexes, int count) {
+    for (int i = 0; i < count; i++) {
+      if (!get(indexes[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Set bits at the given indexes, e.g. all probes of a single item.
+   *
+   * @param indexes bit indexes
+   * @param count   number of indexes to set from the beginning of the array
+   * @return true if any bit changed
+   */
+  boolean setAll(long[] indexes, int count) {
+    boolean bitsChanged = false;
+    for (int i = 0; i < count; i++) {
+      bitsChanged |= set(indexes[i]);
+    }
+    return bitsChanged;
+  }
+
+  /**
+   * Put another array in this bit array by OR-ing word by word.
    *
    * @param array other bit array
    */
   void putAll(BitArray array) {
-    assert data.length == array.data.length : "BitArrays must be of equal length when merging";
+    int numWords = numWords();
+    assert numWords == array.numWords() : "BitArrays must be of equal length when merging";
     long bitCount = 0;
-    for (int i = 0; i < data.length; i++) {
-      data[i] |= array.data[i];
-      bitCount += Long.bitCount(data[i]);
+    for (int i = 0; i < numWords; i++) {
+      long word = word(i) | array.word(i);
+      setWord(i, word);
+      bitCount += Long.bitCount(word);
     }
     this.bitCount = bitCount;
   }
 
+  /**
+   * Release memory of the words. The bit array must not be used afterwards.
+   */
+  void close() {
+  }
+
   /**
    * Serialize and write out this bit array to the given output stream.
    *
    * @param out output stream
    */
   void writeTo(DataOutputStream out) throws IOException {
-    out.writeInt(data.length);
-    for (long datum : data) {
-      out.writeLong(datum);
+    int numWords = numWords();
+    out.writeInt(numWords);
+    for (int i = 0; i < numWords; i++) {
+      out.writeLong(word(i));
     }
   }
 
@@ -115,12 +176,27 @@ class BitArray {
    * @return bit array
    */
   static BitArray readFrom(DataInputStream in) throws IOException {
+    return readFrom(in, false);
+  }
+
+  /**
+   * Deserialize and read bit array from the given input stream.
+   *
+   * @param in      input stream
+   * @param offHeap allocate words in off-heap memory
+   * @return bit array
+   */
+  static BitArray readFrom(DataInputStream in, boolean offHeap) throws IOException {
     int numWords = in.readInt();
-    long[] data = new long[numWords];
+    BitArray array = offHeap ? OffHeapBitArray.allocate(numWords) : new OnHeapBitArray(new long[numWords]);
+    long bitCount = 0;
     for (int i = 0; i < numWords; i++) {
-      data[i] = in.readLong();
+      long word = in.readLong();
+      array.setWord(i, word);
+      bitCount += Long.bitCount(word);
     }
-    return new BitArray(data);
+    array.bitCount = bitCount;
+    return array;
   }
 
   private static int numWords(long numBits) {
@@ -139,11 +215,21 @@ class BitArray {
     if (this == other) return true;
     if (!(other instanceof BitArray)) return false;
     BitArray that = (BitArray) other;
-    return Arrays.equals(data, that.data);
+    int numWords = numWords();
+    if (numWords != that.numWords()) return false;
+    for (int i = 0; i < numWords; i++) {
+      if (word(i) != that.word(i)) return false;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(data);
+    // Same as Arrays.hashCode(long[]) of the words
+    int result = 1;
+    for (int i = 0; i < numWords(); i++) {
+      result = 31 * result + Long.hashCode(word(i));
+    }
+    return result;
   }
 }
@@ -44,6 +44,11 @@ import org.opensearch.flint.core.field.bloomfilter.BloomFilter;
  */
 public class ClassicBloomFilter implements BloomFilter {
 
+  /**
+   * Size of version, number of hash functions and number of words before the words.
+   */
+  private static final int SERIALIZED_HEADER_BYTES = 3 * Integer.BYTES;
+
   /**
    * Bit array
    */
@@ -54,9 +59,24 @@ public class ClassicBloomFilter implements BloomFilter {
    */
   private final int numHashFunctions;
 
+  /**
+   * Scratch array per thread for bit indexes of the item being put or checked, so the filter can
+   * be read by multiple threads without allocation per item.
+   */
+  private static final ThreadLocal<long[]> PROBES = ThreadLocal.withInitial(() -> new long[16]);
+
   public ClassicBloomFilter(int expectedNumItems, double fpp) {
+    this(expectedNumItems, fpp, false);
+  }
+
+  /**
+   * @param expectedNumItems expected number of unique items
+   * @param fpp              false positive probability
+   * @param offHeap          allocate bit array in off-heap memory
+   */
+  public ClassicBloomFilter(int expectedNumItems, double fpp, boolean offHeap) {
     long numBits = optimalNumOfBits(expectedNumItems, fpp);
-    this.bits = new BitArray(numBits);
+    this.bits = BitArray.allocate(numBits, offHeap);
     this.numHashFunctions = optimalNumOfHashFunctions(expectedNumItems, numBits);
   }
 
@@ -72,20 +92,7 @@ public class ClassicBloomFilter implements BloomFilter {
 
   @Override
   public boolean put(long item) {
-    int h1 = Murmur3_x86_32.hashLong(item, 0);
-    int h2 = Murmur3_x86_32.hashLong(item, h1);
-
-    long bitSize = bits.bitSize();
-    boolean bitsChanged = false;
-    for (int i = 1; i <= numHashFunctions; i++) {
-      int combinedHash = h1 + (i * h2);
-      // Flip all the bits if it's negative (guaranteed positive number)
-      if (combinedHash < 0) {
-        combinedHash = ~combinedHash;
-      }
-      bitsChanged |= bits.set(combinedHash % bitSize);
-    }
-    return bitsChanged;
+    return bits.setAll(computeProbes(item), numHashFunctions);
   }
 
   @Override
@@ -100,6 +107,22 @@ public class ClassicBloomFilter implements BloomFilter {
 
   @Override
   public boolean mightContain(long item) {
+    return bits.getAll(computeProbes(item), numHashFunctions);
+  }
+
+  /**
+   * Compute bit indexes of all hash functions for the item into the scratch array of current
+   * thread.
+   *
+   * @return scratch array with the bit indexes at the beginning
+   */
+  private long[] computeProbes(long item) {
+    long[] probes = PROBES.get();
+    if (probes.length < numHashFunctions) {
+      probes = new long[numHashFunctions];
+      PROBES.set(probes);
+    }
+
     int h1 = Murmur3_x86_32.hashLong(item, 0);
     int h2 = Murmur3_x86_32.hashLong(item, h1);
 
@@ -110,11 +133,14 @@ public class ClassicBloomFilter implements BloomFilter {
       if (combinedHash < 0) {
         combinedHash = ~combinedHash;
       }
-      if (!bits.get(combinedHash % bitSize)) {
-        return false;
-      }
+      probes[i - 1] = combinedHash % bitSize;
     }
-    return true;
+    return probes;
+  }
+
+  @Override
+  public void close() {
+    bits.close();
   }
 
   @Override
@@ -126,6 +152,39 @@ public class ClassicBloomFilter implements BloomFilter {
     bits.writeTo(dos);
   }
 
+  /**
+   * Check membership directly on the serialized bloom filter without deserializing the bit
+   * array. Bit i of word w is stored in byte (7 - (i % 64) / 8) of the big-endian long w.
+   *
+   * @param bytes serialized bloom filter
+   * @param item  item to check
+   * @return false if the item is definitely not in the bloom filter, otherwise true
+   */
+  public static boolean mightContain(byte[] bytes, long item) {
+    int version = readInt(bytes, 0);
+    if (version != Version.V1.getVersionNumber()) {
+      throw new IllegalStateException("Unexpected Bloom filter version number (" + version + ")");
+    }
+    int numHashFunctions = readInt(bytes, 4);
+    long bitSize = (long) readInt(bytes, 8) * Long.SIZE;
+
+    int h1 = Murmur3_x86_32.hashLong(item, 0);
+    int h2 = Murmur3_x86_32.hashLong(item, h1);
+    for (int i = 1; i <= numHashFunctions; i++) {
+      int combinedHash = h1 + (i * h2);
+      // Flip all the bits if it's negative (guaranteed positive number)
+      if (combinedHash < 0) {
+        combinedHash = ~combinedHash;
+      }
+      long index = combinedHash % bitSize;
+      int offset = SERIALIZED_HEADER_BYTES + (int) (index >>> 6) * Long.BYTES + 7 - (int) ((index & 63) >>> 3);
+      if ((bytes[offset] & (1 << (index & 7))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Deserialize and read bloom filter from an input stream.
    *
@@ -133,6 +192,17 @@ public class ClassicBloomFilter implements BloomFilter {
    * @return bloom filter
    */
   public static BloomFilter readFrom(InputStream in) {
+    return readFrom(in, false);
+  }
+
+  /**
+   * Deserialize and read bloom filter from an input stream.
+   *
+   * @param in      input stream
+   * @param offHeap allocate bit array in off-heap memory
+   * @return bloom filter
+   */
+  public static BloomFilter readFrom(InputStream in, boolean offHeap) {
     try {
       DataInputStream dis = new DataInputStream(in);
 
@@ -144,13 +214,20 @@ public class ClassicBloomFilter implements BloomFilter {
 
       // Read bloom filter content
       int numHashFunctions = dis.readInt();
-      BitArray bits = BitArray.readFrom(dis);
+      BitArray bits = BitArray.readFrom(dis, offHeap);
       return new ClassicBloomFilter(bits, numHashFunctions);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private static int readInt(byte[] bytes, int offset) {
+    return ((bytes[offset] & 0xFF) << 24)
+        | ((bytes[offset + 1] & 0xFF) << 16)
+        | ((bytes[offset + 2] & 0xFF) << 8)
+        | (bytes[offset + 3] & 0xFF);
+  }
+
   private static int optimalNumOfHashFunctions(long n, long m) {
     // (m / n) * log(2), but avoid truncation due to division!
     return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
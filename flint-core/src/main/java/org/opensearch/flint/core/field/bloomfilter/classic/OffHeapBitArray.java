@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.field.bloomfilter.classic;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import org.apache.spark.TaskContext;
+import org.apache.spark.memory.MemoryConsumer;
+import org.apache.spark.memory.MemoryMode;
+import org.apache.spark.memory.SparkOutOfMemoryError;
+import org.apache.spark.memory.TaskMemoryManager;
+import org.apache.spark.unsafe.Platform;
+import org.apache.spark.unsafe.memory.MemoryBlock;
+
+/**
+ * Bit array with words stored in a page of Spark off-heap execution memory. The page is acquired
+ * from the task memory manager, so it is accounted within spark.memory.offHeap.size together
+ * with other operators of the task. It is freed by {@link #close()} once the bloom filter is
+ * serialized or merged, or by the task memory manager when the task completes.
+ * <p>
+ * Bit array can't be spilled, so the task fails with {@link SparkOutOfMemoryError} if off-heap
+ * execution memory is exhausted. Outside of Spark task or if Spark off-heap memory is disabled,
+ * bit array is allocated on heap instead.
+ */
+class OffHeapBitArray extends BitArray {
+
+  private static final Logger LOG = Logger.getLogger(OffHeapBitArray.class.getName());
+
+  private static final AtomicBoolean OFF_HEAP_DISABLED_LOGGED = new AtomicBoolean();
+
+  private final BitArrayMemoryConsumer consumer;
+
+  private final int numWords;
+
+  private MemoryBlock page;
+
+  private OffHeapBitArray(BitArrayMemoryConsumer consumer, MemoryBlock page, int numWords) {
+    this.consumer = consumer;
+    this.page = page;
+    this.numWords = numWords;
+    Platform.setMemory(page.getBaseObject(), page.getBaseOffset(), page.size(), (byte) 0);
+  }
+
+  /**
+   * Allocate an empty bit array in off-heap memory of current Spark task.
+   *
+   * @param numWords number of 64-bit words
+   * @return bit array, on heap if not in Spark task or Spark off-heap memory is disabled
+   */
+  static BitArray allocate(int numWords) {
+    TaskContext context = TaskContext.get();
+    if (context == null) {
+      return new OnHeapBitArray(new long[numWords]);
+    }
+    return allocate(numWords, context.taskMemoryManager());
+  }
+
+  /**
+   * Allocate an empty bit array in off-heap memory of the given task memory manager.
+   *
+   * @param numWords      number of 64-bit words
+   * @param memoryManager task memory manager
+   * @return bit array, on heap if Spark off-heap memory is disabled
+   */
+  static BitArray allocate(int numWords, TaskMemoryManager memoryManager) {
+    if (memoryManager.getTungstenMemoryMode() != MemoryMode.OFF_HEAP) {
+      if (OFF_HEAP_DISABLED_LOGGED.compareAndSet(false, true)) {
+        LOG.warning("Bloom filter bit arrays are allocated on heap because "
+            + "spark.memory.offHeap.enabled is false");
+      }
+      return new OnHeapBitArray(new long[numWords]);
+    }
+    BitArrayMemoryConsumer consumer = new BitArrayMemoryConsumer(memoryManager);
+    MemoryBlock page = consumer.allocate(Math.multiplyExact((long) numWords, Long.BYTES));
+    return new OffHeapBitArray(consumer, page, numWords);
+  }
+
+  @Override
+  int numWords() {
+    return numWords;
+  }
+
+  @Override
+  long word(int index) {
+    return Platform.getLong(page.getBaseObject(), page.getBaseOffset() + ((long) index << 3));
+  }
+
+  @Override
+  void setWord(int index, long word) {
+    Platform.putLong(page.getBaseObject(), page.getBaseOffset() + ((long) index << 3), word);
+  }
+
+  /**
+   * Free the page back to the task memory manager. The bit array must not be used afterwards.
+   */
+  @Override
+  void close() {
+    if (page != null) {
+      consumer.free(page);
+      page = null;
+    }
+  }
+
+  /**
+   * Memory consumer of a single bit array, which allocates exactly the bytes of the bit array
+   * instead of a whole page of default page size.
+   */
+  private static final class BitArrayMemoryConsumer extends MemoryConsumer {
+
+    private final TaskMemoryManager memoryManager;
+
+    BitArrayMemoryConsumer(TaskMemoryManager memoryManager) {
+      super(memoryManager, memoryManager.pageSizeBytes(), MemoryMode.OFF_HEAP);
+      this.memoryManager = memoryManager;
+    }
+
+    MemoryBlock allocate(long numBytes) {
+      MemoryBlock page = memoryManager.allocatePage(numBytes, this);
+      if (page == null) {
+        memoryManager.showMemoryUsage();
+        throw new SparkOutOfMemoryError(
+            "Unable to acquire " + numBytes + " bytes of off-heap memory for bloom filter");
+      }
+      return page;
+    }
+
+    void free(MemoryBlock page) {
+      memoryManager.freePage(page, this);
+    }
+
+    @Override
+    public long spill(long size, MemoryConsumer trigger) {
+      // Bloom filter bits are needed until the aggregation buffer is serialized
+      return 0L;
+    }
+  }
+}
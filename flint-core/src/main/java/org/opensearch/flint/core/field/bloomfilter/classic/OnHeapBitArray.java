@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.field.bloomfilter.classic;
+
+/**
+ * Bit array with words stored in an on-heap long array.
+ */
+class OnHeapBitArray extends BitArray {
+  private final long[] data;
+
+  OnHeapBitArray(long[] data) {
+    this.data = data;
+  }
+
+  @Override
+  int numWords() {
+    return data.length;
+  }
+
+  @Override
+  long word(int index) {
+    return data[index];
+  }
+
+  @Override
+  void setWord(int index, long word) {
+    data[index] = word;
+  }
+
+  @Override
+  void putAll(BitArray array) {
+    if (!(array instanceof OnHeapBitArray)) {
+      super.putAll(array);
+      return;
+    }
+    // Plain loop over both arrays which JIT can vectorize
+    long[] other = ((OnHeapBitArray) array).data;
+    assert data.length == other.length : "BitArrays must be of equal length when merging";
+    for (int i = 0; i < data.length; i++) {
+      data[i] |= other[i];
+    }
+    long bitCount = 0;
+    for (long word : data) {
+      bitCount += Long.bitCount(word);
+    }
+    this.bitCount = bitCount;
+  }
+}
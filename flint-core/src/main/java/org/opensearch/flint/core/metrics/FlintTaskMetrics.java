@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read and write counters of a single Spark task, reported to Spark as custom task metrics.
+ * Counters are thread safe because bulk requests and search pages may be executed in background
+ * threads while the task thread reports the current values.
+ * <p>
+ * Readers and writers own their metrics and record into them directly. Components shared by all
+ * tasks in the executor, such as bulk retry wrapper and rate limiter, record into the metrics
+ * activated on the current thread by {@link #activate()}.
+ */
+public class FlintTaskMetrics {
+
+    private static final ThreadLocal<FlintTaskMetrics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong hitBytes = new AtomicLong();
+    private final AtomicLong parseTimeNanos = new AtomicLong();
+    private final AtomicLong bulkRequests = new AtomicLong();
+    private final AtomicLong bulkBytes = new AtomicLong();
+    private final AtomicLong retriedItems = new AtomicLong();
+    private final AtomicLong throttleWaitNanos = new AtomicLong();
+
+    /**
+     * Metrics activated on the current thread.
+     *
+     * @return the metrics, or null if no metrics is activated
+     */
+    public static FlintTaskMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Activate the metrics on the current thread until the returned scope is closed.
+     *
+     * @return scope which restores the previously activated metrics on close
+     */
+    public Scope activate() {
+        FlintTaskMetrics previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Record a search response page fetched.
+     */
+    public void addPageFetched() {
+        pagesFetched.incrementAndGet();
+    }
+
+    /**
+     * Record source bytes of hits read.
+     */
+    public void addHitBytes(long bytes) {
+        hitBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Record time spent on parsing hits into rows.
+     */
+    public void addParseTimeNanos(long nanos) {
+        parseTimeNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Record a bulk request sent with the given payload size.
+     */
+    public void addBulkRequest(long bytes) {
+        bulkRequests.incrementAndGet();
+        bulkBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Record bulk items resent because of retryable failure.
+     */
+    public void addRetriedItems(long items) {
+        retriedItems.addAndGet(items);
+    }
+
+    /**
+     * Record time spent on waiting for bulk request rate limiter.
+     */
+    public void addThrottleWaitNanos(long nanos) {
+        throttleWaitNanos.addAndGet(nanos);
+    }
+
+    public long getPagesFetched() {
+        return pagesFetched.get();
+    }
+
+    public long getHitBytes() {
+        return hitBytes.get();
+    }
+
+    public long getParseTimeNanos() {
+        return parseTimeNanos.get();
+    }
+
+    public long getBulkRequests() {
+        return bulkRequests.get();
+    }
+
+    public long getBulkBytes() {
+        return bulkBytes.get();
+    }
+
+    public long getRetriedItems() {
+        return retriedItems.get();
+    }
+
+    public long getThrottleWaitNanos() {
+        return throttleWaitNanos.get();
+    }
+
+    /**
+     * Scope of activated metrics which doesn't throw on close.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
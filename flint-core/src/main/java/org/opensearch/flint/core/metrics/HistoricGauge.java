@@ -8,17 +8,42 @@ package org.opensearch.flint.core.metrics;
 import com.codahale.metrics.Gauge;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
 /**
  * Gauge which stores historic data points with timestamps.
  * This is used for emitting separate data points per request, instead of single aggregated metrics.
+ * <p>
+ * Data points are buffered in a bounded lock-free ring buffer, so adding a data point on hot path
+ * neither blocks nor allocates. Once the buffer is full, data points are either dropped or folded
+ * into an aggregate of count, sum, min and max depending on {@link OverflowPolicy}. If
+ * pre-aggregation is enabled, all data points are folded into the aggregate without buffering.
+ * The aggregate and the number of dropped data points are polled by reporter once per reporting
+ * interval.
  */
 public class HistoricGauge implements Gauge<Long> {
+
+  /**
+   * Default number of data points buffered between two polls.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /**
+   * What to do with new data point when the buffer is full.
+   */
+  public enum OverflowPolicy {
+    /** Drop the data point. */
+    DROP,
+    /** Fold the data point into the aggregate. */
+    AGGREGATE
+  }
+
   @AllArgsConstructor
   @Value
   public static class DataPoint {
@@ -26,16 +51,86 @@ public class HistoricGauge implements Gauge<Long> {
     long timestamp;
   }
 
-  private final List<DataPoint> dataPoints = Collections.synchronizedList(new LinkedList<>());
+  /**
+   * Statistics of data points aggregated in a reporting interval.
+   */
+  @AllArgsConstructor
+  @Value
+  public static class Aggregate {
+    long count;
+    long sum;
+    long min;
+    long max;
+  }
+
+  private final OverflowPolicy overflowPolicy;
+
+  private final boolean preAggregate;
+
+  private final int mask;
+
+  private final long[] values;
+
+  private final long[] timestamps;
+
+  /**
+   * Sequence of each slot. A slot is writable at position p if its sequence is p, and readable if
+   * its sequence is p + 1.
+   */
+  private final AtomicLongArray sequences;
+
+  /** Next position to write. */
+  private final AtomicLong tail = new AtomicLong();
+
+  /** Next position to read. */
+  private final AtomicLong head = new AtomicLong();
+
+  private final LongAdder aggregateCount = new LongAdder();
+  private final LongAdder aggregateSum = new LongAdder();
+  private final LongAccumulator aggregateMin = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator aggregateMax = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  private final LongAdder dropped = new LongAdder();
+
+  public HistoricGauge() {
+    this(DEFAULT_CAPACITY, OverflowPolicy.AGGREGATE, false);
+  }
+
+  /**
+   * @param capacity       max number of data points buffered, rounded up to power of two
+   * @param overflowPolicy what to do with new data point when the buffer is full
+   * @param preAggregate   aggregate all data points instead of buffering them
+   */
+  public HistoricGauge(int capacity, OverflowPolicy overflowPolicy, boolean preAggregate) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Invalid historic gauge capacity: " + capacity);
+    }
+    int size = preAggregate ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    size = Math.max(size, 1);
+    this.overflowPolicy = overflowPolicy;
+    this.preAggregate = preAggregate;
+    this.mask = size - 1;
+    this.values = new long[size];
+    this.timestamps = new long[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
 
   /**
-   * This method will just return first value.
+   * This method will just return first value. If no data point is buffered, the max of aggregated
+   * data points is returned instead.
    * @return first value
    */
   @Override
   public Long getValue() {
-    if (!dataPoints.isEmpty()) {
-      return dataPoints.get(0).value;
+    long position = head.get();
+    int index = (int) (position & mask);
+    if (!preAggregate && sequences.get(index) == position + 1) {
+      return values[index];
+    } else if (aggregateCount.sum() > 0) {
+      return aggregateMax.get();
     } else {
       return null;
     }
@@ -46,24 +141,104 @@ public class HistoricGauge implements Gauge<Long> {
    * @param value metric value
    */
   public void addDataPoint(Long value) {
-    dataPoints.add(new DataPoint(value, System.currentTimeMillis()));
+    if (preAggregate || !offer(value, System.currentTimeMillis())) {
+      if (preAggregate || overflowPolicy == OverflowPolicy.AGGREGATE) {
+        aggregate(value);
+      } else {
+        dropped.increment();
+      }
+    }
   }
 
   /**
-   * Return copy of dataPoints and remove them from internal list
+   * Return buffered data points and remove them from the buffer
    * @return copy of the data points
    */
   public List<DataPoint> pollDataPoints() {
-    int size = dataPoints.size();
-    List<DataPoint> result = new ArrayList<>(dataPoints.subList(0, size));
-    if (size > 0) {
-      dataPoints.subList(0, size).clear();
+    List<DataPoint> result = new ArrayList<>();
+    long position = head.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long sequence = sequences.get(index);
+      if (sequence < position + 1) {
+        return result;
+      } else if (sequence > position + 1) {
+        position = head.get();
+      } else if (head.compareAndSet(position, position + 1)) {
+        result.add(new DataPoint(values[index], timestamps[index]));
+        // release the slot to the writer one lap ahead
+        sequences.lazySet(index, position + mask + 1);
+        position++;
+      } else {
+        position = head.get();
+      }
     }
-    return result;
+  }
+
+  /**
+   * Return the data points aggregated since last poll and reset the aggregate. A data point added
+   * concurrently may be counted in either this or the next poll.
+   * @return aggregate, or null if no data point aggregated
+   */
+  public Aggregate pollAggregate() {
+    long count = aggregateCount.sumThenReset();
+    if (count == 0) {
+      return null;
+    }
+    return new Aggregate(
+        count,
+        aggregateSum.sumThenReset(),
+        aggregateMin.getThenReset(),
+        aggregateMax.getThenReset());
+  }
+
+  /**
+   * Return the number of data points dropped because the buffer was full since last poll, and
+   * reset it.
+   * @return number of dropped data points
+   */
+  public long pollDroppedCount() {
+    return dropped.sumThenReset();
   }
 
   @VisibleForTesting
   public List<DataPoint> getDataPoints() {
-    return dataPoints;
+    List<DataPoint> result = new ArrayList<>();
+    for (long position = head.get(); ; position++) {
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        return result;
+      }
+      result.add(new DataPoint(values[index], timestamps[index]));
+    }
+  }
+
+  private boolean offer(long value, long timestamp) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long sequence = sequences.get(index);
+      if (sequence < position) {
+        // slot of the previous lap is not read yet, buffer is full
+        return false;
+      } else if (sequence > position) {
+        position = tail.get();
+      } else if (tail.compareAndSet(position, position + 1)) {
+        values[index] = value;
+        timestamps[index] = timestamp;
+        // publish the slot to the reader
+        sequences.lazySet(index, position + 1);
+        return true;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  private void aggregate(long value) {
+    aggregateSum.add(value);
+    aggregateMin.accumulate(value);
+    aggregateMax.accumulate(value);
+    aggregateCount.increment();
   }
 }
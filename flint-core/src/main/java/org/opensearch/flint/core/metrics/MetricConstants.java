@@ -40,6 +40,22 @@ public final class MetricConstants {
     public static final String OPENSEARCH_BULK_RETRY_COUNT_METRIC = "opensearch.bulk.retry.count";
     public static final String OPENSEARCH_BULK_ALL_RETRY_FAILED_COUNT_METRIC = "opensearch.bulk.allRetryFailed.count";
 
+    /**
+     * Metric names for bulk request rate limit and batch size chosen by adaptive bulk
+     */
+    public static final String OPENSEARCH_BULK_ADAPTIVE_RATE_METRIC = "opensearch.bulk.adaptive.rate";
+    public static final String OPENSEARCH_BULK_ADAPTIVE_BATCH_BYTES_METRIC = "opensearch.bulk.adaptive.batchBytes";
+
+    /**
+     * Metric name for number of shared clients in OpenSearch client pool
+     */
+    public static final String OPENSEARCH_CLIENT_POOL_SIZE_METRIC = "opensearch.client.pool.size";
+
+    /**
+     * Metric name for requests in flight of a pooled OpenSearch client, as percentage of max connections per route
+     */
+    public static final String OPENSEARCH_CLIENT_POOL_SATURATION_METRIC = "opensearch.client.pool.saturation";
+
     /**
      * Metric name for counting the errors encountered with Amazon S3 operations.
      */
@@ -175,6 +191,16 @@ public final class MetricConstants {
      */
     public static final String INITIAL_CONDITION_CHECK_FAILED_PREFIX = "initialConditionCheck.failed.";
 
+    /**
+     * Metric for tracking skipping index selected file cache hits
+     */
+    public static final String SKIPPING_INDEX_CACHE_HIT_METRIC = "skippingIndex.cache.hit.count";
+
+    /**
+     * Metric for tracking skipping index selected file cache misses
+     */
+    public static final String SKIPPING_INDEX_CACHE_MISS_METRIC = "skippingIndex.cache.miss.count";
+
     private MetricConstants() {
         // Private constructor to prevent instantiation
     }
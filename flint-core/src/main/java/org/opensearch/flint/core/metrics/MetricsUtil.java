@@ -9,7 +9,9 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import java.util.Locale;
 import java.util.function.Supplier;
+import org.apache.spark.SparkConf;
 import org.apache.spark.SparkEnv;
 import org.apache.spark.metrics.source.FlintMetricSource;
 import org.apache.spark.metrics.source.FlintIndexMetricSource;
@@ -26,6 +28,21 @@ public final class MetricsUtil {
 
     private static final Logger LOG = Logger.getLogger(MetricsUtil.class.getName());
 
+    /**
+     * Spark conf of max number of data points buffered in each HistoricGauge between two reports.
+     */
+    public static final String HISTORIC_GAUGE_CAPACITY_KEY = "spark.flint.metrics.historicGauge.capacity";
+
+    /**
+     * Spark conf of what to do with data points once HistoricGauge buffer is full, drop or aggregate.
+     */
+    public static final String HISTORIC_GAUGE_OVERFLOW_POLICY_KEY = "spark.flint.metrics.historicGauge.overflowPolicy";
+
+    /**
+     * Spark conf of whether HistoricGauge aggregates data points per report instead of buffering them.
+     */
+    public static final String HISTORIC_GAUGE_PRE_AGGREGATE_KEY = "spark.flint.metrics.historicGauge.preAggregate.enabled";
+
     private MetricsUtil() {
         // Private constructor to prevent instantiation
     }
@@ -151,7 +168,29 @@ public final class MetricsUtil {
 
     private static HistoricGauge getOrCreateHistoricGauge(String metricName) {
         MetricRegistry metricRegistry = getMetricRegistry(false);
-        return metricRegistry != null ? metricRegistry.gauge(metricName, HistoricGauge::new) : null;
+        return metricRegistry != null ? metricRegistry.gauge(metricName, MetricsUtil::newHistoricGauge) : null;
+    }
+
+    /**
+     * Create a HistoricGauge configured by {@link #HISTORIC_GAUGE_CAPACITY_KEY},
+     * {@link #HISTORIC_GAUGE_OVERFLOW_POLICY_KEY} and {@link #HISTORIC_GAUGE_PRE_AGGREGATE_KEY} in Spark conf.
+     */
+    private static HistoricGauge newHistoricGauge() {
+        SparkConf conf = SparkEnv.get() != null ? SparkEnv.get().conf() : null;
+        String capacity = conf != null ? conf.get(HISTORIC_GAUGE_CAPACITY_KEY, null) : null;
+        String overflowPolicy = conf != null ? conf.get(HISTORIC_GAUGE_OVERFLOW_POLICY_KEY, null) : null;
+        String preAggregate = conf != null ? conf.get(HISTORIC_GAUGE_PRE_AGGREGATE_KEY, null) : null;
+        try {
+            return new HistoricGauge(
+                capacity != null ? Integer.parseInt(capacity) : HistoricGauge.DEFAULT_CAPACITY,
+                overflowPolicy != null
+                    ? HistoricGauge.OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT))
+                    : HistoricGauge.OverflowPolicy.AGGREGATE,
+                Boolean.parseBoolean(preAggregate));
+        } catch (IllegalArgumentException e) {
+            LOG.warning("Invalid historic gauge configuration, defaulting to buffered gauge: " + e.getMessage());
+            return new HistoricGauge();
+        }
     }
 
     /**
@@ -232,11 +232,30 @@ public class DimensionedCloudWatchReporter extends ScheduledReporter {
         }
     }
 
+    /**
+     * Buffered data points of {@link HistoricGauge} are reported one by one. Data points aggregated because of
+     * buffer overflow or pre-aggregation are reported as a single {@link StatisticSet} of the reporting interval.
+     */
     private void processHistoricGauge(final String metricName, final HistoricGauge gauge, final List<MetricDatum> metricData) {
         for (HistoricGauge.DataPoint dataPoint: gauge.pollDataPoints()) {
             stageMetricDatum(true, metricName, dataPoint.getValue().doubleValue(), StandardUnit.None, DIMENSION_GAUGE, metricData,
                 dataPoint.getTimestamp());
         }
+
+        final HistoricGauge.Aggregate aggregate = gauge.pollAggregate();
+        if (aggregate != null) {
+            final StatisticSet statisticSet = new StatisticSet()
+                    .withSum((double) aggregate.getSum())
+                    .withSampleCount((double) aggregate.getCount())
+                    .withMinimum((double) aggregate.getMin())
+                    .withMaximum((double) aggregate.getMax());
+            stageMetricDatumWithStatisticSet(metricName, statisticSet, StandardUnit.None, DIMENSION_GAUGE, metricData);
+        }
+
+        final long dropped = gauge.pollDroppedCount();
+        if (dropped > 0) {
+            stageMetricDatum(true, metricName + ".dropped", dropped, StandardUnit.Count, DIMENSION_COUNT, metricData);
+        }
     }
 
     private void processCounter(final String metricName, final Counting counter, final List<MetricDatum> metricData) {
@@ -386,6 +405,32 @@ public class DimensionedCloudWatchReporter extends ScheduledReporter {
         }
     }
 
+    /**
+     * Stage a {@link StatisticSet} with the same metric name and dimensions as {@link #stageMetricDatum}, so that
+     * it is aggregated into the same CloudWatch metric as single values.
+     */
+    private void stageMetricDatumWithStatisticSet(final String metricName,
+                                                  final StatisticSet statisticSet,
+                                                  final StandardUnit standardUnit,
+                                                  final String dimensionValue,
+                                                  final List<MetricDatum> metricData) {
+        final DimensionedName dimensionedName = DimensionedName.decode(metricName);
+        final Set<Dimension> dimensions = new LinkedHashSet<>(builder.globalDimensions);
+        if (shouldAppendDropwizardTypeDimension) {
+            dimensions.add(new Dimension().withName(DIMENSION_NAME_TYPE).withValue(dimensionValue));
+        }
+
+        MetricInfo metricInfo = getMetricInfo(dimensionedName, dimensions);
+        for (Set<Dimension> dimensionSet : metricInfo.getDimensionSets()) {
+            metricData.add(new MetricDatum()
+                    .withTimestamp(new Date(builder.clock.getTime()))
+                    .withStatisticValues(statisticSet)
+                    .withMetricName(metricInfo.getMetricName())
+                    .withDimensions(dimensionSet)
+                    .withUnit(standardUnit));
+        }
+    }
+
     /**
      * Constructs a {@link MetricInfo} object based on the provided {@link DimensionedName} and a set of additional dimensions.
      * This method processes the metric name contained within {@code dimensionedName} to potentially modify it based on naming conventions
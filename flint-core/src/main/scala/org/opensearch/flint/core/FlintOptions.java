@@ -6,6 +6,7 @@
 package org.opensearch.flint.core;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -73,6 +74,24 @@ public class FlintOptions implements Serializable {
    */
   public static final int DEFAULT_SCROLL_DURATION = 5;
 
+  /**
+   * The number of search_after pages fetched ahead of the consumer. 0 disables prefetch.
+   */
+  public static final String READ_PREFETCH_PAGES = "read.prefetch_pages";
+  public static final String DEFAULT_READ_PREFETCH_PAGES = "0";
+
+  /**
+   * Parse buffered search response body as a stream of hits instead of SearchResponse.
+   */
+  public static final String READ_STREAMING_ENABLED = "read.streaming.enabled";
+  public static final String DEFAULT_READ_STREAMING_ENABLED = "false";
+
+  /**
+   * Target size in bytes of a sliced point-in-time split. 0 disables sub-shard slicing.
+   */
+  public static final String READ_SPLIT_SIZE = "read.split_size";
+  public static final String DEFAULT_READ_SPLIT_SIZE = "0";
+
   public static final String REFRESH_POLICY = "write.refresh_policy";
   /**
    * NONE("false")
@@ -95,6 +114,14 @@ public class FlintOptions implements Serializable {
 
   public static final String DEFAULT_BATCH_BYTES = "1mb";
 
+  /**
+   * The maximum number of bulk requests flushed in background per writer. 0 means flush is
+   * synchronous.
+   */
+  public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "write.max_in_flight_bulk_requests";
+
+  public static final String DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS = "0";
+
   public static final String CUSTOM_FLINT_METADATA_LOG_SERVICE_CLASS = "customFlintMetadataLogServiceClass";
 
   public static final String CUSTOM_FLINT_INDEX_METADATA_SERVICE_CLASS = "customFlintIndexMetadataServiceClass";
@@ -109,8 +136,40 @@ public class FlintOptions implements Serializable {
 
   public static final String BULK_REQUEST_RATE_LIMIT_PER_NODE = "bulkRequestRateLimitPerNode";
   public static final String DEFAULT_BULK_REQUEST_RATE_LIMIT_PER_NODE = "0";
+
+  /**
+   * Adaptive bulk adjusts batch bytes and bulk request rate limit per node based on bulk response
+   * latency and rejections.
+   */
+  public static final String BULK_ADAPTIVE_ENABLED = "write.bulk.adaptive.enabled";
+  public static final String DEFAULT_BULK_ADAPTIVE_ENABLED = "false";
+  public static final String BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE = "write.bulk.adaptive.min_rate_limit_per_node";
+  public static final String DEFAULT_BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE = "1";
+  public static final String BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE = "write.bulk.adaptive.max_rate_limit_per_node";
+  public static final String DEFAULT_BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE = "100";
+  public static final String BULK_ADAPTIVE_MAX_BATCH_BYTES = "write.bulk.adaptive.max_batch_bytes";
+  public static final String DEFAULT_BULK_ADAPTIVE_MAX_BATCH_BYTES = "10mb";
+  public static final String BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS = "write.bulk.adaptive.latency_threshold_millis";
+  public static final String DEFAULT_BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS = "5000";
   public static final String DEFAULT_EXTERNAL_SCHEDULER_INTERVAL = "5 minutes";
 
+  /**
+   * Client pool shares one OpenSearch client per distinct options in the JVM. Idle client is
+   * closed after keep alive time.
+   */
+  public static final String CLIENT_POOL_ENABLED = "client.pool.enabled";
+  public static final String DEFAULT_CLIENT_POOL_ENABLED = "false";
+  public static final String CLIENT_POOL_KEEP_ALIVE_MILLIS = "client.pool.keep_alive_millis";
+  public static final String DEFAULT_CLIENT_POOL_KEEP_ALIVE_MILLIS = "60000";
+
+  /**
+   * HTTP connection pool size of OpenSearch client. Defaults are the same as OpenSearch RestClient.
+   */
+  public static final String MAX_CONNECTIONS = "client.max_connections";
+  public static final String DEFAULT_MAX_CONNECTIONS = "30";
+  public static final String MAX_CONNECTIONS_PER_ROUTE = "client.max_connections_per_route";
+  public static final String DEFAULT_MAX_CONNECTIONS_PER_ROUTE = "10";
+
   public FlintOptions(Map<String, String> options) {
     this.options = options;
     this.retryOptions = new FlintRetryOptions(options);
@@ -136,6 +195,20 @@ public class FlintOptions implements Serializable {
     return Integer.parseInt(options.getOrDefault(SCROLL_DURATION, String.valueOf(DEFAULT_SCROLL_DURATION)));
   }
 
+  public int getReadPrefetchPages() {
+    return Integer.parseInt(options.getOrDefault(READ_PREFETCH_PAGES, DEFAULT_READ_PREFETCH_PAGES));
+  }
+
+  public boolean isReadStreamingEnabled() {
+    return Boolean.parseBoolean(
+        options.getOrDefault(READ_STREAMING_ENABLED, DEFAULT_READ_STREAMING_ENABLED));
+  }
+
+  public long getReadSplitSizeBytes() {
+    return org.apache.spark.network.util.JavaUtils
+        .byteStringAs(options.getOrDefault(READ_SPLIT_SIZE, DEFAULT_READ_SPLIT_SIZE), ByteUnit.BYTE);
+  }
+
   public String getRefreshPolicy() {return options.getOrDefault(REFRESH_POLICY, DEFAULT_REFRESH_POLICY);}
 
   public FlintRetryOptions getRetryOptions() {
@@ -203,6 +276,10 @@ public class FlintOptions implements Serializable {
         .byteStringAs(options.getOrDefault(BATCH_BYTES, DEFAULT_BATCH_BYTES), ByteUnit.BYTE);
   }
 
+  public int getMaxInFlightBulkRequests() {
+    return Integer.parseInt(options.getOrDefault(MAX_IN_FLIGHT_BULK_REQUESTS, DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS));
+  }
+
   public String getCustomFlintMetadataLogServiceClass() {
     return options.getOrDefault(CUSTOM_FLINT_METADATA_LOG_SERVICE_CLASS, "");
   }
@@ -227,6 +304,50 @@ public class FlintOptions implements Serializable {
     return Long.parseLong(options.getOrDefault(BULK_REQUEST_RATE_LIMIT_PER_NODE, DEFAULT_BULK_REQUEST_RATE_LIMIT_PER_NODE));
   }
 
+  public boolean isBulkAdaptiveEnabled() {
+    return Boolean.parseBoolean(options.getOrDefault(BULK_ADAPTIVE_ENABLED, DEFAULT_BULK_ADAPTIVE_ENABLED));
+  }
+
+  public long getBulkAdaptiveMinRateLimitPerNode() {
+    return Long.parseLong(options.getOrDefault(BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE, DEFAULT_BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE));
+  }
+
+  public long getBulkAdaptiveMaxRateLimitPerNode() {
+    return Long.parseLong(options.getOrDefault(BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE, DEFAULT_BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE));
+  }
+
+  public long getBulkAdaptiveMaxBatchBytes() {
+    return org.apache.spark.network.util.JavaUtils
+        .byteStringAs(options.getOrDefault(BULK_ADAPTIVE_MAX_BATCH_BYTES, DEFAULT_BULK_ADAPTIVE_MAX_BATCH_BYTES), ByteUnit.BYTE);
+  }
+
+  public long getBulkAdaptiveLatencyThresholdMillis() {
+    return Long.parseLong(options.getOrDefault(BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS, DEFAULT_BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS));
+  }
+
+  public boolean isClientPoolEnabled() {
+    return Boolean.parseBoolean(options.getOrDefault(CLIENT_POOL_ENABLED, DEFAULT_CLIENT_POOL_ENABLED));
+  }
+
+  public long getClientPoolKeepAliveMillis() {
+    return Long.parseLong(options.getOrDefault(CLIENT_POOL_KEEP_ALIVE_MILLIS, DEFAULT_CLIENT_POOL_KEEP_ALIVE_MILLIS));
+  }
+
+  public int getMaxConnections() {
+    return Integer.parseInt(options.getOrDefault(MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS));
+  }
+
+  public int getMaxConnectionsPerRoute() {
+    return Integer.parseInt(options.getOrDefault(MAX_CONNECTIONS_PER_ROUTE, DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+  }
+
+  /**
+   * @return all options as an unmodifiable map
+   */
+  public Map<String, String> asMap() {
+    return Collections.unmodifiableMap(options);
+  }
+
   public String getCustomAsyncQuerySchedulerClass() {
     return options.getOrDefault(CUSTOM_FLINT_SCHEDULER_CLASS, "");
   }
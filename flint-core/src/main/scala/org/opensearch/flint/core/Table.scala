@@ -8,6 +8,8 @@ package org.opensearch.flint.core
 import java.io.IOException
 import java.util
 
+import scala.collection.JavaConverters._
+
 import com.google.common.base.Strings
 import org.opensearch.common.settings.Settings
 import org.opensearch.common.xcontent.{NamedXContentRegistry, XContentType}
@@ -16,6 +18,10 @@ import org.opensearch.flint.core.storage.FlintReader
 import org.opensearch.index.query.{AbstractQueryBuilder, MatchAllQueryBuilder, QueryBuilder}
 import org.opensearch.plugins.SearchPlugin
 import org.opensearch.search.SearchModule
+import org.opensearch.search.aggregations.AggregatorFactories
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder
+import org.opensearch.search.builder.SearchSourceBuilder
+import org.opensearch.search.sort.SortBuilder
 
 /**
  * A OpenSearch Table.
@@ -45,6 +51,12 @@ trait Table extends Serializable {
    */
   def slice(): Seq[Table]
 
+  /**
+   * Release resources shared by the slices returned from slice(), if any. Called once on driver
+   * after the slices are read.
+   */
+  def releaseSlices(): Unit = {}
+
   /**
    * Create Flint Reader from DSL query.
    *
@@ -54,6 +66,62 @@ trait Table extends Serializable {
    */
   def createReader(query: String): FlintReader
 
+  /**
+   * Create Flint Reader from DSL query which only fetches the given fields of document source.
+   * Table that doesn't support source filtering fetches all fields.
+   *
+   * @param query
+   *   OpenSearch DSL query.
+   * @param fields
+   *   fields to fetch, or None to fetch all fields
+   * @return
+   */
+  def createReader(query: String, fields: Option[Seq[String]]): FlintReader =
+    createReader(query, fields, None, "")
+
+  /**
+   * Create Flint Reader from DSL query which fetches at most limit docs in the given sort order.
+   * Table that doesn't support limit and sort fetches all documents.
+   *
+   * @param query
+   *   OpenSearch DSL query.
+   * @param fields
+   *   fields to fetch, or None to fetch all fields
+   * @param limit
+   *   maximum number of docs to fetch, or None to fetch all docs
+   * @param sort
+   *   OpenSearch DSL sort array, or empty to read in index order
+   * @return
+   */
+  def createReader(
+      query: String,
+      fields: Option[Seq[String]],
+      limit: Option[Int],
+      sort: String): FlintReader =
+    createReader(query)
+
+  /**
+   * Create Flint Reader which reads buckets of composite aggregation on the documents matching
+   * DSL query.
+   *
+   * @param query
+   *   OpenSearch DSL query.
+   * @param aggregation
+   *   aggregations in DSL with a single composite aggregation at top level
+   * @return
+   */
+  def createAggregationReader(query: String, aggregation: String): FlintReader =
+    throw new UnsupportedOperationException(
+      s"${getClass.getSimpleName} doesn't support aggregation")
+
+  /**
+   * Statistics of the table used by the optimizer to estimate scan output size.
+   *
+   * @return
+   *   {@link Table.Statistics}, or None if unknown
+   */
+  def statistics(): Option[Table.Statistics] = None
+
   /**
    * OpenSearch Table schema
    *
@@ -65,6 +133,16 @@ trait Table extends Serializable {
 
 object Table {
 
+  /**
+   * Table statistics.
+   *
+   * @param docCount
+   *   number of docs
+   * @param sizeInBytes
+   *   size of the docs in storage
+   */
+  case class Statistics(docCount: Long, sizeInBytes: Long)
+
   /**
    * {@link NamedXContentRegistry} from {@link SearchModule} used for construct {@link
    * QueryBuilder} from DSL query string.
@@ -72,6 +150,64 @@ object Table {
   val xContentRegistry = new NamedXContentRegistry(
     new SearchModule(Settings.builder.build, new util.ArrayList[SearchPlugin]).getNamedXContents)
 
+  /**
+   * Configure source filtering of the search source builder to fetch the given fields only.
+   *
+   * @param builder
+   *   search source builder
+   * @param fields
+   *   fields to fetch, or None to fetch all fields. Empty source is fetched if no field given.
+   * @return
+   *   the search source builder
+   */
+  def fetchSource(builder: SearchSourceBuilder, fields: Option[Seq[String]]): SearchSourceBuilder =
+    fields match {
+      case Some(Seq()) => builder.fetchSource(Array.empty[String], Array("*"))
+      case Some(includes) => builder.fetchSource(includes.toArray, Array.empty[String])
+      case None => builder
+    }
+
+  /**
+   * Add sorts in DSL to the search source builder. Sorts added afterwards are tie-breakers.
+   *
+   * @param builder
+   *   search source builder
+   * @param sort
+   *   DSL sort array, e.g. [{"ts":{"order":"desc"}}], or empty for no sort
+   * @return
+   *   the search source builder
+   */
+  @throws[IOException]
+  def sort(builder: SearchSourceBuilder, sort: String): SearchSourceBuilder = {
+    if (!Strings.isNullOrEmpty(sort)) {
+      val parser =
+        XContentType.JSON.xContent.createParser(xContentRegistry, IGNORE_DEPRECATIONS, sort)
+      parser.nextToken()
+      SortBuilder.fromXContent(parser).asScala.foreach(sortBuilder => builder.sort(sortBuilder))
+    }
+    builder
+  }
+
+  /**
+   * Parse composite aggregation from aggregations DSL.
+   *
+   * @param aggregation
+   *   aggregations in DSL, e.g. {"buckets":{"composite":{...},"aggregations":{...}}}
+   * @return
+   *   the top level composite aggregation
+   */
+  @throws[IOException]
+  def compositeAggregationBuilder(aggregation: String): CompositeAggregationBuilder = {
+    val parser =
+      XContentType.JSON.xContent.createParser(xContentRegistry, IGNORE_DEPRECATIONS, aggregation)
+    parser.nextToken()
+    AggregatorFactories.parseAggregators(parser).getAggregatorFactories.asScala.toSeq match {
+      case Seq(composite: CompositeAggregationBuilder) => composite
+      case _ =>
+        throw new IllegalArgumentException(s"single composite aggregation expected: $aggregation")
+    }
+  }
+
   @throws[IOException]
   def queryBuilder(query: String): QueryBuilder = {
     if (!Strings.isNullOrEmpty(query)) {
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.opensearch.flint.core.FlintOptions;
+import org.opensearch.flint.core.metrics.MetricConstants;
+import org.opensearch.flint.core.metrics.MetricsUtil;
+
+/**
+ * Adjust bulk request size and bulk request rate limit per node in AIMD (additive increase,
+ * multiplicative decrease) style. Both grow by a fixed step on each bulk response within the
+ * latency threshold, and are halved when OpenSearch rejects bulk requests (429). Responses slower
+ * than the threshold leave both unchanged. Does nothing if adaptive bulk is not enabled.
+ *
+ * Rejections of concurrent bulk requests are usually caused by the same overload, so both are
+ * halved at most once per cooldown window instead of once per rejection.
+ */
+public class AdaptiveBulkController {
+  private static final Logger LOG = Logger.getLogger(AdaptiveBulkController.class.getName());
+
+  /**
+   * Lower bound of the batch size, unless configured batch_bytes is lower.
+   */
+  static final long MIN_BATCH_BYTES = 64 * 1024;
+
+  /**
+   * Additive increase step of the batch size.
+   */
+  static final long BATCH_BYTES_STEP = 128 * 1024;
+
+  /**
+   * Additive increase step of the rate limit (requests/sec).
+   */
+  static final long RATE_STEP = 1;
+
+  /**
+   * Minimum time between two multiplicative decreases, one period of the rate limiter.
+   */
+  static final long REJECTION_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final boolean enabled;
+  private final BulkRequestRateLimiter rateLimiter;
+  private final long minRate;
+  private final long maxRate;
+  private final long minBatchBytes;
+  private final long maxBatchBytes;
+  private final long latencyThresholdMillis;
+  private final long rejectionCooldownNanos;
+
+  private volatile long batchBytes;
+
+  /**
+   * Time of last multiplicative decrease by {@link System#nanoTime()}, null if never decreased.
+   */
+  private Long lastDecreaseNanos;
+
+  public AdaptiveBulkController(FlintOptions flintOptions, BulkRequestRateLimiter rateLimiter) {
+    this(flintOptions, rateLimiter, REJECTION_COOLDOWN_NANOS);
+  }
+
+  AdaptiveBulkController(FlintOptions flintOptions, BulkRequestRateLimiter rateLimiter,
+      long rejectionCooldownNanos) {
+    this.enabled = flintOptions.isBulkAdaptiveEnabled();
+    this.rateLimiter = rateLimiter;
+    this.minRate = Math.max(flintOptions.getBulkAdaptiveMinRateLimitPerNode(), 1);
+    this.maxRate = Math.max(flintOptions.getBulkAdaptiveMaxRateLimitPerNode(), minRate);
+    this.batchBytes = flintOptions.getBatchBytes();
+    this.minBatchBytes = Math.min(MIN_BATCH_BYTES, batchBytes);
+    this.maxBatchBytes = Math.max(flintOptions.getBulkAdaptiveMaxBatchBytes(), batchBytes);
+    this.latencyThresholdMillis = flintOptions.getBulkAdaptiveLatencyThresholdMillis();
+    this.rejectionCooldownNanos = rejectionCooldownNanos;
+    if (enabled) {
+      long initialRate = rateLimiter.getRate() > 0 ? rateLimiter.getRate() : maxRate;
+      rateLimiter.setRate(clamp(initialRate, minRate, maxRate));
+      LOG.info(String.format("Adaptive bulk enabled. rate:[%d, %d]/sec, batch_bytes:[%d, %d]",
+          minRate, maxRate, minBatchBytes, maxBatchBytes));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return current bulk request size in bytes.
+   */
+  public long getBatchBytes() {
+    return batchBytes;
+  }
+
+  /**
+   * Bulk request completed without rejection.
+   *
+   * @param latencyMillis bulk request latency
+   */
+  public synchronized void onSuccess(long latencyMillis) {
+    if (!enabled || latencyMillis > latencyThresholdMillis) {
+      return;
+    }
+    update(rateLimiter.getRate() + RATE_STEP, batchBytes + BATCH_BYTES_STEP);
+  }
+
+  /**
+   * Bulk request or some of its items were rejected by OpenSearch. Ignored within the cooldown
+   * window of the last decrease.
+   */
+  public synchronized void onRejection() {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (lastDecreaseNanos != null && now - lastDecreaseNanos < rejectionCooldownNanos) {
+      return;
+    }
+    lastDecreaseNanos = now;
+    update(rateLimiter.getRate() / 2, batchBytes / 2);
+    LOG.info(String.format("Bulk request rejected, reduce rate to %d/sec and batch_bytes to %d",
+        rateLimiter.getRate(), batchBytes));
+  }
+
+  private void update(long rate, long bytes) {
+    long newRate = clamp(rate, minRate, maxRate);
+    long newBatchBytes = clamp(bytes, minBatchBytes, maxBatchBytes);
+    if (newRate == rateLimiter.getRate() && newBatchBytes == batchBytes) {
+      return;
+    }
+    rateLimiter.setRate(newRate);
+    batchBytes = newBatchBytes;
+    MetricsUtil.addHistoricGauge(MetricConstants.OPENSEARCH_BULK_ADAPTIVE_RATE_METRIC, rateLimiter.getRate());
+    MetricsUtil.addHistoricGauge(MetricConstants.OPENSEARCH_BULK_ADAPTIVE_BATCH_BYTES_METRIC, batchBytes);
+  }
+
+  private static long clamp(long value, long min, long max) {
+    return Math.max(min, Math.min(value, max));
+  }
+}
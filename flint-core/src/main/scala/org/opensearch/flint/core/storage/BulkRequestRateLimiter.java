@@ -9,27 +9,60 @@ import dev.failsafe.RateLimiter;
 import java.time.Duration;
 import java.util.logging.Logger;
 import org.opensearch.flint.core.FlintOptions;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 
 public class BulkRequestRateLimiter {
   private static final Logger LOG = Logger.getLogger(BulkRequestRateLimiter.class.getName());
-  private RateLimiter<Void> rateLimiter;
+  private volatile RateLimiter<Void> rateLimiter;
+  private volatile long rate;
 
   public BulkRequestRateLimiter(FlintOptions flintOptions) {
     long bulkRequestRateLimitPerNode = flintOptions.getBulkRequestRateLimitPerNode();
     if (bulkRequestRateLimitPerNode > 0) {
       LOG.info("Setting rate limit for bulk request to " + bulkRequestRateLimitPerNode + "/sec");
-      this.rateLimiter = RateLimiter.<Void>smoothBuilder(
-          flintOptions.getBulkRequestRateLimitPerNode(),
-          Duration.ofSeconds(1)).build();
+      setRate(bulkRequestRateLimitPerNode);
     } else {
       LOG.info("Rate limit for bulk request was not set.");
     }
   }
 
-  // Wait so it won't exceed rate limit. Does nothing if rate limit is not set.
+  // Wait so it won't exceed rate limit. Does nothing if rate limit is not set. Time waited is
+  // recorded into the task metrics activated on current thread.
   public void acquirePermit() throws InterruptedException {
-    if (rateLimiter != null) {
-      this.rateLimiter.acquirePermit();
+    RateLimiter<Void> limiter = this.rateLimiter;
+    if (limiter != null) {
+      long startTime = System.nanoTime();
+      try {
+        limiter.acquirePermit();
+      } finally {
+        FlintTaskMetrics metrics = FlintTaskMetrics.current();
+        if (metrics != null) {
+          metrics.addThrottleWaitNanos(System.nanoTime() - startTime);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return current rate limit (requests/sec), 0 if rate limit is not set.
+   */
+  public long getRate() {
+    return rate;
+  }
+
+  /**
+   * Change rate limit (requests/sec). Failsafe rate limiter is immutable, so a new one is built
+   * only if the rate changes. Rebuilding it resets the permits of waiting callers.
+   */
+  public void setRate(long permitsPerSecond) {
+    if (permitsPerSecond <= 0 || permitsPerSecond == rate) {
+      return;
+    }
+    synchronized (this) {
+      if (permitsPerSecond != rate) {
+        this.rateLimiter = RateLimiter.<Void>smoothBuilder(permitsPerSecond, Duration.ofSeconds(1)).build();
+        this.rate = permitsPerSecond;
+      }
     }
   }
 }
@@ -8,13 +8,15 @@ package org.opensearch.flint.core.storage;
 import org.opensearch.flint.core.FlintOptions;
 
 /**
- * Hold shared instance of BulkRequestRateLimiter. This class is introduced to make
- * BulkRequestRateLimiter testable and share single instance.
+ * Hold shared instance of BulkRequestRateLimiter and AdaptiveBulkController. This class is
+ * introduced to make BulkRequestRateLimiter testable and share single instance.
  */
 public class BulkRequestRateLimiterHolder {
 
   private static BulkRequestRateLimiter instance;
 
+  private static AdaptiveBulkController controller;
+
   private BulkRequestRateLimiterHolder() {}
 
   public synchronized static BulkRequestRateLimiter getBulkRequestRateLimiter(
@@ -24,4 +26,12 @@ public class BulkRequestRateLimiterHolder {
     }
     return instance;
   }
+
+  public synchronized static AdaptiveBulkController getAdaptiveBulkController(
+      FlintOptions flintOptions) {
+    if (controller == null) {
+      controller = new AdaptiveBulkController(flintOptions, getBulkRequestRateLimiter(flintOptions));
+    }
+    return controller;
+  }
 }
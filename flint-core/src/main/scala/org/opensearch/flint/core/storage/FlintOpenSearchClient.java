@@ -109,9 +109,10 @@ public class FlintOpenSearchClient implements FlintClient {
 
   public FlintWriter createWriter(String indexName) {
     LOG.info(String.format("Creating Flint index writer for %s, refresh_policy:%s, " +
-        "batch_bytes:%d", indexName, options.getRefreshPolicy(), options.getBatchBytes()));
+        "batch_bytes:%d, max_in_flight_bulk_requests:%d", indexName, options.getRefreshPolicy(),
+        options.getBatchBytes(), options.getMaxInFlightBulkRequests()));
     return new OpenSearchWriter(createClient(), sanitizeIndexName(indexName),
-        options.getRefreshPolicy(), options.getBatchBytes());
+        options.getRefreshPolicy(), options.getBatchBytes(), options.getMaxInFlightBulkRequests());
   }
 
   @Override
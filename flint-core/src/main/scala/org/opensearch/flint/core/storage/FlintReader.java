@@ -5,6 +5,9 @@
 
 package org.opensearch.flint.core.storage;
 
+import java.nio.charset.StandardCharsets;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
+
 /**
  * Flint Reader Interface
  */
@@ -20,6 +23,23 @@ public interface FlintReader {
    */
   String next();
 
+  /**
+   * Return next doc in UTF-8 encoded JSON bytes. Reader which reads raw bytes should override it
+   * to avoid decoding the doc to String.
+   */
+  default byte[] nextBytes() {
+    String doc = next();
+    return doc == null ? null : doc.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Return metrics of the reader. Reader which doesn't track metrics returns new empty metrics, so
+   * the caller should keep the returned instance.
+   */
+  default FlintTaskMetrics metrics() {
+    return new FlintTaskMetrics();
+  }
+
   /**
    * close.
    */
@@ -5,7 +5,9 @@
 
 package org.opensearch.flint.core.storage;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 
 /**
  * Extend {@link Writer}, not specific method defined for now.
@@ -20,8 +22,29 @@ public abstract class FlintWriter extends Writer {
    */
   public static final String ACTION_CREATE = "create";
 
+  protected final FlintTaskMetrics metrics = new FlintTaskMetrics();
+
   /**
    * @return current data written into buffer in bytes.
    */
   public abstract long getBufferSize();
+
+  /**
+   * @return {@link OutputStream} view of the writer which accepts UTF-8 encoded bytes. flush and
+   * close are delegated to the writer.
+   */
+  public abstract OutputStream getOutputStream();
+
+  /**
+   * Wait for bulk requests flushed in background to complete. Rethrow the first failure if any.
+   * Nothing to wait by default, flush is synchronous.
+   */
+  public void awaitFlush() {}
+
+  /**
+   * @return metrics of the bulk requests sent by the writer.
+   */
+  public FlintTaskMetrics metrics() {
+    return metrics;
+  }
 }
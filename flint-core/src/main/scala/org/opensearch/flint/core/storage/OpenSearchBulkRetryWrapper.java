@@ -11,16 +11,20 @@ import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedPredicate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
+import org.opensearch.OpenSearchException;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.flint.core.IRestHighLevelClient;
 import org.opensearch.flint.core.http.FlintRetryOptions;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 import org.opensearch.flint.core.metrics.MetricConstants;
 import org.opensearch.flint.core.metrics.MetricsUtil;
 import org.opensearch.rest.RestStatus;
@@ -31,8 +35,19 @@ public class OpenSearchBulkRetryWrapper {
 
   private final RetryPolicy<BulkResponse> retryPolicy;
 
+  /**
+   * Notified of latency and rejections of each bulk request, null if not used.
+   */
+  private final AdaptiveBulkController adaptiveBulkController;
+
   public OpenSearchBulkRetryWrapper(FlintRetryOptions retryOptions) {
+    this(retryOptions, null);
+  }
+
+  public OpenSearchBulkRetryWrapper(FlintRetryOptions retryOptions,
+      AdaptiveBulkController adaptiveBulkController) {
     this.retryPolicy = retryOptions.getBulkRetryPolicy(bulkItemRetryableResultPredicate);
+    this.adaptiveBulkController = adaptiveBulkController;
   }
 
   /**
@@ -46,6 +61,7 @@ public class OpenSearchBulkRetryWrapper {
   public BulkResponse bulkWithPartialRetry(RestHighLevelClient client, BulkRequest bulkRequest,
       RequestOptions options) {
     final AtomicInteger requestCount = new AtomicInteger(0);
+    final AtomicBoolean rejected = new AtomicBoolean(false);
     try {
       final AtomicReference<BulkRequest> nextRequest = new AtomicReference<>(bulkRequest);
       BulkResponse res = Failsafe
@@ -57,8 +73,10 @@ public class OpenSearchBulkRetryWrapper {
             }
           })
           .get(() -> {
-            requestCount.incrementAndGet();
-            BulkResponse response = client.bulk(nextRequest.get(), options);
+            if (requestCount.incrementAndGet() > 1) {
+              recordRetriedItems(nextRequest.get().numberOfActions());
+            }
+            BulkResponse response = bulk(client, nextRequest.get(), options, rejected);
             if (retryPolicy.getConfig().allowsRetries() && bulkItemRetryableResultPredicate.test(
                 response)) {
               nextRequest.set(getRetryableRequest(nextRequest.get(), response));
@@ -77,6 +95,52 @@ public class OpenSearchBulkRetryWrapper {
     }
   }
 
+  /**
+   * Record retried items into the task metrics activated on current thread, if any.
+   */
+  private static void recordRetriedItems(int items) {
+    FlintTaskMetrics metrics = FlintTaskMetrics.current();
+    if (metrics != null) {
+      metrics.addRetriedItems(items);
+    }
+  }
+
+  /**
+   * Execute one bulk attempt and notify the adaptive controller. Only the first rejection of a
+   * bulk request is notified, so that retries of the same request don't decrease it again.
+   */
+  private BulkResponse bulk(RestHighLevelClient client, BulkRequest request,
+      RequestOptions options, AtomicBoolean rejected) throws Exception {
+    long startTime = System.currentTimeMillis();
+    try {
+      BulkResponse response = client.bulk(request, options);
+      if (adaptiveBulkController != null) {
+        if (isRejected(response)) {
+          if (rejected.compareAndSet(false, true)) {
+            adaptiveBulkController.onRejection();
+          }
+        } else {
+          adaptiveBulkController.onSuccess(System.currentTimeMillis() - startTime);
+        }
+      }
+      return response;
+    } catch (Exception e) {
+      OpenSearchException openSearchException = IRestHighLevelClient.extractOpenSearchException(e);
+      if (adaptiveBulkController != null && openSearchException != null
+          && openSearchException.status() == RestStatus.TOO_MANY_REQUESTS
+          && rejected.compareAndSet(false, true)) {
+        adaptiveBulkController.onRejection();
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isRejected(BulkResponse response) {
+    return response.hasFailures() && Arrays.stream(response.getItems())
+        .anyMatch(itemResp -> itemResp.isFailed()
+            && itemResp.getFailure().getStatus() == RestStatus.TOO_MANY_REQUESTS);
+  }
+
   private BulkRequest getRetryableRequest(BulkRequest request, BulkResponse response) {
     List<DocWriteRequest<?>> bulkItemRequests = request.requests();
     BulkItemResponse[] bulkItemResponses = response.getItems();
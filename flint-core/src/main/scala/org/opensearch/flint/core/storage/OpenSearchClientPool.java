@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.opensearch.flint.core.metrics.MetricConstants.OPENSEARCH_CLIENT_POOL_SATURATION_METRIC;
+import static org.opensearch.flint.core.metrics.MetricConstants.OPENSEARCH_CLIENT_POOL_SIZE_METRIC;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import org.apache.spark.util.ThreadUtils;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.flint.core.FlintOptions;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.flint.core.RestHighLevelClientWrapper;
+import org.opensearch.flint.core.metrics.MetricsUtil;
+
+/**
+ * JVM-wide pool of OpenSearch clients. Clients created by the same options share one underlying
+ * {@link RestHighLevelClient} with its HTTP connection pool and I/O threads. The shared client is
+ * reference counted by the clients handed out and closed once it has been idle for keep alive
+ * time after the last one released.
+ */
+public class OpenSearchClientPool {
+
+  private static final Logger LOG = Logger.getLogger(OpenSearchClientPool.class.getName());
+
+  /**
+   * Shared clients by options.
+   */
+  private static final Map<Map<String, String>, SharedClient> CLIENTS = new HashMap<>();
+
+  /**
+   * Scheduler that closes idle shared clients, created lazily.
+   */
+  private static ScheduledExecutorService reaper;
+
+  private OpenSearchClientPool() {}
+
+  /**
+   * Acquire a client for the given options. The returned client must be closed to release it.
+   *
+   * @param options Flint options
+   * @return pooled client
+   */
+  public static synchronized IRestHighLevelClient acquire(FlintOptions options) {
+    Map<String, String> key = new HashMap<>(options.asMap());
+    SharedClient shared = CLIENTS.get(key);
+    if (shared == null) {
+      shared = new SharedClient(key, OpenSearchClientUtils.createRestHighLevelClient(options),
+          options);
+      CLIENTS.put(key, shared);
+      MetricsUtil.addHistoricGauge(OPENSEARCH_CLIENT_POOL_SIZE_METRIC, CLIENTS.size());
+      LOG.info("Created pooled OpenSearch client, pool size: " + CLIENTS.size());
+    }
+    shared.refCount++;
+    shared.generation++;
+    return new PooledClient(shared, options);
+  }
+
+  /**
+   * @return number of shared clients alive
+   */
+  public static synchronized int size() {
+    return CLIENTS.size();
+  }
+
+  /**
+   * Close all shared clients regardless of references.
+   */
+  public static synchronized void closeAll() {
+    CLIENTS.values().forEach(OpenSearchClientPool::closeQuietly);
+    CLIENTS.clear();
+  }
+
+  private static synchronized void release(SharedClient shared) {
+    shared.refCount--;
+    if (shared.refCount > 0) {
+      return;
+    }
+
+    long generation = shared.generation;
+    if (shared.keepAliveMillis <= 0) {
+      closeIfIdle(shared, generation);
+    } else {
+      if (reaper == null) {
+        reaper = ThreadUtils.newDaemonSingleThreadScheduledExecutor("flint-client-pool-reaper");
+      }
+      reaper.schedule(() -> closeIfIdle(shared, generation),
+          shared.keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Close shared client only if it is not acquired again since the release scheduling this.
+   */
+  private static synchronized void closeIfIdle(SharedClient shared, long generation) {
+    if (shared.refCount == 0 && shared.generation == generation
+        && CLIENTS.get(shared.key) == shared) {
+      CLIENTS.remove(shared.key);
+      closeQuietly(shared);
+      MetricsUtil.addHistoricGauge(OPENSEARCH_CLIENT_POOL_SIZE_METRIC, CLIENTS.size());
+      LOG.info("Closed idle pooled OpenSearch client, pool size: " + CLIENTS.size());
+    }
+  }
+
+  private static void closeQuietly(SharedClient shared) {
+    try {
+      shared.client.close();
+    } catch (IOException e) {
+      LOG.warning("Failed to close pooled OpenSearch client: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Underlying client shared by pooled clients of the same options.
+   */
+  private static class SharedClient {
+    private final Map<String, String> key;
+    private final RestHighLevelClient client;
+    private final long keepAliveMillis;
+    private final int maxConnectionsPerRoute;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Guarded by pool lock */
+    private int refCount = 0;
+    private long generation = 0;
+
+    SharedClient(Map<String, String> key, RestHighLevelClient client, FlintOptions options) {
+      this.key = key;
+      this.client = client;
+      this.keepAliveMillis = options.getClientPoolKeepAliveMillis();
+      this.maxConnectionsPerRoute = Math.max(options.getMaxConnectionsPerRoute(), 1);
+    }
+  }
+
+  /**
+   * Client handed out by the pool. Close releases the shared client instead of closing it, and
+   * request in flight is tracked as connection pool saturation.
+   */
+  private static class PooledClient extends RestHighLevelClientWrapper {
+    private final SharedClient shared;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    PooledClient(SharedClient shared, FlintOptions options) {
+      super(shared.client,
+          BulkRequestRateLimiterHolder.getBulkRequestRateLimiter(options),
+          new OpenSearchBulkRetryWrapper(options.getRetryOptions(),
+              BulkRequestRateLimiterHolder.getAdaptiveBulkController(options)));
+      this.shared = shared;
+    }
+
+    @Override
+    protected <T> T execute(IOCallable<T> operation, String... metricNamePrefixes)
+        throws IOException {
+      int inFlight = shared.inFlight.incrementAndGet();
+      MetricsUtil.addHistoricGauge(OPENSEARCH_CLIENT_POOL_SATURATION_METRIC,
+          inFlight * 100L / shared.maxConnectionsPerRoute);
+      try {
+        return super.execute(operation, metricNamePrefixes);
+      } finally {
+        shared.inFlight.decrementAndGet();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        release(shared);
+      }
+    }
+  }
+}
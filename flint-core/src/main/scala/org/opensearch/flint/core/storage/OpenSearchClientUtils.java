@@ -67,10 +67,23 @@ public class OpenSearchClientUtils {
     return new RestHighLevelClient(restClientBuilder);
   }
 
+  /**
+   * Create OpenSearch client. If client pool is enabled, the client shares the same underlying
+   * OpenSearch client with others created by the same options, and closing it only releases it
+   * back to the pool.
+   */
   public static IRestHighLevelClient createClient(FlintOptions options) {
+    if (options.isClientPoolEnabled()) {
+      return OpenSearchClientPool.acquire(options);
+    }
+    return createUnpooledClient(options);
+  }
+
+  static IRestHighLevelClient createUnpooledClient(FlintOptions options) {
     return new RestHighLevelClientWrapper(createRestHighLevelClient(options),
         BulkRequestRateLimiterHolder.getBulkRequestRateLimiter(options),
-        new OpenSearchBulkRetryWrapper(options.getRetryOptions()));
+        new OpenSearchBulkRetryWrapper(options.getRetryOptions(),
+            BulkRequestRateLimiterHolder.getAdaptiveBulkController(options)));
   }
 
   /**
@@ -138,7 +151,7 @@ public class OpenSearchClientUtils {
           HttpAsyncClientBuilder delegate = builder.addInterceptorLast(
               new ResourceBasedAWSRequestSigningApacheInterceptor(
                   options.getServiceName(), options.getRegion(), customAWSCredentialsProvider.get(), metadataAccessAWSCredentialsProvider.get(), systemIndexName));
-          return RetryableHttpAsyncClient.builder(delegate, options);
+          return RetryableHttpAsyncClient.builder(configureConnectionPool(delegate, options), options);
         }
     );
 
@@ -152,7 +165,7 @@ public class OpenSearchClientUtils {
         new UsernamePasswordCredentials(options.getUsername(), options.getPassword()));
     restClientBuilder.setHttpClientConfigCallback(builder -> {
       HttpAsyncClientBuilder delegate = builder.setDefaultCredentialsProvider(credentialsProvider);
-      return RetryableHttpAsyncClient.builder(delegate, options);
+      return RetryableHttpAsyncClient.builder(configureConnectionPool(delegate, options), options);
     });
 
     return restClientBuilder;
@@ -161,10 +174,16 @@ public class OpenSearchClientUtils {
   private static RestClientBuilder configureDefaultAuth(RestClientBuilder restClientBuilder, FlintOptions options) {
     // No auth
     restClientBuilder.setHttpClientConfigCallback(delegate ->
-        RetryableHttpAsyncClient.builder(delegate, options));
+        RetryableHttpAsyncClient.builder(configureConnectionPool(delegate, options), options));
     return restClientBuilder;
   }
 
+  private static HttpAsyncClientBuilder configureConnectionPool(HttpAsyncClientBuilder builder, FlintOptions options) {
+    return builder
+        .setMaxConnTotal(options.getMaxConnections())
+        .setMaxConnPerRoute(options.getMaxConnectionsPerRoute());
+  }
+
   /**
    * Attempts to instantiate the AWS credential provider using reflection.
    */
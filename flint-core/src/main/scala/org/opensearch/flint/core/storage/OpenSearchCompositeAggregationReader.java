@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.common.Strings;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Read buckets of OpenSearch composite aggregation page by page with after_key. Each bucket is
+ * returned as a flat JSON doc which contains the composite key values, the bucket doc count as
+ * {@link #DOC_COUNT_FIELD} and the value of each single value metric sub-aggregation. Metric
+ * value that is not finite, such as min of a bucket without any value, is returned as null.
+ */
+public class OpenSearchCompositeAggregationReader implements FlintReader {
+
+  private static final Logger LOG =
+      Logger.getLogger(OpenSearchCompositeAggregationReader.class.getName());
+
+  /**
+   * Field name of the bucket doc count in the returned doc.
+   */
+  public static final String DOC_COUNT_FIELD = "_doc_count";
+
+  @VisibleForTesting
+  /** Search request with the composite aggregation. */
+  public final SearchRequest searchRequest;
+
+  private final IRestHighLevelClient client;
+
+  private final CompositeAggregationBuilder aggregation;
+
+  private final FlintTaskMetrics metrics = new FlintTaskMetrics();
+
+  /**
+   * Buckets of current page.
+   */
+  private Iterator<? extends CompositeAggregation.Bucket> iterator = Collections.emptyIterator();
+
+  /**
+   * after_key of current page, null if all pages are read.
+   */
+  private Map<String, Object> afterKey = null;
+
+  private boolean exhausted = false;
+
+  /**
+   * @param client      OpenSearch client
+   * @param request     search request with size 0
+   * @param aggregation composite aggregation in the search request
+   */
+  public OpenSearchCompositeAggregationReader(IRestHighLevelClient client,
+                                              SearchRequest request,
+                                              CompositeAggregationBuilder aggregation) {
+    this.client = client;
+    this.searchRequest = request;
+    this.aggregation = aggregation;
+  }
+
+  @Override public boolean hasNext() {
+    while (!iterator.hasNext() && !exhausted) {
+      search();
+    }
+    return iterator.hasNext();
+  }
+
+  @Override public String next() {
+    CompositeAggregation.Bucket bucket = iterator.next();
+    try {
+      XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+      for (Map.Entry<String, Object> key : bucket.getKey().entrySet()) {
+        builder.field(key.getKey(), key.getValue());
+      }
+      builder.field(DOC_COUNT_FIELD, bucket.getDocCount());
+      for (Aggregation agg : bucket.getAggregations()) {
+        if (agg instanceof NumericMetricsAggregation.SingleValue) {
+          double value = ((NumericMetricsAggregation.SingleValue) agg).value();
+          builder.field(agg.getName(), Double.isFinite(value) ? Double.valueOf(value) : null);
+        }
+      }
+      return Strings.toString(builder.endObject());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override public FlintTaskMetrics metrics() {
+    return metrics;
+  }
+
+  @Override public void close() {
+    try {
+      client.close();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * search next page of buckets after current after_key.
+   */
+  private void search() {
+    if (afterKey != null) {
+      aggregation.aggregateAfter(afterKey);
+    }
+    try {
+      SearchResponse response = client.search(searchRequest, RequestOptions.DEFAULT);
+      metrics.addPageFetched();
+      CompositeAggregation composite = response.getAggregations() == null
+          ? null : response.getAggregations().get(aggregation.getName());
+      if (composite == null || composite.getBuckets().isEmpty()) {
+        iterator = Collections.emptyIterator();
+        exhausted = true;
+        return;
+      }
+      iterator = composite.getBuckets().iterator();
+      afterKey = composite.afterKey();
+      exhausted = afterKey == null;
+      LOG.info("read " + composite.getBuckets().size() + " buckets, after_key " + afterKey);
+    } catch (OpenSearchStatusException e) {
+      if (e.getMessage() != null && e.getMessage().contains("index_not_found_exception")) {
+        iterator = Collections.emptyIterator();
+        exhausted = true;
+      } else {
+        throw e;
+      }
+    } catch (IOException e) {
+      LOG.warning(e.getMessage());
+      throw new RuntimeException(e);
+    }
+  }
+}
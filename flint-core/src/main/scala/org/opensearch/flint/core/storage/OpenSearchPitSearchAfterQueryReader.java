@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.builder.PointInTimeBuilder;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * Read a slice of OpenSearch Index using PIT with search_after. All slices of an index search the
+ * PIT created for them once on driver, so they read the same point-in-time view. The driver keeps
+ * that PIT alive until the query execution ends. If it is not given or already gone when the first
+ * page is searched, for example when the same physical plan is executed again after the PIT is
+ * deleted, the reader creates its own PIT, which is a different view than other slices', and
+ * deletes it in {@link #clean()}.
+ */
+public class OpenSearchPitSearchAfterQueryReader extends OpenSearchSearchAfterQueryReader {
+
+  private static final Logger LOG =
+      Logger.getLogger(OpenSearchPitSearchAfterQueryReader.class.getName());
+
+  private final String indexName;
+
+  /**
+   * PIT shared by all slices, null if not given.
+   */
+  private final String sharedPitId;
+
+  /**
+   * PIT keep alive in minutes.
+   */
+  private final int keepAliveMinutes;
+
+  /**
+   * PIT created by this reader, init value is null.
+   */
+  private String pitId = null;
+
+  /**
+   * @param client           OpenSearch client
+   * @param indexName        index name the PIT is created on
+   * @param keepAliveMinutes PIT keep alive in minutes
+   * @param request          search request without indices, PIT is set on first search
+   */
+  public OpenSearchPitSearchAfterQueryReader(IRestHighLevelClient client,
+                                             String indexName,
+                                             int keepAliveMinutes,
+                                             SearchRequest request) {
+    this(client, indexName, null, keepAliveMinutes, request, Long.MAX_VALUE);
+  }
+
+  /**
+   * @param client           OpenSearch client
+   * @param indexName        index name the PIT is created on if shared PIT is unavailable
+   * @param sharedPitId      PIT shared by all slices of the index, or null to create one
+   * @param keepAliveMinutes PIT keep alive in minutes
+   * @param request          search request without indices, PIT is set on first search
+   * @param limit            maximum number of docs to fetch
+   */
+  public OpenSearchPitSearchAfterQueryReader(IRestHighLevelClient client,
+                                             String indexName,
+                                             String sharedPitId,
+                                             int keepAliveMinutes,
+                                             SearchRequest request,
+                                             long limit) {
+    super(client, request, limit);
+    this.indexName = indexName;
+    this.sharedPitId = sharedPitId;
+    this.keepAliveMinutes = keepAliveMinutes;
+  }
+
+  /**
+   * search. set PIT on first call, and fall back to a PIT of this reader if shared PIT is gone.
+   */
+  @Override
+  Optional<SearchResponse> search(SearchRequest request) {
+    if (request.source().pointInTimeBuilder() == null) {
+      if (sharedPitId != null) {
+        setPit(request, sharedPitId);
+        try {
+          return super.search(request);
+        } catch (RuntimeException e) {
+          if (!isNotFound(e)) {
+            throw e;
+          }
+          LOG.warning("shared PIT on " + indexName + " not found, create a new PIT which may not "
+              + "read the same point-in-time view as other slices");
+        }
+      }
+      setPit(request, createPit());
+    }
+    return super.search(request);
+  }
+
+  /**
+   * delete PIT created by this reader. Shared PIT is deleted on driver.
+   */
+  @Override
+  void clean() {
+    if (pitId != null) {
+      try {
+        client.deletePit(new DeletePitRequest.Builder().pitId(pitId).build());
+      } catch (IOException e) {
+        LOG.warning("failed to delete PIT: " + e.getMessage());
+      } finally {
+        pitId = null;
+      }
+    }
+  }
+
+  private String createPit() {
+    try {
+      pitId = client.createPit(
+          new CreatePitRequest.Builder()
+              .targetIndexes(indexName)
+              .keepAlive(new Time.Builder().time(keepAliveMinutes + "m").build())
+              .build()).pitId();
+      LOG.info("created PIT on " + indexName);
+      return pitId;
+    } catch (IOException e) {
+      LOG.warning(e.getMessage());
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void setPit(SearchRequest request, String id) {
+    request.source().pointInTimeBuilder(
+        new PointInTimeBuilder(id).setKeepAlive(TimeValue.timeValueMinutes(keepAliveMinutes)));
+  }
+
+  private static boolean isNotFound(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OpenSearchStatusException
+          && ((OpenSearchStatusException) cause).status() == RestStatus.NOT_FOUND) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import org.apache.spark.util.ThreadUtils;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.flint.core.IRestHighLevelClient;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Logger;
+
+/**
+ * {@link OpenSearchSearchAfterQueryReader} which fetches the next search_after pages in a
+ * background thread while the current page is being consumed. At most prefetchPages pages are
+ * buffered, the fetcher thread blocks until the consumer takes a page.
+ */
+public class OpenSearchPrefetchSearchAfterQueryReader extends OpenSearchSearchAfterQueryReader {
+
+  private static final Logger LOG =
+      Logger.getLogger(OpenSearchPrefetchSearchAfterQueryReader.class.getName());
+
+  /**
+   * Fetched pages. An empty page marks the end of the result.
+   */
+  private final BlockingQueue<Page> pages;
+
+  private ExecutorService fetcher = null;
+
+  /**
+   * true once the fetcher returned the last (empty or failed) page.
+   */
+  private boolean exhausted = false;
+
+  public OpenSearchPrefetchSearchAfterQueryReader(IRestHighLevelClient client,
+                                                  SearchRequest request,
+                                                  int prefetchPages) {
+    this(client, request, prefetchPages, Long.MAX_VALUE);
+  }
+
+  public OpenSearchPrefetchSearchAfterQueryReader(IRestHighLevelClient client,
+                                                  SearchRequest request,
+                                                  int prefetchPages,
+                                                  long limit) {
+    super(client, request, limit);
+    this.pages = new ArrayBlockingQueue<>(Math.max(prefetchPages, 1));
+  }
+
+  /**
+   * search. return the next prefetched page, start the fetcher on first call.
+   */
+  @Override
+  Optional<SearchResponse> search(SearchRequest request) {
+    if (exhausted) {
+      return Optional.empty();
+    }
+    if (fetcher == null) {
+      fetcher = ThreadUtils.newDaemonSingleThreadExecutor("flint-search-prefetch");
+      fetcher.submit(() -> fetch(request));
+    }
+    try {
+      Page page = pages.take();
+      if (page.error != null) {
+        exhausted = true;
+        throw page.error;
+      }
+      if (page.response.isEmpty()) {
+        exhausted = true;
+      }
+      return page.response;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Fetch pages until the result is exhausted, an error happens or the reader is closed.
+   */
+  private void fetch(SearchRequest request) {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        Page page;
+        try {
+          page = new Page(super.search(request), null);
+        } catch (RuntimeException e) {
+          page = new Page(Optional.empty(), e);
+        }
+        pages.put(page);
+        if (page.error != null || page.response.isEmpty()) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      LOG.info("search prefetch interrupted");
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * stop the fetcher before the client is closed.
+   */
+  @Override
+  void clean() {
+    if (fetcher != null) {
+      fetcher.shutdownNow();
+    }
+    pages.clear();
+  }
+
+  private static final class Page {
+    private final Optional<SearchResponse> response;
+    private final RuntimeException error;
+
+    private Page(Optional<SearchResponse> response, RuntimeException error) {
+      this.response = response;
+      this.error = error;
+    }
+  }
+}
@@ -9,7 +9,9 @@ import com.google.common.annotations.VisibleForTesting;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 import org.opensearch.search.SearchHit;
 
 import java.io.IOException;
@@ -28,6 +30,8 @@ public abstract class OpenSearchReader implements FlintReader {
 
   protected final IRestHighLevelClient client;
 
+  private final FlintTaskMetrics metrics = new FlintTaskMetrics();
+
   /**
    * iterator of one-shot search result.
    */
@@ -46,6 +50,7 @@ public abstract class OpenSearchReader implements FlintReader {
           iterator = null;
           return false;
         }
+        metrics.addPageFetched();
         List<SearchHit> searchHits = Arrays.asList(response.get().getHits().getHits());
         iterator = searchHits.iterator();
       }
@@ -64,7 +69,28 @@ public abstract class OpenSearchReader implements FlintReader {
   }
 
   @Override public String next() {
-    return iterator.next().getSourceAsString();
+    SearchHit hit = iterator.next();
+    BytesReference source = hit.getSourceRef();
+    if (source != null) {
+      metrics.addHitBytes(source.length());
+    }
+    return hit.getSourceAsString();
+  }
+
+  /**
+   * Return source bytes of next hit as is. No copy if the source is backed by a single array.
+   */
+  @Override public byte[] nextBytes() {
+    BytesReference source = iterator.next().getSourceRef();
+    if (source == null) {
+      return null;
+    }
+    metrics.addHitBytes(source.length());
+    return BytesReference.toBytes(source);
+  }
+
+  @Override public FlintTaskMetrics metrics() {
+    return metrics;
   }
 
   @Override public void close() {
@@ -30,14 +30,34 @@ public class OpenSearchSearchAfterQueryReader extends OpenSearchReader {
    * current search_after value, init value is null
    */
   private Object[] search_after = null;
+
+  /**
+   * maximum number of docs to fetch. no more page is searched once reached.
+   */
+  private final long limit;
+
+  /**
+   * number of docs fetched so far.
+   */
+  private long fetched = 0;
+
   public OpenSearchSearchAfterQueryReader(IRestHighLevelClient client, SearchRequest request) {
+    this(client, request, Long.MAX_VALUE);
+  }
+
+  public OpenSearchSearchAfterQueryReader(IRestHighLevelClient client, SearchRequest request,
+                                          long limit) {
     super(client, request);
+    this.limit = limit;
   }
 
   /**
    * search.
    */
   Optional<SearchResponse> search(SearchRequest request) {
+    if (fetched >= limit) {
+      return Optional.empty();
+    }
     try {
       Optional<SearchResponse> response;
       if (search_after != null) {
@@ -49,6 +69,7 @@ public class OpenSearchSearchAfterQueryReader extends OpenSearchReader {
         search_after = null;
         return Optional.empty();
       }
+      fetched += length;
       // update search_after
       search_after = response.get().getHits().getAt(length - 1).getSortValues();
       LOG.info("update search_after " + Arrays.stream(search_after)
@@ -0,0 +1,280 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.annotations.VisibleForTesting;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.ResponseException;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Read OpenSearch Index with search_after by parsing the raw search response body hit by hit.
+ * Unlike {@link OpenSearchSearchAfterQueryReader}, a page is never deserialized into SearchResponse
+ * and SearchHit objects. Only the _source and sort values of the current hit are materialized.
+ * Note that the raw body of the current page is still buffered in memory by the REST client, so
+ * this saves the object overhead of a parsed page but not the page bytes.
+ */
+public class OpenSearchStreamingSearchAfterQueryReader implements FlintReader {
+
+  private static final Logger LOG =
+      Logger.getLogger(OpenSearchStreamingSearchAfterQueryReader.class.getName());
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  @VisibleForTesting
+  /** Search request source builder. */
+  public final SearchRequest searchRequest;
+
+  private final IRestHighLevelClient client;
+
+  private final FlintTaskMetrics metrics = new FlintTaskMetrics();
+
+  /**
+   * maximum number of docs to read.
+   */
+  private final long limit;
+
+  /**
+   * number of docs read so far.
+   */
+  private long fetched = 0;
+
+  /**
+   * sort values of the last hit read, init value is null
+   */
+  private Object[] searchAfter = null;
+
+  /**
+   * parser of current page positioned in hits array, null if no page is open.
+   */
+  private JsonParser parser = null;
+
+  /**
+   * number of hits read in current page.
+   */
+  private int pageHits = 0;
+
+  private boolean exhausted = false;
+
+  /**
+   * true if {@link #source} holds a hit not returned yet.
+   */
+  private boolean ready = false;
+
+  private byte[] source = null;
+
+  public OpenSearchStreamingSearchAfterQueryReader(IRestHighLevelClient client,
+                                                   SearchRequest request,
+                                                   long limit) {
+    this.client = client;
+    this.searchRequest = request;
+    this.limit = limit;
+  }
+
+  @Override public boolean hasNext() {
+    try {
+      while (!ready && !exhausted) {
+        if (parser == null) {
+          openPage();
+        } else if (!readHit()) {
+          closePage();
+          // the last page is the one without any hit
+          exhausted = exhausted || pageHits == 0;
+        }
+      }
+      return ready;
+    } catch (IOException e) {
+      LOG.warning(e.getMessage());
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override public String next() {
+    byte[] bytes = nextBytes();
+    return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override public byte[] nextBytes() {
+    ready = false;
+    return source;
+  }
+
+  @Override public FlintTaskMetrics metrics() {
+    return metrics;
+  }
+
+  @Override public void close() {
+    try {
+      closePage();
+    } catch (IOException e) {
+      LOG.warning("failed to close search response: " + e.getMessage());
+    } finally {
+      try {
+        client.close();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * search next page after the last hit and position the parser at its hits array.
+   */
+  private void openPage() throws IOException {
+    if (fetched >= limit) {
+      exhausted = true;
+      return;
+    }
+    if (searchAfter != null) {
+      searchRequest.source().searchAfter(searchAfter);
+    }
+    InputStream body;
+    try {
+      body = client.searchAsStream(searchRequest, RequestOptions.DEFAULT);
+    } catch (ResponseException e) {
+      if (e.getResponse().getStatusLine().getStatusCode() == 404
+          && e.getMessage().contains("index_not_found_exception")) {
+        exhausted = true;
+        return;
+      }
+      throw e;
+    }
+    metrics.addPageFetched();
+    parser = JSON_FACTORY.createParser(body);
+    pageHits = 0;
+    if (!seekHitsArray()) {
+      closePage();
+      exhausted = true;
+    }
+  }
+
+  /**
+   * move parser to the start of hits.hits array.
+   */
+  private boolean seekHitsArray() throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    boolean inHits = false;
+    while (true) {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        return false;
+      }
+      if (token == JsonToken.END_OBJECT) {
+        if (!inHits) {
+          return false;
+        }
+        inHits = false;
+        continue;
+      }
+      String field = parser.getCurrentName();
+      token = parser.nextToken();
+      if ("hits".equals(field) && !inHits && token == JsonToken.START_OBJECT) {
+        inHits = true;
+      } else if ("hits".equals(field) && inHits && token == JsonToken.START_ARRAY) {
+        return true;
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /**
+   * read next hit in the hits array.
+   *
+   * @return false if no more hit in current page or the limit is reached
+   */
+  private boolean readHit() throws IOException {
+    if (fetched >= limit) {
+      exhausted = true;
+      return false;
+    }
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    byte[] hitSource = null;
+    Object[] sortValues = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      if ("_source".equals(field)) {
+        hitSource = copyCurrentStructure();
+      } else if ("sort".equals(field)) {
+        sortValues = readSortValues();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (hitSource != null) {
+      metrics.addHitBytes(hitSource.length);
+    }
+    source = hitSource;
+    ready = true;
+    pageHits++;
+    fetched++;
+    if (sortValues != null) {
+      searchAfter = sortValues;
+    }
+    return true;
+  }
+
+  private byte[] copyCurrentStructure() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      generator.copyCurrentStructure(parser);
+    }
+    return out.toByteArray();
+  }
+
+  private Object[] readSortValues() throws IOException {
+    List<Object> values = new ArrayList<>();
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      switch (token) {
+        case VALUE_NUMBER_INT:
+        case VALUE_NUMBER_FLOAT:
+          values.add(parser.getNumberValue());
+          break;
+        case VALUE_STRING:
+          values.add(parser.getText());
+          break;
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          values.add(parser.getBooleanValue());
+          break;
+        case VALUE_NULL:
+          values.add(null);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return values.toArray();
+  }
+
+  private void closePage() throws IOException {
+    if (parser != null) {
+      JsonParser current = parser;
+      parser = null;
+      current.close();
+    }
+  }
+}
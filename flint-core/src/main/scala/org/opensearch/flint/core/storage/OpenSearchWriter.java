@@ -5,6 +5,7 @@
 
 package org.opensearch.flint.core.storage;
 
+import org.apache.spark.util.ThreadUtils;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
@@ -13,15 +14,36 @@ import org.opensearch.client.RequestOptions;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * OpenSearch Bulk writer. More reading https://opensearch.org/docs/1.2/opensearch/rest-api/document-apis/bulk/.
  * It is not thread safe.
+ *
+ * If maxInFlightRequests is greater than 0, flush submits the bulk request in background and
+ * returns immediately, so the next batch is serialized while the previous one is indexed. Bulk
+ * requests are sent one by one in flush order by a single background thread, so a later batch
+ * never overwrites an earlier one of the same _id. At most maxInFlightRequests batches are queued
+ * or in flight, flush blocks until one of them completes. Once a bulk request fails, queued batches
+ * are dropped and the failure is rethrown on next flush or on {@link #awaitFlush()}.
+ *
+ * Writer metrics are activated while a bulk request is executed, so that bulk retries and rate
+ * limiter waits are recorded into them even in background thread.
  */
 public class OpenSearchWriter extends FlintWriter {
 
@@ -29,50 +51,136 @@ public class OpenSearchWriter extends FlintWriter {
 
   private final String refreshPolicy;
 
-  private final ByteArrayOutputStream baos;
+  private BulkBuffer baos;
+
+  private final OutputStream outputStream = new BufferOutputStream();
 
   private IRestHighLevelClient client;
 
+  /**
+   * Max time to wait for queued bulk requests on close before they are cancelled.
+   */
+  private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  /**
+   * Single-threaded background bulk executor, null if flush is synchronous.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * Buffers available for the next batch. Taking a buffer blocks while all are in flight.
+   */
+  private final BlockingQueue<BulkBuffer> freeBuffers;
+
+  private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+
+  /**
+   * First background bulk failure.
+   */
+  private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
   public OpenSearchWriter(IRestHighLevelClient client, String indexName, String refreshPolicy,
       int bufferSizeInBytes) {
+    this(client, indexName, refreshPolicy, bufferSizeInBytes, 0);
+  }
+
+  public OpenSearchWriter(IRestHighLevelClient client, String indexName, String refreshPolicy,
+      int bufferSizeInBytes, int maxInFlightRequests) {
     this.client = client;
     this.indexName = indexName;
     this.refreshPolicy = refreshPolicy;
-    this.baos = new ByteArrayOutputStream(bufferSizeInBytes);
+    this.baos = new BulkBuffer(bufferSizeInBytes);
+    if (maxInFlightRequests > 0) {
+      this.executor = ThreadUtils.newDaemonSingleThreadExecutor("flint-bulk-flush");
+      this.freeBuffers = new ArrayBlockingQueue<>(maxInFlightRequests);
+      for (int i = 0; i < maxInFlightRequests; i++) {
+        freeBuffers.add(new BulkBuffer(bufferSizeInBytes));
+      }
+    } else {
+      this.executor = null;
+      this.freeBuffers = null;
+    }
   }
 
+  /**
+   * Prefer {@link #getOutputStream()}, writing chars requires encoding them to UTF-8 first.
+   */
   @Override public void write(char[] cbuf, int off, int len) {
     byte[] bytes = new String(cbuf, off, len).getBytes(StandardCharsets.UTF_8);
     baos.write(bytes, 0, bytes.length);
   }
 
+  @Override public OutputStream getOutputStream() {
+    return outputStream;
+  }
+
   /**
-   * Flush the data in buffer.
-   * Todo. StringWriter is not efficient. it will copy the cbuf when create bytes.
+   * Flush the data in buffer. The bulk request is built on the buffer array without copy, the
+   * buffer is reused once the request completes.
    */
   @Override public void flush() {
-    try {
+    if (executor == null) {
+      try {
+        bulk(baos);
+      } finally {
+        baos.reset();
+      }
+    } else {
+      throwIfFailed();
       if (baos.size() > 0) {
-        byte[] bytes = baos.toByteArray();
-        BulkResponse
-            response =
-            client.bulk(
-                new BulkRequest(indexName).setRefreshPolicy(refreshPolicy).add(bytes, 0, bytes.length, XContentType.JSON),
-                RequestOptions.DEFAULT);
-        // fail entire bulk request even one doc failed.
-        if (response.hasFailures() && Arrays.stream(response.getItems()).anyMatch(itemResp -> !isCreateConflict(itemResp))) {
-          throw new RuntimeException(response.buildFailureMessage());
-        }
+        BulkBuffer buffer = baos;
+        baos = takeFreeBuffer();
+        inFlight.removeIf(Future::isDone);
+        inFlight.add(executor.submit(() -> {
+          try {
+            // skip batches queued after a failed one, the write task is going to fail anyway
+            if (failure.get() == null) {
+              bulk(buffer);
+            }
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            buffer.reset();
+            freeBuffers.add(buffer);
+          }
+        }));
       }
-    } catch (IOException e) {
-      throw new RuntimeException(String.format("Failed to execute bulk request on index: %s", indexName), e);
-    } finally {
-      baos.reset();
     }
   }
 
+  /**
+   * Wait for all in-flight bulk requests and rethrow the first failure.
+   */
+  @Override public void awaitFlush() {
+    while (!inFlight.isEmpty()) {
+      try {
+        inFlight.peek().get();
+        inFlight.poll();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for bulk requests", e);
+      } catch (ExecutionException e) {
+        inFlight.poll();
+        failure.compareAndSet(null, new RuntimeException(e.getCause()));
+      }
+    }
+    throwIfFailed();
+  }
+
   @Override public void close() {
     try {
+      if (executor != null && !executor.isShutdown()) {
+        // let in-flight bulk requests complete before the client is closed
+        executor.shutdown();
+        try {
+          if (!executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+          }
+        } catch (InterruptedException e) {
+          executor.shutdownNow();
+          Thread.currentThread().interrupt();
+        }
+      }
       if (client != null) {
         client.close();
         client = null;
@@ -86,10 +194,81 @@ public class OpenSearchWriter extends FlintWriter {
     return baos.size();
   }
 
+  private void bulk(BulkBuffer buffer) {
+    try {
+      if (buffer.size() > 0) {
+        metrics.addBulkRequest(buffer.size());
+        BulkResponse response;
+        try (FlintTaskMetrics.Scope ignored = metrics.activate()) {
+          response =
+              client.bulk(
+                  new BulkRequest(indexName).setRefreshPolicy(refreshPolicy).add(buffer.array(), 0, buffer.size(), XContentType.JSON),
+                  RequestOptions.DEFAULT);
+        }
+        // fail entire bulk request even one doc failed.
+        if (response.hasFailures() && Arrays.stream(response.getItems()).anyMatch(itemResp -> !isCreateConflict(itemResp))) {
+          throw new RuntimeException(response.buildFailureMessage());
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Failed to execute bulk request on index: %s", indexName), e);
+    }
+  }
+
+  private BulkBuffer takeFreeBuffer() {
+    try {
+      return freeBuffers.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for in-flight bulk requests", e);
+    }
+  }
+
+  private void throwIfFailed() {
+    RuntimeException e = failure.get();
+    if (e != null) {
+      throw e;
+    }
+  }
+
   private boolean isCreateConflict(BulkItemResponse itemResp) {
     return itemResp.getOpType() == DocWriteRequest.OpType.CREATE && (itemResp.getFailure() == null || itemResp.getFailure()
         .getStatus() == RestStatus.CONFLICT);
   }
+
+  /**
+   * {@link ByteArrayOutputStream} which exposes its internal array.
+   */
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+    BulkBuffer(int size) {
+      super(size);
+    }
+
+    byte[] array() {
+      return buf;
+    }
+  }
+
+  /**
+   * {@link OutputStream} writing into the bulk buffer, flush and close are delegated to the writer.
+   */
+  private final class BufferOutputStream extends OutputStream {
+    @Override public void write(int b) {
+      baos.write(b);
+    }
+
+    @Override public void write(byte[] b, int off, int len) {
+      baos.write(b, off, len);
+    }
+
+    @Override public void flush() {
+      OpenSearchWriter.this.flush();
+    }
+
+    @Override public void close() {
+      OpenSearchWriter.this.close();
+    }
+  }
 }
 
 
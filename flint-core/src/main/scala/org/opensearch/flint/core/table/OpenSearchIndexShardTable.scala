@@ -7,7 +7,7 @@ package org.opensearch.flint.core.table
 
 import org.opensearch.action.search.SearchRequest
 import org.opensearch.flint.core.{FlintOptions, MetaData, Table}
-import org.opensearch.flint.core.storage.{FlintReader, OpenSearchClientUtils, OpenSearchSearchAfterQueryReader}
+import org.opensearch.flint.core.storage.FlintReader
 import org.opensearch.search.builder.SearchSourceBuilder
 import org.opensearch.search.sort.SortOrder
 
@@ -28,16 +28,23 @@ class OpenSearchIndexShardTable(metaData: MetaData, option: FlintOptions, shardI
     throw new UnsupportedOperationException("Can't slice OpenSearchIndexShardTable")
   }
 
-  override def createReader(query: String): FlintReader = {
-    new OpenSearchSearchAfterQueryReader(
-      OpenSearchClientUtils.createClient(option),
+  override def createReader(
+      query: String,
+      fields: Option[Seq[String]],
+      limit: Option[Int],
+      sort: String): FlintReader = {
+    createSearchAfterReader(
       new SearchRequest()
         .indices(name)
         .source(
-          new SearchSourceBuilder()
-            .query(Table.queryBuilder(query))
-            .size(pageSize)
-            .sort("_doc", SortOrder.ASC))
-        .preference(s"_shards:$shardId"))
+          Table.fetchSource(
+            Table
+              .sort(new SearchSourceBuilder(), sort)
+              .query(Table.queryBuilder(query))
+              .size(searchSize(limit))
+              .sort("_doc", SortOrder.ASC),
+            fields))
+        .preference(s"_shards:$shardId"),
+      limit)
   }
 }
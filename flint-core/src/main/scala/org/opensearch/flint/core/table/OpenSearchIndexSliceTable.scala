@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.table
+
+import org.opensearch.action.search.SearchRequest
+import org.opensearch.flint.core.{FlintOptions, MetaData, Table}
+import org.opensearch.flint.core.storage.{FlintReader, OpenSearchClientUtils, OpenSearchPitSearchAfterQueryReader}
+import org.opensearch.search.builder.SearchSourceBuilder
+import org.opensearch.search.slice.SliceBuilder
+import org.opensearch.search.sort.SortOrder
+
+/**
+ * Represents a slice of an OpenSearch index read through a sliced point-in-time. The number of
+ * slices is a multiple of the number of shards, so each slice targets a single shard.
+ *
+ * @param metaData
+ *   MetaData containing information about the OpenSearch index.
+ * @param option
+ *   FlintOptions containing configuration options for the Flint client.
+ * @param pitId
+ *   Point-in-time id shared by all slices of the index.
+ * @param sliceId
+ *   Slice Id.
+ * @param maxSlices
+ *   Total number of slices.
+ */
+class OpenSearchIndexSliceTable(
+    metaData: MetaData,
+    option: FlintOptions,
+    val pitId: String,
+    val sliceId: Int,
+    val maxSlices: Int)
+    extends OpenSearchIndexTable(metaData, option) {
+
+  override def slice(): Seq[Table] = {
+    throw new UnsupportedOperationException("Can't slice OpenSearchIndexSliceTable")
+  }
+
+  override def createReader(
+      query: String,
+      fields: Option[Seq[String]],
+      limit: Option[Int],
+      sort: String): FlintReader = {
+    new OpenSearchPitSearchAfterQueryReader(
+      OpenSearchClientUtils.createClient(option),
+      name,
+      pitId,
+      option.getScrollDuration,
+      new SearchRequest()
+        .source(
+          Table.fetchSource(
+            Table
+              .sort(new SearchSourceBuilder(), sort)
+              .query(Table.queryBuilder(query))
+              .size(searchSize(limit))
+              .slice(new SliceBuilder(sliceId, maxSlices))
+              .sort("_doc", SortOrder.ASC),
+            fields)),
+      limit.map(_.toLong).getOrElse(Long.MaxValue))
+  }
+}
@@ -5,19 +5,31 @@
 
 package org.opensearch.flint.core.table
 
+import java.util.concurrent.{ScheduledExecutorService, ScheduledFuture, TimeUnit}
+
+import scala.collection.mutable
+import scala.util.Try
+
 import org.json4s.{Formats, NoTypeHints}
 import org.json4s.JsonAST.JString
 import org.json4s.jackson.JsonMethods
 import org.json4s.native.Serialization
 import org.opensearch.action.search.SearchRequest
+import org.opensearch.client.RequestOptions
+import org.opensearch.client.opensearch._types.Time
+import org.opensearch.client.opensearch.core.pit.{CreatePitRequest, DeletePitRequest}
 import org.opensearch.client.opensearch.indices.IndicesStatsRequest
 import org.opensearch.client.opensearch.indices.stats.IndicesStats
+import org.opensearch.common.unit.TimeValue
 import org.opensearch.flint.core._
-import org.opensearch.flint.core.storage.{FlintReader, OpenSearchClientUtils, OpenSearchSearchAfterQueryReader}
-import org.opensearch.flint.core.table.OpenSearchIndexTable.maxSplitSizeBytes
-import org.opensearch.search.builder.SearchSourceBuilder
+import org.opensearch.flint.core.storage.{FlintReader, OpenSearchClientUtils, OpenSearchCompositeAggregationReader, OpenSearchPrefetchSearchAfterQueryReader, OpenSearchSearchAfterQueryReader, OpenSearchStreamingSearchAfterQueryReader}
+import org.opensearch.flint.core.table.OpenSearchIndexTable.{maxSplitSizeBytes, pitRenewalExecutor}
+import org.opensearch.search.builder.{PointInTimeBuilder, SearchSourceBuilder}
 import org.opensearch.search.sort.SortOrder
 
+import org.apache.spark.internal.Logging
+import org.apache.spark.util.ThreadUtils
+
 /**
  * Represents an OpenSearch index.
  *
@@ -26,7 +38,9 @@ import org.opensearch.search.sort.SortOrder
  * @param option
  *   FlintOptions containing configuration options for the Flint client.
  */
-class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Table {
+class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions)
+    extends Table
+    with Logging {
   @transient implicit val formats: Formats = Serialization.formats(NoTypeHints)
 
   /**
@@ -37,12 +51,17 @@ class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Tab
   /**
    * The index stats.
    */
-  lazy val indexStats: IndicesStats =
-    OpenSearchClientUtils
-      .createClient(option)
-      .stats(new IndicesStatsRequest.Builder().index(name).build())
-      .indices()
-      .get(name)
+  lazy val indexStats: IndicesStats = {
+    val client = OpenSearchClientUtils.createClient(option)
+    try {
+      client
+        .stats(new IndicesStatsRequest.Builder().index(name).build())
+        .indices()
+        .get(name)
+    } finally {
+      client.close()
+    }
+  }
 
   /**
    * The page size for OpenSearch Rest Request.
@@ -73,6 +92,28 @@ class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Tab
     }
   }
 
+  /**
+   * The number of sliced point-in-time splits per shard. It is derived from the shard store size
+   * relative to read.split_size, and bounded so that each split reads at least one page. 1 if
+   * sub-shard slicing is disabled.
+   */
+  lazy val slicesPerShard: Int = {
+    val splitSizeBytes = option.getReadSplitSizeBytes
+    if (splitSizeBytes <= 0 || !option.supportShard()) {
+      1
+    } else {
+      val docCount = indexStats.primaries().docs().count()
+      if (docCount == 0) {
+        1
+      } else {
+        val shardSizeBytes = indexStats.primaries().store().sizeInBytes / numberOfShards
+        val bySize = Math.ceil(shardSizeBytes.toDouble / splitSizeBytes).toLong
+        val byDocCount = docCount / numberOfShards / pageSize
+        Math.max(Math.min(bySize, byDocCount), 1).toInt
+      }
+    }
+  }
+
   /**
    * The maximum result window for the index.
    */
@@ -84,11 +125,98 @@ class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Tab
   }
 
   /**
-   * Slices the table.
+   * Point-in-time ids created on driver for slices and not released yet, with their renewal.
+   */
+  @transient private lazy val slicePits = mutable.Map[String, ScheduledFuture[_]]()
+
+  /**
+   * Slices the table. Sliced point-in-time reads share a single point-in-time created here, so
+   * all slices read the same view of the index. The point-in-time is renewed on driver until the
+   * slices are released, so that it doesn't expire while slices are waiting to be scheduled.
    */
   override def slice(): Seq[Table] = {
-    Range(0, numberOfShards).map(shardId =>
-      new OpenSearchIndexShardTable(metaData, option, shardId))
+    if (slicesPerShard > 1) {
+      val maxSlices = numberOfShards * slicesPerShard
+      val pitId = createPit()
+      Range(0, maxSlices).map(sliceId =>
+        new OpenSearchIndexSliceTable(metaData, option, pitId, sliceId, maxSlices))
+    } else {
+      Range(0, numberOfShards).map(shardId =>
+        new OpenSearchIndexShardTable(metaData, option, shardId))
+    }
+  }
+
+  /**
+   * Stops renewing and deletes the point-in-time created for the slices.
+   */
+  override def releaseSlices(): Unit = {
+    val pits = slicePits.synchronized {
+      val released = slicePits.toList
+      slicePits.clear()
+      released
+    }
+    if (pits.nonEmpty) {
+      pits.foreach { case (_, renewal) => renewal.cancel(false) }
+      val client = OpenSearchClientUtils.createClient(option)
+      try {
+        pits.foreach { case (pitId, _) =>
+          Try(client.deletePit(new DeletePitRequest.Builder().pitId(pitId).build())).failed
+            .foreach(e => logWarning(s"Failed to delete PIT on $name", e))
+        }
+      } finally {
+        client.close()
+      }
+    }
+  }
+
+  private def createPit(): String = {
+    val client = OpenSearchClientUtils.createClient(option)
+    try {
+      val pitId = client
+        .createPit(
+          new CreatePitRequest.Builder()
+            .targetIndexes(name)
+            .keepAlive(new Time.Builder().time(s"${option.getScrollDuration}m").build())
+            .build())
+        .pitId()
+      logInfo(s"Created PIT on $name for slices")
+      // renew twice per keep alive, so that a slow renewal doesn't let the PIT expire
+      val periodSeconds = Math.max(option.getScrollDuration * 60L / 2, 1L)
+      val renewal = pitRenewalExecutor.scheduleAtFixedRate(
+        () => renewPit(pitId),
+        periodSeconds,
+        periodSeconds,
+        TimeUnit.SECONDS)
+      slicePits.synchronized {
+        slicePits += pitId -> renewal
+      }
+      pitId
+    } finally {
+      client.close()
+    }
+  }
+
+  /**
+   * Extends keep alive of the PIT by an empty search on it. A failure is rethrown to stop
+   * renewal, the slices then fail once they find the PIT gone.
+   */
+  private def renewPit(pitId: String): Unit = {
+    val client = OpenSearchClientUtils.createClient(option)
+    try {
+      client.search(
+        new SearchRequest().source(
+          new SearchSourceBuilder()
+            .size(0)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId)
+              .setKeepAlive(TimeValue.timeValueMinutes(option.getScrollDuration)))),
+        RequestOptions.DEFAULT)
+    } catch {
+      case e: Exception =>
+        logWarning(s"Failed to renew PIT on $name", e)
+        throw e
+    } finally {
+      client.close()
+    }
   }
 
   /**
@@ -99,19 +227,128 @@ class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Tab
    * @return
    *   A FlintReader instance.
    */
-  override def createReader(query: String): FlintReader = {
-    new OpenSearchSearchAfterQueryReader(
+  override def createReader(query: String): FlintReader = createReader(query, None, None, "")
+
+  /**
+   * Creates a reader for the table which fetches the given fields of at most limit docs in the
+   * given sort order.
+   *
+   * @param query
+   *   The query string.
+   * @param fields
+   *   The fields to fetch, or None to fetch all fields.
+   * @param limit
+   *   The maximum number of docs to fetch, or None to fetch all docs.
+   * @param sort
+   *   The sort DSL, or empty to read in index order.
+   * @return
+   *   A FlintReader instance.
+   */
+  override def createReader(
+      query: String,
+      fields: Option[Seq[String]],
+      limit: Option[Int],
+      sort: String): FlintReader = {
+    createSearchAfterReader(
+      new SearchRequest()
+        .indices(name)
+        .source(
+          Table.fetchSource(
+            Table
+              .sort(new SearchSourceBuilder(), sort)
+              .query(Table.queryBuilder(query))
+              .size(searchSize(limit))
+              .sort("_doc", SortOrder.ASC)
+              .sort("_id", SortOrder.ASC),
+            fields)),
+      limit)
+  }
+
+  /**
+   * Creates a reader for the buckets of composite aggregation on the whole index. The composite
+   * aggregation is paginated with after_key instead of sliced.
+   *
+   * @param query
+   *   The query string.
+   * @param aggregation
+   *   The aggregations with a single composite aggregation at top level.
+   * @return
+   *   A FlintReader instance.
+   */
+  override def createAggregationReader(query: String, aggregation: String): FlintReader = {
+    val composite = Table.compositeAggregationBuilder(aggregation)
+    new OpenSearchCompositeAggregationReader(
       OpenSearchClientUtils.createClient(option),
       new SearchRequest()
         .indices(name)
         .source(
           new SearchSourceBuilder()
             .query(Table.queryBuilder(query))
-            .size((pageSize))
-            .sort("_doc", SortOrder.ASC)
-            .sort("_id", SortOrder.ASC)))
+            .size(0)
+            .aggregation(composite)),
+      composite)
+  }
+
+  /**
+   * Statistics of the primary shards from index stats. None if index stats is unavailable, for
+   * example when the user is not permitted to call index stats API.
+   *
+   * @return
+   *   {@link Table.Statistics}
+   */
+  override def statistics(): Option[Table.Statistics] = {
+    Try(indexStats.primaries()).toOption.map(primaries =>
+      Table.Statistics(primaries.docs().count(), primaries.store().sizeInBytes))
+  }
+
+  /**
+   * Creates a search_after reader for the search request. Hits are parsed one by one from the
+   * response body if read.streaming.enabled, otherwise pages are prefetched in background if
+   * read.prefetch_pages is configured.
+   *
+   * @param request
+   *   The search request.
+   * @param limit
+   *   The maximum number of docs to fetch, or None to fetch all docs.
+   * @return
+   *   A FlintReader instance.
+   */
+  protected def createSearchAfterReader(
+      request: SearchRequest,
+      limit: Option[Int] = None): FlintReader = {
+    val prefetchPages = option.getReadPrefetchPages
+    val maxDocs = limit.map(_.toLong).getOrElse(Long.MaxValue)
+    if (option.isReadStreamingEnabled) {
+      new OpenSearchStreamingSearchAfterQueryReader(
+        OpenSearchClientUtils.createClient(option),
+        request,
+        maxDocs)
+    } else if (prefetchPages > 0) {
+      new OpenSearchPrefetchSearchAfterQueryReader(
+        OpenSearchClientUtils.createClient(option),
+        request,
+        prefetchPages,
+        maxDocs)
+    } else {
+      new OpenSearchSearchAfterQueryReader(
+        OpenSearchClientUtils.createClient(option),
+        request,
+        maxDocs)
+    }
   }
 
+  /**
+   * The search page size. It is the limit if smaller than page size, so that a small limit is
+   * read in one request without fetching more docs than needed.
+   *
+   * @param limit
+   *   The maximum number of docs to fetch.
+   * @return
+   *   The page size.
+   */
+  protected def searchSize(limit: Option[Int]): Int =
+    limit.map(Math.min(_, pageSize)).getOrElse(pageSize)
+
   /**
    * Returns the schema of the table.
    *
@@ -134,7 +371,7 @@ class OpenSearchIndexTable(metaData: MetaData, option: FlintOptions) extends Tab
    * @return
    *   true if splittable, otherwise false.
    */
-  override def isSplittable(): Boolean = numberOfShards > 1
+  override def isSplittable(): Boolean = numberOfShards > 1 || slicesPerShard > 1
 }
 
 object OpenSearchIndexTable {
@@ -143,4 +380,10 @@ object OpenSearchIndexTable {
    * Max OpenSearch Request Page size is 10MB.
    */
   val maxSplitSizeBytes = 10 * 1024 * 1024
+
+  /**
+   * Renews point-in-time shared by slices on driver.
+   */
+  private lazy val pitRenewalExecutor: ScheduledExecutorService =
+    ThreadUtils.newDaemonSingleThreadScheduledExecutor("flint-pit-renewal")
 }
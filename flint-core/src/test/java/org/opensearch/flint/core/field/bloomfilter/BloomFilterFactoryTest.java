@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.ADAPTIVE_NUMBER_CANDIDATE_KEY;
 import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.BLOOM_FILTER_ADAPTIVE_KEY;
+import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.BLOOM_FILTER_SPLIT_BLOCK_KEY;
 import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.CLASSIC_BLOOM_FILTER_FPP_KEY;
 import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY;
 import static org.opensearch.flint.core.field.bloomfilter.BloomFilterFactory.DEFAULT_ADAPTIVE_NUMBER_CANDIDATE;
@@ -22,6 +23,7 @@ import java.io.IOException;
 import java.util.Map;
 import org.junit.Test;
 import org.opensearch.flint.core.field.bloomfilter.adaptive.AdaptiveBloomFilter;
+import org.opensearch.flint.core.field.bloomfilter.blocked.SplitBlockBloomFilter;
 import org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter;
 
 public class BloomFilterFactoryTest {
@@ -78,6 +80,20 @@ public class BloomFilterFactoryTest {
     assertEquals(parameters, factory.getParameters());
   }
 
+  @Test
+  public void shouldCreateSplitBlockBloomFilterWithParameters() {
+    Map<String, String> parameters =
+        Map.of(
+            BLOOM_FILTER_ADAPTIVE_KEY, "false",
+            BLOOM_FILTER_SPLIT_BLOCK_KEY, "true",
+            CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY, "20000",
+            CLASSIC_BLOOM_FILTER_FPP_KEY, "0.02");
+    BloomFilterFactory factory = BloomFilterFactory.of(parameters);
+
+    assertInstanceOf(SplitBlockBloomFilter.class, factory.create());
+    assertEquals(parameters, factory.getParameters());
+  }
+
   @Test
   public void deserializeAdaptiveBloomFilter() throws IOException {
     ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -103,4 +119,18 @@ public class BloomFilterFactoryTest {
     BloomFilterFactory factory = BloomFilterFactory.of(Map.of(BLOOM_FILTER_ADAPTIVE_KEY, "false"));
     assertInstanceOf(ClassicBloomFilter.class, factory.deserialize(in));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void deserializeSplitBlockBloomFilter() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new SplitBlockBloomFilter(
+        DEFAULT_CLASSIC_BLOOM_FILTER_NUM_ITEMS,
+        DEFAULT_CLASSIC_BLOOM_FILTER_FPP
+    ).writeTo(out);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    BloomFilterFactory factory = BloomFilterFactory.of(
+        Map.of(BLOOM_FILTER_ADAPTIVE_KEY, "false", BLOOM_FILTER_SPLIT_BLOCK_KEY, "true"));
+    assertInstanceOf(SplitBlockBloomFilter.class, factory.deserialize(in));
+  }
+}
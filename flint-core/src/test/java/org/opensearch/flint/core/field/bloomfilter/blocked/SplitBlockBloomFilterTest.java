@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.field.bloomfilter.blocked;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.Test;
+import org.opensearch.flint.core.field.bloomfilter.BloomFilter;
+import org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter;
+
+public class SplitBlockBloomFilterTest {
+
+  private final SplitBlockBloomFilter bloomFilter = new SplitBlockBloomFilter(1000, 0.01);
+
+  private static final double ACCEPTABLE_FALSE_POSITIVE_RATE = 0.02;
+
+  @Test
+  public void shouldReturnNoFalseNegative() {
+    for (long i = 0; i < 1000; i++) {
+      bloomFilter.put(i * 7);
+    }
+
+    // For items added, expect no false negative
+    for (long i = 0; i < 1000; i++) {
+      assertTrue(bloomFilter.mightContain(i * 7));
+    }
+  }
+
+  @Test
+  public void shouldReturnFalsePositiveLessThanConfigured() {
+    for (long i = 0; i < 1000; i++) {
+      bloomFilter.put(i);
+    }
+
+    // For items not added, expect false positives close to configured 1%
+    int numElements = 100000;
+    int falsePositiveCount = 0;
+    for (int i = 0; i < numElements; i++) {
+      long element = 1000L + i;
+      if (bloomFilter.mightContain(element)) {
+        falsePositiveCount++;
+      }
+    }
+
+    double actualFalsePositiveRate = (double) falsePositiveCount / numElements;
+    assertTrue(actualFalsePositiveRate <= ACCEPTABLE_FALSE_POSITIVE_RATE,
+        "Actual false positive rate is higher than expected");
+  }
+
+  @Test
+  public void shouldBeTheSameAfterMerge() {
+    SplitBlockBloomFilter other = new SplitBlockBloomFilter(1000, 0.01);
+    SplitBlockBloomFilter expected = new SplitBlockBloomFilter(1000, 0.01);
+    for (long i = 0; i < 100; i++) {
+      expected.put(i);
+      if (i % 2 == 0) {
+        bloomFilter.put(i);
+      } else {
+        other.put(i);
+      }
+    }
+    assertEquals(expected, bloomFilter.merge(other));
+  }
+
+  @Test
+  public void shouldBeTheSameAfterWriteToAndReadFrom() throws IOException {
+    bloomFilter.put(123L);
+    bloomFilter.put(456L);
+    bloomFilter.put(789L);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bloomFilter.writeTo(out);
+    InputStream in = new ByteArrayInputStream(out.toByteArray());
+    BloomFilter newBloomFilter = SplitBlockBloomFilter.readFrom(in);
+    assertEquals(bloomFilter, newBloomFilter);
+  }
+
+  @Test
+  public void shouldBeTheSameWhenCheckOnSerializedBytes() throws IOException {
+    ClassicBloomFilter classicBloomFilter = new ClassicBloomFilter(1000, 0.01);
+    for (long i = 0; i < 100; i++) {
+      bloomFilter.put(i * 7);
+      classicBloomFilter.put(i * 7);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bloomFilter.writeTo(out);
+    byte[] bytes = out.toByteArray();
+    ByteArrayOutputStream classicOut = new ByteArrayOutputStream();
+    classicBloomFilter.writeTo(classicOut);
+    byte[] classicBytes = classicOut.toByteArray();
+
+    // Serialized bloom filter of both versions can be checked without knowing its version
+    for (long i = -1000; i < 1000; i++) {
+      assertEquals(bloomFilter.mightContain(i), SplitBlockBloomFilter.mightContain(bytes, i));
+      assertEquals(bloomFilter.mightContain(i), BloomFilter.mightContain(bytes, i));
+      assertEquals(classicBloomFilter.mightContain(i), BloomFilter.mightContain(classicBytes, i));
+    }
+  }
+}
@@ -5,13 +5,27 @@
 
 package org.opensearch.flint.core.field.bloomfilter.classic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.spark.SparkConf;
+import org.apache.spark.TaskContext;
+import org.apache.spark.memory.SparkOutOfMemoryError;
+import org.apache.spark.memory.TaskMemoryManager;
+import org.apache.spark.memory.UnifiedMemoryManager;
 import org.junit.Test;
 import org.opensearch.flint.core.field.bloomfilter.BloomFilter;
 
@@ -66,4 +80,122 @@ public class ClassicBloomFilterTest {
     BloomFilter newBloomFilter = ClassicBloomFilter.readFrom(in);
     assertEquals(bloomFilter, newBloomFilter);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldBeTheSameWhenCheckOnSerializedBytes() throws IOException {
+    for (long i = 0; i < 100; i++) {
+      bloomFilter.put(i * 7);
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bloomFilter.writeTo(out);
+    byte[] bytes = out.toByteArray();
+    for (long i = -1000; i < 1000; i++) {
+      assertEquals(bloomFilter.mightContain(i), ClassicBloomFilter.mightContain(bytes, i));
+    }
+  }
+
+  @Test
+  public void shouldBeTheSameWithOffHeapBitArray() throws IOException {
+    TaskMemoryManager memoryManager = taskMemoryManager(true, 1 << 20);
+    TaskContext context = mock(TaskContext.class);
+    when(context.taskMemoryManager()).thenReturn(memoryManager);
+    TaskContext.setTaskContext(context);
+    try {
+      assertSameWithOffHeapBitArray(memoryManager);
+    } finally {
+      TaskContext.unset();
+    }
+  }
+
+  private void assertSameWithOffHeapBitArray(TaskMemoryManager memoryManager)
+      throws IOException {
+    ClassicBloomFilter offHeapBloomFilter = new ClassicBloomFilter(100, 0.01, true);
+    ClassicBloomFilter other = new ClassicBloomFilter(100, 0.01, true);
+    assertTrue(memoryManager.getMemoryConsumptionForThisTask() > 0);
+    for (long i = 0; i < 100; i++) {
+      bloomFilter.put(i * 7);
+      if (i % 2 == 0) {
+        offHeapBloomFilter.put(i * 7);
+      } else {
+        other.put(i * 7);
+      }
+    }
+    offHeapBloomFilter.merge(other);
+    assertEquals(bloomFilter, offHeapBloomFilter);
+
+    // Serialized format is the same as on-heap bit array
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    bloomFilter.writeTo(expected);
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    offHeapBloomFilter.writeTo(actual);
+    assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+
+    BloomFilter newBloomFilter =
+        ClassicBloomFilter.readFrom(new ByteArrayInputStream(actual.toByteArray()), true);
+    assertEquals(bloomFilter, newBloomFilter);
+    for (long i = -1000; i < 1000; i++) {
+      assertEquals(bloomFilter.mightContain(i), newBloomFilter.mightContain(i));
+    }
+    offHeapBloomFilter.close();
+    other.close();
+    newBloomFilter.close();
+    assertEquals(0, memoryManager.getMemoryConsumptionForThisTask());
+  }
+
+  @Test
+  public void shouldReturnNoFalseNegativeWhenCheckedConcurrently() throws Exception {
+    ClassicBloomFilter filter = new ClassicBloomFilter(10000, 0.01);
+    for (long i = 0; i < 10000; i++) {
+      filter.put(i);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(executor.submit(() -> {
+          boolean allFound = true;
+          for (long i = 0; i < 10000; i++) {
+            allFound &= filter.mightContain(i);
+          }
+          return allFound;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldAllocateOffHeapBitArrayFromTaskMemoryManager() {
+    TaskMemoryManager memoryManager = taskMemoryManager(true, 1024);
+    BitArray array = OffHeapBitArray.allocate(2, memoryManager);
+    assertTrue(array instanceof OffHeapBitArray);
+    assertEquals(16, memoryManager.getMemoryConsumptionForThisTask());
+    assertEquals(0L, array.word(0));
+    assertEquals(0L, array.word(1));
+
+    array.close();
+    assertEquals(0, memoryManager.getMemoryConsumptionForThisTask());
+
+    // Bit array can't be spilled, so task fails rather than exceeding off-heap memory
+    assertThrows(SparkOutOfMemoryError.class, () -> OffHeapBitArray.allocate(1024, memoryManager));
+  }
+
+  @Test
+  public void shouldAllocateOnHeapBitArrayIfSparkOffHeapMemoryDisabled() {
+    assertTrue(OffHeapBitArray.allocate(2, taskMemoryManager(false, 0)) instanceof OnHeapBitArray);
+    assertTrue(BitArray.allocate(64, true) instanceof OnHeapBitArray);
+  }
+
+  private static TaskMemoryManager taskMemoryManager(boolean offHeapEnabled, long offHeapSize) {
+    SparkConf conf = new SparkConf()
+        .set("spark.memory.offHeap.enabled", Boolean.toString(offHeapEnabled))
+        .set("spark.memory.offHeap.size", Long.toString(offHeapSize));
+    return new TaskMemoryManager(new UnifiedMemoryManager(conf, 1L << 20, 1L << 19, 1), 0);
+  }
+}
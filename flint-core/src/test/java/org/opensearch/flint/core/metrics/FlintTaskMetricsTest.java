@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.metrics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class FlintTaskMetricsTest {
+
+  @Test
+  public void testCounters_ShouldAccumulateRecordedValues() {
+    FlintTaskMetrics metrics = new FlintTaskMetrics();
+    metrics.addPageFetched();
+    metrics.addPageFetched();
+    metrics.addHitBytes(100);
+    metrics.addParseTimeNanos(10);
+    metrics.addBulkRequest(1000);
+    metrics.addBulkRequest(500);
+    metrics.addRetriedItems(3);
+    metrics.addThrottleWaitNanos(20);
+
+    assertEquals(2, metrics.getPagesFetched());
+    assertEquals(100, metrics.getHitBytes());
+    assertEquals(10, metrics.getParseTimeNanos());
+    assertEquals(2, metrics.getBulkRequests());
+    assertEquals(1500, metrics.getBulkBytes());
+    assertEquals(3, metrics.getRetriedItems());
+    assertEquals(20, metrics.getThrottleWaitNanos());
+  }
+
+  @Test
+  public void testActivate_ShouldRestorePreviousMetricsOnClose() {
+    FlintTaskMetrics outer = new FlintTaskMetrics();
+    FlintTaskMetrics inner = new FlintTaskMetrics();
+    assertNull(FlintTaskMetrics.current());
+
+    try (FlintTaskMetrics.Scope ignored = outer.activate()) {
+      assertSame(outer, FlintTaskMetrics.current());
+      try (FlintTaskMetrics.Scope ignored2 = inner.activate()) {
+        assertSame(inner, FlintTaskMetrics.current());
+      }
+      assertSame(outer, FlintTaskMetrics.current());
+    }
+    assertNull(FlintTaskMetrics.current());
+  }
+
+  @Test
+  public void testActivate_ShouldNotLeakToOtherThreads() throws InterruptedException {
+    FlintTaskMetrics metrics = new FlintTaskMetrics();
+    FlintTaskMetrics[] seen = new FlintTaskMetrics[1];
+    try (FlintTaskMetrics.Scope ignored = metrics.activate()) {
+      Thread thread = new Thread(() -> seen[0] = FlintTaskMetrics.current());
+      thread.start();
+      thread.join();
+    }
+    assertNull(seen[0]);
+  }
+}
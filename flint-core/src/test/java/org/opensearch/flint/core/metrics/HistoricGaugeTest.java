@@ -76,4 +76,94 @@ public class HistoricGaugeTest {
 
     assertTrue(dataPoints.isEmpty());
   }
+
+  @Test
+  public void testAddDataPoint_BufferFullWithAggregatePolicy_ShouldAggregateOverflow() {
+    HistoricGauge gauge = new HistoricGauge(2, HistoricGauge.OverflowPolicy.AGGREGATE, false);
+    gauge.addDataPoint(100L);
+    gauge.addDataPoint(200L);
+    gauge.addDataPoint(300L);
+    gauge.addDataPoint(50L);
+
+    List<DataPoint> dataPoints = gauge.pollDataPoints();
+    assertEquals(2, dataPoints.size());
+    assertEquals(Long.valueOf(100L), dataPoints.get(0).getValue());
+    assertEquals(Long.valueOf(200L), dataPoints.get(1).getValue());
+
+    HistoricGauge.Aggregate aggregate = gauge.pollAggregate();
+    assertEquals(new HistoricGauge.Aggregate(2, 350, 50, 300), aggregate);
+    assertNull(gauge.pollAggregate());
+  }
+
+  @Test
+  public void testAddDataPoint_BufferFullWithDropPolicy_ShouldDropOverflow() {
+    HistoricGauge gauge = new HistoricGauge(2, HistoricGauge.OverflowPolicy.DROP, false);
+    gauge.addDataPoint(100L);
+    gauge.addDataPoint(200L);
+    gauge.addDataPoint(300L);
+
+    assertEquals(2, gauge.pollDataPoints().size());
+    assertNull(gauge.pollAggregate());
+    assertEquals(1, gauge.pollDroppedCount());
+    assertEquals(0, gauge.pollDroppedCount());
+
+    // buffer is reusable once polled
+    gauge.addDataPoint(400L);
+    assertEquals(Long.valueOf(400L), gauge.pollDataPoints().get(0).getValue());
+  }
+
+  @Test
+  public void testAddDataPoint_PreAggregate_ShouldNotBufferDataPoints() {
+    HistoricGauge gauge = new HistoricGauge(HistoricGauge.DEFAULT_CAPACITY,
+        HistoricGauge.OverflowPolicy.AGGREGATE, true);
+    gauge.addDataPoint(100L);
+    gauge.addDataPoint(300L);
+
+    assertEquals(Long.valueOf(300L), gauge.getValue());
+    assertTrue(gauge.pollDataPoints().isEmpty());
+    assertEquals(new HistoricGauge.Aggregate(2, 400, 100, 300), gauge.pollAggregate());
+  }
+
+  @Test
+  public void testAddDataPoint_Concurrently_ShouldNotLoseDataPoints() throws InterruptedException {
+    HistoricGauge gauge = new HistoricGauge(64, HistoricGauge.OverflowPolicy.AGGREGATE, false);
+    int numThreads = 4;
+    int numPerThread = 10000;
+    Thread[] threads = new Thread[numThreads];
+    for (int i = 0; i < numThreads; i++) {
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < numPerThread; j++) {
+          gauge.addDataPoint(1L);
+        }
+      });
+      threads[i].start();
+    }
+
+    long total = 0;
+    boolean running = true;
+    while (running) {
+      running = false;
+      for (Thread thread : threads) {
+        running |= thread.isAlive();
+      }
+      for (DataPoint dataPoint : gauge.pollDataPoints()) {
+        total += dataPoint.getValue();
+      }
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    total += gauge.pollDataPoints().size();
+    HistoricGauge.Aggregate aggregate = gauge.pollAggregate();
+    if (aggregate != null) {
+      total += aggregate.getSum();
+    }
+
+    assertEquals((long) numThreads * numPerThread, total);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_InvalidCapacity_ShouldThrow() {
+    new HistoricGauge(0, HistoricGauge.OverflowPolicy.DROP, false);
+  }
 }
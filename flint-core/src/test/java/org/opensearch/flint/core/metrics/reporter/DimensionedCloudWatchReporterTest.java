@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.opensearch.flint.core.metrics.HistoricGauge;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -390,6 +391,43 @@ public class DimensionedCloudWatchReporterTest {
         assertThat(metricData.getUnit()).isEqualTo(Microseconds.toString());
     }
 
+    @Test
+    public void shouldReportAggregatedHistoricGaugeAsStatisticSet() throws Exception {
+        final HistoricGauge gauge = new HistoricGauge(1, HistoricGauge.OverflowPolicy.AGGREGATE, true);
+        gauge.addDataPoint(1L);
+        gauge.addDataPoint(5L);
+        gauge.addDataPoint(3L);
+        metricRegistry.register(ARBITRARY_GAUGE_NAME, gauge);
+        reporterBuilder.build().report();
+
+        final MetricDatum metricData = firstMetricDatumFromCapturedRequest();
+
+        assertThat(metricData.getMetricName()).isEqualTo(ARBITRARY_GAUGE_NAME);
+        assertThat(metricData.getDimensions()).contains(new Dimension().withName(DIMENSION_NAME_TYPE).withValue(DIMENSION_GAUGE));
+        assertThat(metricData.getStatisticValues().getSum().intValue()).isEqualTo(9);
+        assertThat(metricData.getStatisticValues().getMaximum().intValue()).isEqualTo(5);
+        assertThat(metricData.getStatisticValues().getMinimum().intValue()).isEqualTo(1);
+        assertThat(metricData.getStatisticValues().getSampleCount().intValue()).isEqualTo(3);
+        assertThat(gauge.pollAggregate()).isNull();
+    }
+
+    @Test
+    public void shouldReportDroppedDataPointsOfHistoricGauge() throws Exception {
+        final HistoricGauge gauge = new HistoricGauge(1, HistoricGauge.OverflowPolicy.DROP, false);
+        gauge.addDataPoint(1L);
+        gauge.addDataPoint(2L);
+        gauge.addDataPoint(3L);
+        metricRegistry.register(ARBITRARY_GAUGE_NAME, gauge);
+        reporterBuilder.build().report();
+
+        final MetricDatum metricData = metricDatumByDimensionFromCapturedRequest(DIMENSION_COUNT);
+
+        assertThat(metricData.getMetricName()).isEqualTo(ARBITRARY_GAUGE_NAME + ".dropped");
+        assertThat(metricData.getValue().intValue()).isEqualTo(2);
+        assertThat(metricData.getUnit()).isEqualTo(Count.toString());
+        assertThat(gauge.pollDroppedCount()).isEqualTo(0L);
+    }
+
     @Test
     public void shouldReportArithmeticMeanWithoutConversionWhenReportingHistogram() throws Exception {
         metricRegistry.histogram(DimensionedCloudWatchReporterTest.ARBITRARY_HISTOGRAM_NAME).update(1);
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.flint.core.FlintOptions;
+
+class AdaptiveBulkControllerTest {
+  FlintOptions adaptiveOptions = new FlintOptions(Map.of(
+      FlintOptions.BULK_ADAPTIVE_ENABLED, "true",
+      FlintOptions.BULK_REQUEST_RATE_LIMIT_PER_NODE, "10",
+      FlintOptions.BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE, "2",
+      FlintOptions.BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE, "11",
+      FlintOptions.BATCH_BYTES, "1mb",
+      FlintOptions.BULK_ADAPTIVE_MAX_BATCH_BYTES, "2mb",
+      FlintOptions.BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS, "1000"));
+
+  @Test
+  void increaseAdditivelyWhenLatencyIsHealthy() {
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(adaptiveOptions);
+    AdaptiveBulkController controller = new AdaptiveBulkController(adaptiveOptions, limiter);
+
+    controller.onSuccess(100);
+    assertEquals(11, limiter.getRate());
+    assertEquals(1024 * 1024 + AdaptiveBulkController.BATCH_BYTES_STEP, controller.getBatchBytes());
+
+    // bounded by max rate and max batch bytes
+    for (int i = 0; i < 100; i++) {
+      controller.onSuccess(100);
+    }
+    assertEquals(11, limiter.getRate());
+    assertEquals(2 * 1024 * 1024, controller.getBatchBytes());
+  }
+
+  @Test
+  void holdWhenLatencyExceedsThreshold() {
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(adaptiveOptions);
+    AdaptiveBulkController controller = new AdaptiveBulkController(adaptiveOptions, limiter);
+
+    controller.onSuccess(5000);
+    assertEquals(10, limiter.getRate());
+    assertEquals(1024 * 1024, controller.getBatchBytes());
+  }
+
+  @Test
+  void decreaseMultiplicativelyOnRejection() {
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(adaptiveOptions);
+    AdaptiveBulkController controller = new AdaptiveBulkController(adaptiveOptions, limiter, 0);
+
+    controller.onRejection();
+    assertEquals(5, limiter.getRate());
+    assertEquals(512 * 1024, controller.getBatchBytes());
+
+    // bounded by min rate and min batch bytes
+    for (int i = 0; i < 10; i++) {
+      controller.onRejection();
+    }
+    assertEquals(2, limiter.getRate());
+    assertEquals(AdaptiveBulkController.MIN_BATCH_BYTES, controller.getBatchBytes());
+  }
+
+  @Test
+  void decreaseOncePerCooldownWindow() {
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(adaptiveOptions);
+    AdaptiveBulkController controller = new AdaptiveBulkController(adaptiveOptions, limiter);
+
+    controller.onRejection();
+    controller.onRejection();
+    controller.onRejection();
+    assertEquals(5, limiter.getRate());
+    assertEquals(512 * 1024, controller.getBatchBytes());
+  }
+
+  @Test
+  void doNothingWhenDisabled() {
+    FlintOptions options = new FlintOptions(Map.of(FlintOptions.BATCH_BYTES, "1mb"));
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(options);
+    AdaptiveBulkController controller = new AdaptiveBulkController(options, limiter);
+
+    assertFalse(controller.isEnabled());
+    controller.onSuccess(1);
+    controller.onRejection();
+    assertEquals(0, limiter.getRate());
+    assertEquals(1024 * 1024, controller.getBatchBytes());
+  }
+
+  @Test
+  void startFromMaxRateWhenRateLimitIsNotSet() {
+    FlintOptions options = new FlintOptions(Map.of(
+        FlintOptions.BULK_ADAPTIVE_ENABLED, "true",
+        FlintOptions.BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE, "50"));
+    BulkRequestRateLimiter limiter = new BulkRequestRateLimiter(options);
+    AdaptiveBulkController controller = new AdaptiveBulkController(options, limiter);
+
+    assertTrue(controller.isEnabled());
+    assertEquals(50, limiter.getRate());
+  }
+}
@@ -29,6 +29,7 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.flint.core.http.FlintRetryOptions;
+import org.opensearch.flint.core.metrics.FlintTaskMetrics;
 import org.opensearch.flint.core.metrics.MetricConstants;
 import org.opensearch.flint.core.metrics.MetricsTestUtil;
 import org.opensearch.rest.RestStatus;
@@ -131,6 +132,25 @@ class OpenSearchBulkRetryWrapperTest {
     });
   }
 
+  @Test
+  public void withRetryWhenCallFailOnceShouldRecordRetriedItems() throws Exception {
+    OpenSearchBulkRetryWrapper bulkRetryWrapper = new OpenSearchBulkRetryWrapper(
+        retryOptionsWithRetry);
+    when(client.bulk(any(), eq(options)))
+        .thenReturn(failureResponse)
+        .thenReturn(successResponse);
+    mockFailureResponse();
+    when(successResponse.hasFailures()).thenReturn(false);
+    when(bulkRequest.requests()).thenReturn(ImmutableList.of(indexRequest0, indexRequest1));
+
+    FlintTaskMetrics metrics = new FlintTaskMetrics();
+    try (FlintTaskMetrics.Scope ignored = metrics.activate()) {
+      bulkRetryWrapper.bulkWithPartialRetry(client, bulkRequest, options);
+    }
+
+    assertEquals(1, metrics.getRetriedItems());
+  }
+
   @Test
   public void withRetryWhenAllCallFail() throws Exception {
     MetricsTestUtil.withMetricEnv(verifier -> {
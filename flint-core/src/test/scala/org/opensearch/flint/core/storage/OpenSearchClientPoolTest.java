@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.flint.core.FlintOptions;
+import org.opensearch.flint.core.IRestHighLevelClient;
+
+class OpenSearchClientPoolTest {
+
+  @AfterEach
+  void cleanUp() {
+    OpenSearchClientPool.closeAll();
+  }
+
+  @Test
+  void shareClientOfSameOptions() throws Exception {
+    IRestHighLevelClient client1 = OpenSearchClientUtils.createClient(pooledOptions("9200", "0"));
+    IRestHighLevelClient client2 = OpenSearchClientUtils.createClient(pooledOptions("9200", "0"));
+    assertEquals(1, OpenSearchClientPool.size());
+
+    IRestHighLevelClient client3 = OpenSearchClientUtils.createClient(pooledOptions("9201", "0"));
+    assertEquals(2, OpenSearchClientPool.size());
+
+    client1.close();
+    client1.close(); // release only once
+    assertEquals(2, OpenSearchClientPool.size());
+    client2.close();
+    assertEquals(1, OpenSearchClientPool.size());
+    client3.close();
+    assertEquals(0, OpenSearchClientPool.size());
+  }
+
+  @Test
+  void keepIdleClientAlive() throws Exception {
+    OpenSearchClientUtils.createClient(pooledOptions("9200", "60000")).close();
+    assertEquals(1, OpenSearchClientPool.size());
+
+    // Reuse idle client instead of creating new one
+    IRestHighLevelClient client = OpenSearchClientUtils.createClient(pooledOptions("9200", "60000"));
+    assertEquals(1, OpenSearchClientPool.size());
+    client.close();
+  }
+
+  @Test
+  void doNotPoolClientByDefault() throws Exception {
+    IRestHighLevelClient client = OpenSearchClientUtils.createClient(
+        new FlintOptions(Map.of(FlintOptions.PORT, "9200")));
+    assertEquals(0, OpenSearchClientPool.size());
+    client.close();
+  }
+
+  private static FlintOptions pooledOptions(String port, String keepAliveMillis) {
+    return new FlintOptions(Map.of(
+        FlintOptions.PORT, port,
+        FlintOptions.CLIENT_POOL_ENABLED, "true",
+        FlintOptions.CLIENT_POOL_KEEP_ALIVE_MILLIS, keepAliveMillis));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchPrefetchSearchAfterQueryReaderTest {
+
+  @Mock
+  IRestHighLevelClient client;
+
+  @Test
+  public void readAllPagesInOrder() throws Exception {
+    SearchResponse page1 = page(0, 1);
+    SearchResponse page2 = page(2);
+    SearchResponse lastPage = page();
+    when(client.search(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenReturn(page1, page2, lastPage);
+
+    OpenSearchReader reader =
+        new OpenSearchPrefetchSearchAfterQueryReader(client, searchRequest(), 2);
+    List<String> docs = new ArrayList<>();
+    while (reader.hasNext()) {
+      docs.add(reader.next());
+    }
+    reader.close();
+
+    assertEquals(List.of(doc(0), doc(1), doc(2)), docs);
+    assertFalse(reader.hasNext());
+    verify(client).close();
+  }
+
+  @Test
+  public void surfaceSearchFailure() throws Exception {
+    SearchResponse page1 = page(0);
+    when(client.search(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenReturn(page1)
+        .thenThrow(new IOException("search failed"));
+
+    OpenSearchReader reader =
+        new OpenSearchPrefetchSearchAfterQueryReader(client, searchRequest(), 1);
+    assertTrue(reader.hasNext());
+    assertEquals(doc(0), reader.next());
+    assertThrows(RuntimeException.class, reader::hasNext);
+    reader.close();
+  }
+
+  private static SearchRequest searchRequest() {
+    return new SearchRequest().indices("test").source(new SearchSourceBuilder());
+  }
+
+  private static String doc(int id) {
+    return "{\"id\":" + id + "}";
+  }
+
+  private static SearchResponse page(int... ids) {
+    SearchHit[] hits = new SearchHit[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      hits[i] = new SearchHit(ids[i]);
+      hits[i].sourceRef(new BytesArray(doc(ids[i])));
+      hits[i].sortValues(new Object[] {ids[i]}, new DocValueFormat[] {DocValueFormat.RAW});
+    }
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(new SearchHits(hits, new TotalHits(ids.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+    return response;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+
+class OpenSearchReaderTest {
+
+  private static final String DOC = "{\"id\":0}";
+
+  @Test
+  public void readSourceBytes() {
+    SearchHit hit = new SearchHit(0);
+    hit.sourceRef(new BytesArray(DOC));
+    OpenSearchReader reader = reader(hit);
+
+    assertTrue(reader.hasNext());
+    assertEquals(DOC, new String(reader.nextBytes(), StandardCharsets.UTF_8));
+    assertEquals(DOC.length(), reader.metrics().getHitBytes());
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void readNullSourceBytes() {
+    OpenSearchReader reader = reader(new SearchHit(0));
+
+    assertTrue(reader.hasNext());
+    assertNull(reader.nextBytes());
+    assertEquals(0, reader.metrics().getHitBytes());
+  }
+
+  /**
+   * Reader that returns the given hits in a single page.
+   */
+  private static OpenSearchReader reader(SearchHit... hits) {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits())
+        .thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+
+    return new OpenSearchReader(mock(IRestHighLevelClient.class), new SearchRequest()) {
+      private boolean searched = false;
+
+      @Override
+      Optional<SearchResponse> search(SearchRequest request) {
+        if (searched) {
+          return Optional.empty();
+        }
+        searched = true;
+        return Optional.of(response);
+      }
+
+      @Override
+      void clean() {
+      }
+    };
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.flint.core.IRestHighLevelClient;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchStreamingSearchAfterQueryReaderTest {
+
+  @Mock
+  IRestHighLevelClient client;
+
+  @Test
+  public void readAllPagesInOrder() throws Exception {
+    when(client.searchAsStream(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenReturn(page(0, 1), page(2), page());
+
+    SearchRequest request = searchRequest();
+    OpenSearchStreamingSearchAfterQueryReader reader =
+        new OpenSearchStreamingSearchAfterQueryReader(client, request, Long.MAX_VALUE);
+    List<String> docs = new ArrayList<>();
+    while (reader.hasNext()) {
+      docs.add(reader.next());
+    }
+    reader.close();
+
+    assertEquals(List.of(doc(0), doc(1), doc(2)), docs);
+    assertArrayEquals(new Object[] {2}, request.source().searchAfter());
+    assertFalse(reader.hasNext());
+    verify(client).close();
+  }
+
+  @Test
+  public void stopSearchOnceLimitIsReached() throws Exception {
+    when(client.searchAsStream(any(SearchRequest.class), any(RequestOptions.class)))
+        .thenReturn(page(0, 1));
+
+    OpenSearchStreamingSearchAfterQueryReader reader =
+        new OpenSearchStreamingSearchAfterQueryReader(client, searchRequest(), 1);
+    List<String> docs = new ArrayList<>();
+    while (reader.hasNext()) {
+      docs.add(new String(reader.nextBytes(), StandardCharsets.UTF_8));
+    }
+    reader.close();
+
+    assertEquals(List.of(doc(0)), docs);
+    verify(client, times(1)).searchAsStream(any(SearchRequest.class), any(RequestOptions.class));
+  }
+
+  private static SearchRequest searchRequest() {
+    return new SearchRequest().indices("test").source(new SearchSourceBuilder());
+  }
+
+  private static String doc(int id) {
+    return "{\"id\":" + id + ",\"tags\":[\"a\",{\"b\":null}]}";
+  }
+
+  private static InputStream page(int... ids) {
+    StringBuilder hits = new StringBuilder();
+    for (int id : ids) {
+      if (hits.length() > 0) {
+        hits.append(',');
+      }
+      hits.append("{\"_index\":\"test\",\"_id\":\"").append(id).append("\",\"_score\":null,")
+          .append("\"_source\":").append(doc(id)).append(",\"sort\":[").append(id).append("]}");
+    }
+    String body = "{\"took\":1,\"timed_out\":false,"
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+        + "\"hits\":{\"total\":{\"value\":" + ids.length + ",\"relation\":\"eq\"},"
+        + "\"max_score\":null,\"hits\":[" + hits + "]}}";
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
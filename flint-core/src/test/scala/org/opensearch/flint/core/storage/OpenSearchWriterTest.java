@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.flint.core.IRestHighLevelClient;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchWriterTest {
+
+  private static final String DOC =
+      "{\"create\":{}}\n{\"name\":\"test\"}\n";
+
+  @Mock
+  IRestHighLevelClient client;
+  @Mock
+  BulkResponse successResponse;
+
+  @Test
+  public void flushSynchronously() throws Exception {
+    when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenReturn(successResponse);
+    when(successResponse.hasFailures()).thenReturn(false);
+
+    OpenSearchWriter writer = new OpenSearchWriter(client, "test", "false", 1024);
+    write(writer.getOutputStream(), DOC);
+    assertEquals(DOC.length(), writer.getBufferSize());
+
+    writer.flush();
+    assertEquals(0, writer.getBufferSize());
+    verify(client, times(1)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    writer.close();
+  }
+
+  @Test
+  public void skipFlushWhenBufferIsEmpty() throws Exception {
+    OpenSearchWriter writer = new OpenSearchWriter(client, "test", "false", 1024, 2);
+    writer.flush();
+    writer.awaitFlush();
+    verify(client, never()).bulk(any(BulkRequest.class), any(RequestOptions.class));
+    writer.close();
+  }
+
+  @Test
+  public void flushInBackground() throws Exception {
+    when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenReturn(successResponse);
+    when(successResponse.hasFailures()).thenReturn(false);
+
+    OpenSearchWriter writer = new OpenSearchWriter(client, "test", "false", 1024, 2);
+    for (int i = 0; i < 5; i++) {
+      write(writer.getOutputStream(), DOC);
+      writer.flush();
+      assertEquals(0, writer.getBufferSize());
+    }
+    writer.awaitFlush();
+    verify(client, times(5)).bulk(any(BulkRequest.class), any(RequestOptions.class));
+
+    writer.close();
+    verify(client).close();
+  }
+
+  @Test
+  public void flushInBackgroundInOrder() throws Exception {
+    // bulk request is built on the reused buffer, so record its docs while it is executed
+    List<String> docs = new CopyOnWriteArrayList<>();
+    when(client.bulk(any(BulkRequest.class), any(RequestOptions.class))).thenAnswer(invocation -> {
+      BulkRequest request = invocation.getArgument(0);
+      docs.add(((IndexRequest) request.requests().get(0)).source().utf8ToString());
+      return successResponse;
+    });
+    when(successResponse.hasFailures()).thenReturn(false);
+
+    OpenSearchWriter writer = new OpenSearchWriter(client, "test", "false", 1024, 3);
+    for (int i = 0; i < 10; i++) {
+      write(writer.getOutputStream(), "{\"create\":{}}\n{\"seq\":" + i + "}\n");
+      writer.flush();
+    }
+    writer.awaitFlush();
+
+    assertEquals(10, docs.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals("{\"seq\":" + i + "}", docs.get(i));
+    }
+    writer.close();
+  }
+
+  @Test
+  public void surfaceBackgroundFailureOnAwaitFlush() throws Exception {
+    when(client.bulk(any(BulkRequest.class), any(RequestOptions.class)))
+        .thenThrow(new IOException("bulk failed"));
+
+    OpenSearchWriter writer = new OpenSearchWriter(client, "test", "false", 1024, 1);
+    write(writer.getOutputStream(), DOC);
+    writer.flush();
+
+    assertThrows(RuntimeException.class, writer::awaitFlush);
+    write(writer.getOutputStream(), DOC);
+    assertThrows(RuntimeException.class, writer::flush);
+    writer.close();
+  }
+
+  private static void write(OutputStream out, String data) throws IOException {
+    out.write(data.getBytes(StandardCharsets.UTF_8));
+  }
+}
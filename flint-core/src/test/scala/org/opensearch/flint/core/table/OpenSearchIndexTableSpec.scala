@@ -9,9 +9,10 @@ import java.util.Optional
 
 import org.mockito.ArgumentMatchers._
 import org.mockito.Mockito._
+import org.opensearch.client.opensearch.core.pit.{CreatePitRequest, DeletePitRequest}
 import org.opensearch.client.opensearch.indices.{IndicesStatsRequest, IndicesStatsResponse}
-import org.opensearch.flint.core.{FlintOptions, IRestHighLevelClient, JsonSchema, MetaData}
-import org.opensearch.flint.core.storage.{OpenSearchClientUtils, OpenSearchSearchAfterQueryReader}
+import org.opensearch.flint.core.{FlintOptions, IRestHighLevelClient, JsonSchema, MetaData, Table}
+import org.opensearch.flint.core.storage.{OpenSearchClientUtils, OpenSearchCompositeAggregationReader, OpenSearchPitSearchAfterQueryReader, OpenSearchPrefetchSearchAfterQueryReader, OpenSearchSearchAfterQueryReader}
 import org.opensearch.search.builder.SearchSourceBuilder
 import org.scalatest.BeforeAndAfter
 import org.scalatest.flatspec.AnyFlatSpec
@@ -38,7 +39,9 @@ class OpenSearchIndexTableSpec
       docCount: Long,
       storeSizeInBytes: Long,
       supportShard: Boolean = true,
-      numberOfShards: Int = 1): OpenSearchIndexTable = {
+      numberOfShards: Int = 1,
+      prefetchPages: Int = 0,
+      splitSizeBytes: Long = 0L): OpenSearchIndexTable = {
     val metaData = mock[MetaData]
     val options = mock[FlintOptions]
     val mockIndicesStatsResp = mock[IndicesStatsResponse](RETURNS_DEEP_STUBS)
@@ -51,6 +54,9 @@ class OpenSearchIndexTableSpec
       case None => when(options.getScrollSize).thenReturn(Optional.empty[Integer]())
     }
     when(options.supportShard()).thenReturn(supportShard)
+    when(options.getReadPrefetchPages).thenReturn(prefetchPages)
+    when(options.getReadSplitSizeBytes).thenReturn(splitSizeBytes)
+    when(options.getScrollDuration).thenReturn(5)
 
     when(openSearchClient.stats(any[IndicesStatsRequest])).thenReturn(mockIndicesStatsResp)
     when(mockIndicesStatsResp.indices().get(any[String]).primaries().docs().count())
@@ -154,6 +160,126 @@ class OpenSearchIndexTableSpec
     sorts.get(1).toString should include("{\n  \"_id\" : {\n    \"order\" : \"asc\"\n  }\n}")
   }
 
+  it should "create a reader fetching required fields only" in {
+    val table = mockTable(None, 1000L, 10000000L, numberOfShards = 1)
+    def fetchSource(fields: Option[Seq[String]]) =
+      table
+        .createReader("", fields)
+        .asInstanceOf[OpenSearchSearchAfterQueryReader]
+        .searchRequest
+        .source()
+        .fetchSource()
+
+    fetchSource(None) shouldBe null
+    fetchSource(Some(Seq("name", "age"))).includes() shouldBe Array("name", "age")
+    fetchSource(Some(Seq.empty)).fetchSource() shouldBe true
+    fetchSource(Some(Seq.empty)).excludes() shouldBe Array("*")
+  }
+
+  it should "create a reader with limit and sort" in {
+    val table = mockTable(Some(500), 1000L, 10000000L, numberOfShards = 1)
+    val reader = table.createReader("", None, Some(10), """[{"ts":{"order":"desc"}}]""")
+    val sourceBuilder =
+      reader.asInstanceOf[OpenSearchSearchAfterQueryReader].searchRequest.source()
+    sourceBuilder.size() shouldBe 10
+
+    val sorts = sourceBuilder.sorts()
+    sorts.size() shouldBe 3
+    sorts.get(0).toString should include("\"ts\"")
+    sorts.get(0).toString should include("\"order\" : \"desc\"")
+    sorts.get(1).toString should include("_doc")
+  }
+
+  it should "create a composite aggregation reader" in {
+    val table = mockTable(None, 1000L, 10000000L, numberOfShards = 3)
+    // scalastyle:off
+    val reader = table.createAggregationReader(
+      "",
+      """{"buckets":{"composite":{"size":10,"sources":[{"group_col_0":{"terms":{"field":"status"}}}]}}}""")
+    // scalastyle:on
+    reader shouldBe a[OpenSearchCompositeAggregationReader]
+
+    val searchRequest = reader.asInstanceOf[OpenSearchCompositeAggregationReader].searchRequest
+    searchRequest.indices() should contain("test-index")
+    searchRequest.source().size() shouldBe 0
+    val aggregations = searchRequest.source().aggregations().getAggregatorFactories
+    aggregations.size() shouldBe 1
+    aggregations.iterator().next().getName shouldBe "buckets"
+  }
+
+  it should "create a prefetch reader when prefetch pages is configured" in {
+    val table = mockTable(None, 1000L, 10000000L, prefetchPages = 2)
+    val reader = table.createReader("")
+    reader shouldBe a[OpenSearchPrefetchSearchAfterQueryReader]
+  }
+
+  it should "return one slice per shard when split size is not configured" in {
+    val table = mockTable(None, 1000L, 10000000L, numberOfShards = 3)
+    table.slicesPerShard shouldBe 1
+  }
+
+  it should "derive slices per shard from store size and split size" in {
+    // 3 shards of 100MB each, 10KB docs, target split size 30MB
+    val docSize = 10 * 1024
+    val docCount = 30000L
+    val table = mockTable(
+      Some(100),
+      docCount,
+      docCount * docSize,
+      numberOfShards = 3,
+      splitSizeBytes = 30 * 1024 * 1024)
+    table.slicesPerShard shouldBe 4
+    table.isSplittable() shouldBe true
+
+    val slicedTables = table.slice()
+    slicedTables.size shouldBe 12
+    slicedTables.foreach(_ shouldBe a[OpenSearchIndexSliceTable])
+  }
+
+  it should "create one PIT shared by all slices and delete it once released" in {
+    val table =
+      mockTable(Some(100), 1000L, 1024L * 1024 * 1024, numberOfShards = 2, splitSizeBytes = 1024)
+    clearInvocations(openSearchClient)
+    when(openSearchClient.createPit(any[CreatePitRequest]).pitId()).thenReturn("pit-1")
+
+    val slicedTables = table.slice()
+    slicedTables.map(_.asInstanceOf[OpenSearchIndexSliceTable].pitId).distinct shouldBe Seq(
+      "pit-1")
+    verify(openSearchClient, times(1)).createPit(any[CreatePitRequest])
+
+    table.releaseSlices()
+    table.releaseSlices()
+    verify(openSearchClient, times(1)).deletePit(any[DeletePitRequest])
+  }
+
+  it should "bound slices per shard so that each slice reads at least one page" in {
+    val table =
+      mockTable(Some(100), 200L, 1024L * 1024 * 1024, numberOfShards = 1, splitSizeBytes = 1024)
+    table.slicesPerShard shouldBe 2
+    table.isSplittable() shouldBe true
+  }
+
+  "OpenSearchIndexSliceTable" should "create PIT reader correctly" in {
+    val indexTable =
+      mockTable(Some(100), 1000L, 1024L * 1024 * 1024, numberOfShards = 2, splitSizeBytes = 1024)
+    val table = indexTable.slice()(1)
+    val reader = table.createReader("")
+    reader shouldBe a[OpenSearchPitSearchAfterQueryReader]
+
+    val searchRequest = reader.asInstanceOf[OpenSearchPitSearchAfterQueryReader].searchRequest
+    searchRequest.indices() shouldBe empty
+
+    val sourceBuilder = searchRequest.source()
+    sourceBuilder.query() should not be null
+    sourceBuilder.size() shouldBe indexTable.pageSize
+    sourceBuilder.slice().getId shouldBe 1
+    sourceBuilder.slice().getMax shouldBe 10
+
+    val sorts = sourceBuilder.sorts()
+    sorts.size() shouldBe 1
+    sorts.get(0).toString should include("{\n  \"_doc\" : {\n    \"order\" : \"asc\"\n  }\n}")
+  }
+
   "OpenSearchIndexShardTable" should "create reader correctly" in {
     val query = ""
     val indexTable = mockTable(None, 1000L, 10000000L, numberOfShards = 3)
@@ -174,4 +300,24 @@ class OpenSearchIndexTableSpec
     sorts.size() shouldBe 1
     sorts.get(0).toString should include("{\n  \"_doc\" : {\n    \"order\" : \"asc\"\n  }\n}")
   }
+
+  it should "create a prefetch reader when prefetch pages is configured" in {
+    val indexTable = mockTable(None, 1000L, 10000000L, numberOfShards = 3, prefetchPages = 2)
+    val reader = indexTable.slice().head.createReader("")
+    reader shouldBe a[OpenSearchPrefetchSearchAfterQueryReader]
+    reader.asInstanceOf[OpenSearchSearchAfterQueryReader].searchRequest.preference() shouldBe
+      "_shards:0"
+  }
+
+  it should "report statistics of primary shards" in {
+    val indexTable = mockTable(None, 1000L, 10000000L)
+    indexTable.statistics() shouldBe Some(Table.Statistics(1000L, 10000000L))
+  }
+
+  it should "report no statistics if index stats is unavailable" in {
+    val indexTable = mockTable(None, 1000L, 10000000L)
+    when(openSearchClient.stats(any[IndicesStatsRequest]))
+      .thenThrow(new IllegalStateException("Forbidden"))
+    indexTable.statistics() shouldBe None
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.apache.spark.sql.flint
+
+import org.opensearch.flint.core.storage.FlintReader
+import org.opensearch.flint.core.storage.OpenSearchCompositeAggregationReader.DOC_COUNT_FIELD
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.connector.expressions.aggregate.{Aggregation, CountStar, Sum}
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.flint.storage.FlintQueryCompiler
+import org.apache.spark.sql.flint.storage.FlintQueryCompiler.{aggregateName, valueCountName}
+
+/**
+ * Read composite aggregation buckets and convert each bucket to a row of the aggregation output
+ * schema.
+ *
+ * @param reader
+ *   Flint reader of composite aggregation buckets
+ * @param compiler
+ *   query compiler which compiled the aggregation
+ * @param aggregation
+ *   aggregation pushed down
+ */
+class FlintAggregationPartitionReader(
+    reader: FlintReader,
+    compiler: FlintQueryCompiler,
+    aggregation: Aggregation,
+    options: FlintSparkConf)
+    extends PartitionReader[InternalRow] {
+
+  private val bucketSchema = compiler.bucketSchema(aggregation)
+
+  private val bucketReader = new FlintPartitionReader(reader, bucketSchema, options)
+
+  /**
+   * Extract each output column from bucket row.
+   */
+  private val columns: Seq[InternalRow => Any] = {
+    val groupBy = bucketSchema
+      .take(aggregation.groupByExpressions().length)
+      .zipWithIndex
+      .map { case (field, i) => (bucket: InternalRow) => bucket.get(i, field.dataType) }
+    val aggregates = aggregation.aggregateExpressions().zipWithIndex.map {
+      case (_: CountStar, _) =>
+        val ordinal = bucketSchema.fieldIndex(DOC_COUNT_FIELD)
+        (bucket: InternalRow) => bucket.getLong(ordinal)
+      case (_: Sum, i) =>
+        // Sum is null instead of 0 if no value in the bucket
+        val ordinal = bucketSchema.fieldIndex(aggregateName(i))
+        val countOrdinal = bucketSchema.fieldIndex(valueCountName(aggregateName(i)))
+        (bucket: InternalRow) =>
+          if (bucket.isNullAt(countOrdinal) || bucket.getDouble(countOrdinal) == 0) null
+          else bucket.get(ordinal, bucketSchema(ordinal).dataType)
+      case (_, i) =>
+        val ordinal = bucketSchema.fieldIndex(aggregateName(i))
+        (bucket: InternalRow) => bucket.get(ordinal, bucketSchema(ordinal).dataType)
+    }
+    groupBy ++ aggregates
+  }
+
+  override def next(): Boolean = bucketReader.next()
+
+  override def get(): InternalRow = {
+    val bucket = bucketReader.get()
+    InternalRow.fromSeq(columns.map(_(bucket)))
+  }
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] =
+    bucketReader.currentMetricsValues()
+
+  override def close(): Unit = bucketReader.close()
+}
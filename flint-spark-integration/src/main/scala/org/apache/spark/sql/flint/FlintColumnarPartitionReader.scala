@@ -0,0 +1,240 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.apache.spark.sql.flint
+
+import java.nio.charset.StandardCharsets
+
+import scala.util.control.NonFatal
+
+import com.fasterxml.jackson.core.{JsonFactory, JsonParser}
+import com.fasterxml.jackson.core.JsonToken._
+import org.opensearch.flint.core.storage.FlintReader
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.util.{DateFormatter, TimestampFormatter}
+import org.apache.spark.sql.catalyst.util.LegacyDateFormats.FAST_DATE_FORMAT
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.execution.vectorized.{OffHeapColumnVector, OnHeapColumnVector, WritableColumnVector}
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.types._
+import org.apache.spark.sql.vectorized.{ColumnarBatch, ColumnVector}
+import org.apache.spark.util.Utils
+
+/**
+ * Read documents into columnar batches. Top-level fields of each document are decoded from its
+ * source bytes straight into the column vectors. A document the fast path cannot decode, such as
+ * one with array value or a value of unexpected type, is parsed by the row parser of
+ * [[FlintPartitionReader]] and copied into the column vectors, so the result is the same as row
+ * based read.
+ *
+ * @param reader
+ *   Flint reader
+ * @param schema
+ *   required schema, all fields must be supported by [[FlintColumnarPartitionReader.isSupported]]
+ * @param options
+ *   Flint Spark options
+ * @param batchSize
+ *   max number of documents in a batch
+ * @param offHeap
+ *   allocate column vectors off heap
+ */
+class FlintColumnarPartitionReader(
+    reader: FlintReader,
+    schema: StructType,
+    options: FlintSparkConf,
+    batchSize: Int,
+    offHeap: Boolean = false)
+    extends PartitionReader[ColumnarBatch] {
+
+  private val vectors: Array[WritableColumnVector] =
+    if (offHeap) {
+      OffHeapColumnVector.allocateColumns(batchSize, schema).toArray[WritableColumnVector]
+    } else {
+      OnHeapColumnVector.allocateColumns(batchSize, schema).toArray[WritableColumnVector]
+    }
+
+  private val batch = new ColumnarBatch(vectors.toArray[ColumnVector])
+
+  /**
+   * Row reader used as fallback for documents not decoded by the fast path.
+   */
+  private val rowReader = new FlintPartitionReader(reader, schema, options)
+
+  private lazy val factory = rowReader.parser.options.buildJsonFactory()
+
+  private lazy val timestampFormatter = TimestampFormatter(
+    rowReader.parser.options.timestampFormatInRead,
+    rowReader.parser.options.zoneId,
+    rowReader.parser.options.locale,
+    legacyFormat = FAST_DATE_FORMAT,
+    isParsing = true)
+
+  private lazy val dateFormatter = DateFormatter(
+    rowReader.parser.options.dateFormatInRead,
+    rowReader.parser.options.locale,
+    legacyFormat = FAST_DATE_FORMAT,
+    isParsing = true)
+
+  /**
+   * Whether each field is present in the document being decoded.
+   */
+  private val written = new Array[Boolean](schema.length)
+
+  /**
+   * Rows parsed by the row parser but not copied into a batch yet.
+   */
+  private var pendingRows: Iterator[InternalRow] = Iterator.empty
+
+  override def next(): Boolean = {
+    vectors.foreach(_.reset())
+    var rowId = 0
+    while (rowId < batchSize && (pendingRows.hasNext || reader.hasNext)) {
+      if (pendingRows.hasNext) {
+        putRow(pendingRows.next(), rowId)
+        rowId += 1
+      } else {
+        val bytes = reader.nextBytes()
+        val startTime = System.nanoTime()
+        if (bytes != null && decode(factory, bytes, rowId)) {
+          rowId += 1
+        } else {
+          // Parse the doc with row parser instead. Values partially decoded into this row are
+          // overwritten once the parsed row is copied, but putting a value doesn't clear a null
+          // flag set by partial decode, so clear null flags of the row here.
+          vectors.foreach(_.putNotNull(rowId))
+          pendingRows = rowReader.safeParser.parse(bytes)
+        }
+        rowReader.metrics.addParseTimeNanos(System.nanoTime() - startTime)
+      }
+    }
+    batch.setNumRows(rowId)
+    rowId > 0
+  }
+
+  override def get(): ColumnarBatch = batch
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] =
+    rowReader.currentMetricsValues()
+
+  override def close(): Unit = {
+    try {
+      batch.close()
+    } finally {
+      rowReader.close()
+    }
+  }
+
+  private def decode(factory: JsonFactory, bytes: Array[Byte], rowId: Int): Boolean = {
+    try {
+      Utils.tryWithResource(factory.createParser(bytes)) { parser =>
+        decodeObject(parser, rowId)
+      }
+    } catch {
+      case NonFatal(_) => false
+    }
+  }
+
+  private def decodeObject(parser: JsonParser, rowId: Int): Boolean = {
+    if (parser.nextToken() != START_OBJECT) {
+      return false
+    }
+    java.util.Arrays.fill(written, false)
+    while (parser.nextToken() == FIELD_NAME) {
+      val ordinal = schema.getFieldIndex(parser.getCurrentName).getOrElse(-1)
+      parser.nextToken()
+      if (ordinal < 0) {
+        parser.skipChildren()
+      } else if (written(ordinal) || !decodeValue(parser, vectors(ordinal), rowId)) {
+        return false
+      } else {
+        written(ordinal) = true
+      }
+    }
+    if (parser.currentToken() != END_OBJECT) {
+      return false
+    }
+
+    // Field absent in the doc is null
+    var i = 0
+    while (i < written.length) {
+      if (!written(i)) {
+        vectors(i).putNull(rowId)
+      }
+      i += 1
+    }
+    true
+  }
+
+  /**
+   * Decode current value into the vector.
+   *
+   * @return
+   *   false if the value cannot be decoded by the fast path
+   */
+  private def decodeValue(parser: JsonParser, vector: WritableColumnVector, rowId: Int): Boolean = {
+    (vector.dataType(), parser.currentToken()) match {
+      case (_, VALUE_NULL) => vector.putNull(rowId)
+      case (BooleanType, VALUE_TRUE | VALUE_FALSE) =>
+        vector.putBoolean(rowId, parser.getBooleanValue)
+      case (ByteType, VALUE_NUMBER_INT) => vector.putByte(rowId, parser.getByteValue)
+      case (ShortType, VALUE_NUMBER_INT) => vector.putShort(rowId, parser.getShortValue)
+      case (IntegerType, VALUE_NUMBER_INT) => vector.putInt(rowId, parser.getIntValue)
+      case (LongType, VALUE_NUMBER_INT) => vector.putLong(rowId, parser.getLongValue)
+      case (FloatType, VALUE_NUMBER_INT | VALUE_NUMBER_FLOAT) =>
+        vector.putFloat(rowId, parser.getFloatValue)
+      case (DoubleType, VALUE_NUMBER_INT | VALUE_NUMBER_FLOAT) =>
+        vector.putDouble(rowId, parser.getDoubleValue)
+      case (StringType, VALUE_STRING) =>
+        vector.putByteArray(rowId, parser.getText.getBytes(StandardCharsets.UTF_8))
+      // Timestamp epoch value in Flint storage is in milliseconds
+      case (TimestampType, VALUE_NUMBER_INT) => vector.putLong(rowId, parser.getLongValue * 1000L)
+      case (TimestampType, VALUE_STRING) if parser.getTextLength >= 1 =>
+        vector.putLong(rowId, timestampFormatter.parse(parser.getText))
+      case (DateType, VALUE_STRING) if parser.getTextLength >= 1 =>
+        vector.putInt(rowId, dateFormatter.parse(parser.getText))
+      case _ => return false
+    }
+    true
+  }
+
+  private def putRow(row: InternalRow, rowId: Int): Unit = {
+    var i = 0
+    while (i < vectors.length) {
+      val vector = vectors(i)
+      if (row.isNullAt(i)) {
+        vector.putNull(rowId)
+      } else {
+        vector.dataType() match {
+          case BooleanType => vector.putBoolean(rowId, row.getBoolean(i))
+          case ByteType => vector.putByte(rowId, row.getByte(i))
+          case ShortType => vector.putShort(rowId, row.getShort(i))
+          case IntegerType | DateType => vector.putInt(rowId, row.getInt(i))
+          case LongType | TimestampType => vector.putLong(rowId, row.getLong(i))
+          case FloatType => vector.putFloat(rowId, row.getFloat(i))
+          case DoubleType => vector.putDouble(rowId, row.getDouble(i))
+          case StringType => vector.putByteArray(rowId, row.getUTF8String(i).getBytes)
+        }
+      }
+      i += 1
+    }
+  }
+}
+
+object FlintColumnarPartitionReader {
+
+  /**
+   * Whether documents of the schema can be read into columnar batches.
+   */
+  def isSupported(schema: StructType): Boolean = {
+    schema.nonEmpty && schema.forall(_.dataType match {
+      case BooleanType | ByteType | ShortType | IntegerType | LongType | FloatType | DoubleType |
+          StringType | DateType | TimestampType =>
+        true
+      case _ => false
+    })
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.apache.spark.sql.flint
+
+import java.util.concurrent.TimeUnit.NANOSECONDS
+
+import org.opensearch.flint.core.metrics.FlintTaskMetrics
+
+import org.apache.spark.sql.connector.metric.{CustomMetric, CustomSumMetric, CustomTaskMetric}
+
+/**
+ * Custom metrics of Flint scan and write shown in Spark UI SQL tab. Task values are reported from
+ * [[FlintTaskMetrics]] of the reader or writer of each task and summed up by Spark.
+ */
+object FlintCustomMetrics {
+
+  val PAGES_FETCHED = "pagesFetched"
+  val HIT_BYTES = "hitBytes"
+  val PARSE_TIME = "parseTime"
+  val BULK_REQUESTS = "bulkRequests"
+  val BULK_BYTES = "bulkBytes"
+  val RETRIED_ITEMS = "retriedItems"
+  val THROTTLE_WAIT_TIME = "throttleWaitTime"
+
+  /**
+   * Custom metrics supported by Flint scan.
+   */
+  def scanMetrics: Array[CustomMetric] =
+    Array(new FlintPagesFetchedMetric, new FlintHitBytesMetric, new FlintParseTimeMetric)
+
+  /**
+   * Custom metrics supported by Flint write.
+   */
+  def writeMetrics: Array[CustomMetric] =
+    Array(
+      new FlintBulkRequestsMetric,
+      new FlintBulkBytesMetric,
+      new FlintRetriedItemsMetric,
+      new FlintThrottleWaitTimeMetric)
+
+  /**
+   * Current values of scan metrics of a task.
+   */
+  def scanTaskMetrics(metrics: FlintTaskMetrics): Array[CustomTaskMetric] =
+    Array(
+      taskMetric(PAGES_FETCHED, metrics.getPagesFetched),
+      taskMetric(HIT_BYTES, metrics.getHitBytes),
+      taskMetric(PARSE_TIME, NANOSECONDS.toMillis(metrics.getParseTimeNanos)))
+
+  /**
+   * Current values of write metrics of a task.
+   */
+  def writeTaskMetrics(metrics: FlintTaskMetrics): Array[CustomTaskMetric] =
+    Array(
+      taskMetric(BULK_REQUESTS, metrics.getBulkRequests),
+      taskMetric(BULK_BYTES, metrics.getBulkBytes),
+      taskMetric(RETRIED_ITEMS, metrics.getRetriedItems),
+      taskMetric(THROTTLE_WAIT_TIME, NANOSECONDS.toMillis(metrics.getThrottleWaitNanos)))
+
+  private def taskMetric(metricName: String, metricValue: Long): CustomTaskMetric =
+    new CustomTaskMetric {
+      override def name(): String = metricName
+
+      override def value(): Long = metricValue
+    }
+}
+
+/*
+ * Spark instantiates custom metric by its class name to aggregate task values on driver, so each
+ * metric is a class with no-arg constructor.
+ */
+
+class FlintPagesFetchedMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.PAGES_FETCHED
+
+  override def description(): String = "number of search pages fetched"
+}
+
+class FlintHitBytesMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.HIT_BYTES
+
+  override def description(): String = "source bytes of hits read"
+}
+
+class FlintParseTimeMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.PARSE_TIME
+
+  override def description(): String = "time to parse hits (ms)"
+}
+
+class FlintBulkRequestsMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.BULK_REQUESTS
+
+  override def description(): String = "number of bulk requests"
+}
+
+class FlintBulkBytesMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.BULK_BYTES
+
+  override def description(): String = "payload bytes of bulk requests"
+}
+
+class FlintRetriedItemsMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.RETRIED_ITEMS
+
+  override def description(): String = "number of bulk items retried"
+}
+
+class FlintThrottleWaitTimeMetric extends CustomSumMetric {
+  override def name(): String = FlintCustomMetrics.THROTTLE_WAIT_TIME
+
+  override def description(): String = "time waited for bulk rate limit (ms)"
+}
@@ -11,6 +11,7 @@ import org.opensearch.flint.core.storage.FlintReader
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.json.{CreateJacksonParser, JSONOptionsInRead}
 import org.apache.spark.sql.catalyst.util.{CaseInsensitiveMap, FailureSafeParser}
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
 import org.apache.spark.sql.connector.read.PartitionReader
 import org.apache.spark.sql.flint.config.FlintSparkConf
 import org.apache.spark.sql.flint.datatype.FlintDataType.DATE_FORMAT_PARAMETERS
@@ -32,14 +33,19 @@ class FlintPartitionReader(reader: FlintReader, schema: StructType, options: Fli
     schema,
     new JSONOptionsInRead(CaseInsensitiveMap(DATE_FORMAT_PARAMETERS), options.timeZone, ""),
     allowArrayAsStructs = true)
-  lazy val stringParser: (JsonFactory, String) => JsonParser =
-    CreateJacksonParser.string(_: JsonFactory, _: String)
-  lazy val safeParser = new FailureSafeParser[String](
-    input => parser.parse(input, stringParser, UTF8String.fromString),
+  lazy val bytesParser: (JsonFactory, Array[Byte]) => JsonParser =
+    CreateJacksonParser.bytes(_: JsonFactory, _: Array[Byte])
+  lazy val safeParser = new FailureSafeParser[Array[Byte]](
+    input => parser.parse(input, bytesParser, UTF8String.fromBytes),
     parser.options.parseMode,
     schema,
     parser.options.columnNameOfCorruptRecord)
 
+  /**
+   * Metrics of the Flint reader, time to parse docs is recorded into it as well.
+   */
+  val metrics = reader.metrics()
+
   var rows: Iterator[InternalRow] = Iterator.empty
 
   /**
@@ -50,7 +56,11 @@ class FlintPartitionReader(reader: FlintReader, schema: StructType, options: Fli
     if (rows.hasNext) {
       true
     } else if (reader.hasNext) {
-      rows = safeParser.parse(reader.next())
+      // Parse UTF-8 bytes of the doc directly instead of decoding it to String first
+      val bytes = reader.nextBytes()
+      val startTime = System.nanoTime()
+      rows = safeParser.parse(bytes)
+      metrics.addParseTimeNanos(System.nanoTime() - startTime)
       rows.hasNext
     } else {
       false
@@ -61,6 +71,9 @@ class FlintPartitionReader(reader: FlintReader, schema: StructType, options: Fli
     rows.next()
   }
 
+  override def currentMetricsValues(): Array[CustomTaskMetric] =
+    FlintCustomMetrics.scanTaskMetrics(metrics)
+
   override def close(): Unit = {
     reader.close()
   }
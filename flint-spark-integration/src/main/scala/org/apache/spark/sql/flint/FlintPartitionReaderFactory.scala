@@ -5,23 +5,66 @@
 
 package org.apache.spark.sql.flint
 
+import org.opensearch.flint.core.storage.FlintReader
+
 import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.connector.expressions.SortOrder
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
 import org.apache.spark.sql.connector.expressions.filter.Predicate
 import org.apache.spark.sql.connector.read.{InputPartition, PartitionReader, PartitionReaderFactory}
 import org.apache.spark.sql.flint.config.FlintSparkConf
 import org.apache.spark.sql.flint.storage.FlintQueryCompiler
+import org.apache.spark.sql.internal.SQLConf
 import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.vectorized.ColumnarBatch
 
 case class FlintPartitionReaderFactory(
     schema: StructType,
     options: FlintSparkConf,
-    pushedPredicates: Array[Predicate])
+    pushedPredicates: Array[Predicate],
+    requiredSchema: StructType,
+    pushedAggregation: Option[Aggregation],
+    pushedLimit: Option[Int],
+    pushedSortOrders: Array[SortOrder])
     extends PartitionReaderFactory {
   override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
-    val query = FlintQueryCompiler(schema).compile(pushedPredicates)
-    new FlintPartitionReader(
-      partition.asInstanceOf[OpenSearchSplit].table.createReader(query),
-      schema,
-      options)
+    val compiler = FlintQueryCompiler(schema)
+    pushedAggregation match {
+      case Some(aggregation) =>
+        val query = compiler.compile(pushedPredicates)
+        val table = partition.asInstanceOf[OpenSearchSplit].table
+        new FlintAggregationPartitionReader(
+          table.createAggregationReader(query, compiler.compileAggregation(aggregation).get),
+          compiler,
+          aggregation,
+          options)
+      case None =>
+        new FlintPartitionReader(createFlintReader(compiler, partition), requiredSchema, options)
+    }
+  }
+
+  override def supportColumnarReads(partition: InputPartition): Boolean = {
+    options.isReadColumnarEnabled && pushedAggregation.isEmpty &&
+    FlintColumnarPartitionReader.isSupported(requiredSchema)
+  }
+
+  override def createColumnarReader(partition: InputPartition): PartitionReader[ColumnarBatch] = {
+    new FlintColumnarPartitionReader(
+      createFlintReader(FlintQueryCompiler(schema), partition),
+      requiredSchema,
+      options,
+      options.readColumnarBatchSize,
+      SQLConf.get.offHeapColumnVectorEnabled)
+  }
+
+  private def createFlintReader(
+      compiler: FlintQueryCompiler,
+      partition: InputPartition): FlintReader = {
+    val table = partition.asInstanceOf[OpenSearchSplit].table
+    // Fetch all fields if no column pruned
+    val fields =
+      if (requiredSchema == schema) None else Some(requiredSchema.fieldNames.toSeq)
+    val sort = compiler.compileSortOrders(pushedSortOrders)
+    table.createReader(compiler.compile(pushedPredicates), fields, pushedLimit, sort)
   }
 }
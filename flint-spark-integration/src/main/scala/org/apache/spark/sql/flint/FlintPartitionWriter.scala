@@ -5,12 +5,13 @@
 
 package org.apache.spark.sql.flint
 
-import org.opensearch.flint.core.storage.FlintWriter
+import org.opensearch.flint.core.storage.{BulkRequestRateLimiterHolder, FlintWriter}
 
 import org.apache.spark.internal.Logging
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.json.JSONOptions
 import org.apache.spark.sql.catalyst.util.CaseInsensitiveMap
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
 import org.apache.spark.sql.connector.write.{DataWriter, WriterCommitMessage}
 import org.apache.spark.sql.flint.config.FlintSparkConf
 import org.apache.spark.sql.flint.datatype.FlintDataType.DATE_FORMAT_PARAMETERS
@@ -45,6 +46,17 @@ case class FlintPartitionWriter(
   private lazy val ignoredFieldName: Option[String] =
     idFieldName.filter(_ => options.ignoreIdColumn())
 
+  private lazy val adaptiveBulkController =
+    BulkRequestRateLimiterHolder.getAdaptiveBulkController(options.flintOptions())
+
+  /**
+   * Batch size in bytes, adjusted by adaptive bulk controller if enabled.
+   */
+  private def batchBytes: Long = {
+    if (adaptiveBulkController.isEnabled) adaptiveBulkController.getBatchBytes
+    else options.batchBytes()
+  }
+
   /**
    * total write doc count.
    */
@@ -60,7 +72,7 @@ case class FlintPartitionWriter(
     gen.writeLineEnding()
 
     docCount += 1
-    if (docCount >= options.batchSize() || gen.getBufferSize >= options.batchBytes()) {
+    if (docCount >= options.batchSize() || gen.getBufferSize >= batchBytes) {
       gen.flush()
       docCount = 0
     }
@@ -68,10 +80,15 @@ case class FlintPartitionWriter(
 
   override def commit(): WriterCommitMessage = {
     gen.flush()
+    // surface failures of bulk requests flushed in background
+    flintWriter.awaitFlush()
     logDebug(s"Write commit on partitionId: $partitionId, taskId: $taskId, epochId: $epochId")
     FlintWriterCommitMessage(partitionId, taskId, epochId)
   }
 
+  override def currentMetricsValues(): Array[CustomTaskMetric] =
+    FlintCustomMetrics.writeTaskMetrics(flintWriter.metrics())
+
   override def abort(): Unit = {
     // do nothing.
   }
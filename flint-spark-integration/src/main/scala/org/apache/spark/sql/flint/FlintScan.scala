@@ -5,24 +5,97 @@
 
 package org.apache.spark.sql.flint
 
+import java.util.OptionalLong
+import java.util.concurrent.ConcurrentHashMap
+
 import org.opensearch.flint.spark.skipping.bloomfilter.BloomFilterMightContain
 
+import org.apache.spark.SparkContext
+import org.apache.spark.scheduler.{SparkListener, SparkListenerEvent}
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.connector.expressions.SortOrder
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
 import org.apache.spark.sql.connector.expressions.filter.Predicate
-import org.apache.spark.sql.connector.read.{Batch, InputPartition, PartitionReaderFactory, Scan}
+import org.apache.spark.sql.connector.metric.CustomMetric
+import org.apache.spark.sql.connector.read._
+import org.apache.spark.sql.execution.SQLExecution
+import org.apache.spark.sql.execution.ui.SparkListenerSQLExecutionEnd
 import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.flint.storage.FlintQueryCompiler
 import org.apache.spark.sql.types.StructType
 
+/**
+ * Flint scan. Statistics are estimated from index stats of the tables, so the optimizer can
+ * choose broadcast join for a small index.
+ *
+ * @param schema
+ *   full schema of the tables, used to compile pushed predicates
+ * @param requiredSchema
+ *   schema of the columns to read, only these fields are fetched from OpenSearch
+ * @param pushedAggregation
+ *   aggregation pushed down, if any the scan reads aggregation buckets instead of documents
+ * @param pushedLimit
+ *   maximum number of docs read from each table
+ * @param pushedSortOrders
+ *   sort orders of the docs read with limit, empty to read in index order
+ */
 case class FlintScan(
     tables: Seq[org.opensearch.flint.core.Table],
     schema: StructType,
     options: FlintSparkConf,
-    pushedPredicates: Array[Predicate])
+    pushedPredicates: Array[Predicate],
+    requiredSchema: StructType,
+    pushedAggregation: Option[Aggregation],
+    pushedLimit: Option[Int],
+    pushedSortOrders: Array[SortOrder])
     extends Scan
-    with Batch {
+    with Batch
+    with SupportsReportStatistics {
+
+  /**
+   * Statistics estimated once per scan because index stats are fetched from OpenSearch.
+   */
+  private lazy val statistics: Statistics = {
+    val tableStats = tables.map(_.statistics())
+    if (tableStats.isEmpty || tableStats.exists(_.isEmpty)) {
+      FlintScan.unknownStatistics
+    } else {
+      val docCount = tableStats.flatten.map(_.docCount).sum
+      val storeSize = tableStats.flatten.map(_.sizeInBytes).sum
+      val selectivity = pushedPredicates.map(FlintScan.selectivity).product
+      val numRows = {
+        val rows = math.ceil(docCount * selectivity).toLong
+        pushedLimit.map(limit => math.min(rows, limit.toLong * tables.size)).getOrElse(rows)
+      }
+
+      // Store size per doc is scaled by the fraction of columns read. Default size of output
+      // schema is taken as lower bound because decoded row is usually larger than the doc stored
+      val rowSize = if (pushedAggregation.isDefined || docCount == 0) {
+        readSchema().defaultSize.toDouble
+      } else {
+        val columnFraction =
+          if (schema.defaultSize == 0) 1.0
+          else requiredSchema.defaultSize.toDouble / schema.defaultSize
+        math.max(storeSize.toDouble / docCount * columnFraction, requiredSchema.defaultSize)
+      }
+      val sizeInBytes = math.max(1L, math.ceil(numRows * rowSize).toLong)
+      FlintScan.newStatistics(OptionalLong.of(sizeInBytes), OptionalLong.of(numRows))
+    }
+  }
 
-  override def readSchema(): StructType = schema
+  override def readSchema(): StructType = pushedAggregation
+    .map(FlintQueryCompiler(schema).aggregationSchema)
+    .getOrElse(requiredSchema)
 
   override def planInputPartitions(): Array[InputPartition] = {
+    if (pushedAggregation.isDefined ||
+      pushedLimit.exists(_ <= FlintScan.SINGLE_SPLIT_LIMIT_THRESHOLD)) {
+      // Composite aggregation and docs with small limit are read from the whole table in one
+      // split. Each split reads at most limit docs otherwise and Spark applies the limit on all.
+      return tables.map(table => OpenSearchSplit(table)).toArray
+    }
+    val splittableTables = tables.filter(_.isSplittable())
+    FlintScan.releaseSlicesOnExecutionEnd(splittableTables)
     tables
       .flatMap(table => {
         if (table.isSplittable()) {
@@ -35,11 +108,22 @@ case class FlintScan(
   }
 
   override def createReaderFactory(): PartitionReaderFactory = {
-    FlintPartitionReaderFactory(schema, options, pushedPredicates)
+    FlintPartitionReaderFactory(
+      schema,
+      options,
+      pushedPredicates,
+      requiredSchema,
+      pushedAggregation,
+      pushedLimit,
+      pushedSortOrders)
   }
 
   override def toBatch: Batch = this
 
+  override def supportedCustomMetrics(): Array[CustomMetric] = FlintCustomMetrics.scanMetrics
+
+  override def estimateStatistics(): Statistics = statistics
+
   /**
    * Print pushedPredicates when explain(mode="extended"). Learn from SPARK JDBCScan.
    */
@@ -49,10 +133,113 @@ case class FlintScan(
         case p if p.name().equalsIgnoreCase(BloomFilterMightContain.NAME) => p.name()
         case p => p.toString()
       }
-      .mkString("[", ", ", "]")
+      .mkString("[", ", ", "]") +
+      pushedAggregation.map(agg => ", PushedAggregation: " + agg.describe()).getOrElse("") +
+      pushedLimit.map(limit => ", PushedLimit: " + limit).getOrElse("") +
+      (if (pushedSortOrders.isEmpty) ""
+       else pushedSortOrders.map(_.describe()).mkString(", PushedSortOrders: [", ", ", "]"))
   }
 }
 
+object FlintScan {
+
+  /**
+   * Default selectivity of pushed predicates because no column statistics is available. Predicate
+   * unknown here, such as bloom filter, is assumed to filter nothing.
+   */
+  private val EQUALITY_SELECTIVITY = 0.1
+  private val RANGE_SELECTIVITY = 1.0 / 3
+  private val STRING_MATCH_SELECTIVITY = 0.5
+
+  /**
+   * Maximum pushed limit read by a single split per table. Larger limit is read by all splits in
+   * parallel, because reading it one page after another in one split is slower than reading at
+   * most limit docs from each split.
+   */
+  val SINGLE_SPLIT_LIMIT_THRESHOLD = 1000
+
+  /**
+   * Tables to release slices of once the SQL execution that reads them ends, by execution id.
+   */
+  private val tablesToRelease =
+    new ConcurrentHashMap[Long, Seq[org.opensearch.flint.core.Table]]()
+
+  /** Spark context that the release listener is registered with */
+  @volatile private var listenerContext: SparkContext = _
+
+  private val releaseListener: SparkListener = new SparkListener {
+    override def onOtherEvent(event: SparkListenerEvent): Unit = event match {
+      case end: SparkListenerSQLExecutionEnd =>
+        Option(tablesToRelease.remove(end.executionId)).foreach(_.foreach(_.releaseSlices()))
+      case _ =>
+    }
+  }
+
+  /**
+   * Release resources shared by the slices of the tables, such as point-in-time, once current
+   * SQL execution ends. Outside of SQL execution they are kept until the driver exits.
+   */
+  private def releaseSlicesOnExecutionEnd(tables: Seq[org.opensearch.flint.core.Table]): Unit = {
+    val sc = SparkSession.active.sparkContext
+    val executionId = sc.getLocalProperty(SQLExecution.EXECUTION_ID_KEY)
+    if (tables.nonEmpty && executionId != null) {
+      synchronized {
+        if (listenerContext ne sc) {
+          sc.addSparkListener(releaseListener)
+          listenerContext = sc
+        }
+      }
+      tablesToRelease.merge(
+        executionId.toLong,
+        tables,
+        (t1: Seq[org.opensearch.flint.core.Table], t2: Seq[org.opensearch.flint.core.Table]) =>
+          t1 ++ t2)
+    }
+  }
+
+  private val unknownStatistics: Statistics =
+    newStatistics(OptionalLong.empty(), OptionalLong.empty())
+
+  /**
+   * Estimate the fraction of docs that satisfy the pushed predicate.
+   *
+   * @param predicate
+   *   pushed predicate
+   * @return
+   *   selectivity between 0 and 1, or 1 if unknown
+   */
+  def selectivity(predicate: Predicate): Double = estimateSelectivity(predicate).getOrElse(1.0)
+
+  private def estimateSelectivity(predicate: Predicate): Option[Double] = {
+    def child(i: Int): Option[Double] =
+      estimateSelectivity(predicate.children()(i).asInstanceOf[Predicate])
+
+    predicate.name() match {
+      case "AND" =>
+        (child(0), child(1)) match {
+          case (None, None) => None
+          case (left, right) => Some(left.getOrElse(1.0) * right.getOrElse(1.0))
+        }
+      case "OR" =>
+        for (left <- child(0); right <- child(1)) yield left + right - left * right
+      case "NOT" => child(0).map(1.0 - _)
+      case "=" | "IS_NULL" => Some(EQUALITY_SELECTIVITY)
+      case "IS_NOT_NULL" => Some(1.0 - EQUALITY_SELECTIVITY)
+      case "IN" => Some(math.min(1.0, (predicate.children().length - 1) * EQUALITY_SELECTIVITY))
+      case ">" | ">=" | "<" | "<=" | "CIDRMATCH" => Some(RANGE_SELECTIVITY)
+      case "STARTS_WITH" | "ENDS_WITH" | "CONTAINS" => Some(STRING_MATCH_SELECTIVITY)
+      case _ => None
+    }
+  }
+
+  private def newStatistics(size: OptionalLong, rows: OptionalLong): Statistics =
+    new Statistics {
+      override def sizeInBytes(): OptionalLong = size
+
+      override def numRows(): OptionalLong = rows
+    }
+}
+
 /**
  * Each OpenSearchSplit is backed by an OpenSearch index table.
  *
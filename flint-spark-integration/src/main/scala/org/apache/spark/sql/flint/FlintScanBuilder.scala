@@ -8,8 +8,10 @@ package org.apache.spark.sql.flint
 import org.opensearch.flint.spark.skipping.bloomfilter.BloomFilterMightContain
 
 import org.apache.spark.internal.Logging
+import org.apache.spark.sql.connector.expressions.{Expression, SortOrder}
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
 import org.apache.spark.sql.connector.expressions.filter.Predicate
-import org.apache.spark.sql.connector.read.{Scan, ScanBuilder, SupportsPushDownV2Filters}
+import org.apache.spark.sql.connector.read.{Scan, ScanBuilder, SupportsPushDownAggregates, SupportsPushDownLimit, SupportsPushDownRequiredColumns, SupportsPushDownTopN, SupportsPushDownV2Filters}
 import org.apache.spark.sql.flint.config.FlintSparkConf
 import org.apache.spark.sql.flint.storage.FlintQueryCompiler
 import org.apache.spark.sql.types.StructType
@@ -20,21 +22,96 @@ case class FlintScanBuilder(
     options: FlintSparkConf)
     extends ScanBuilder
     with SupportsPushDownV2Filters
+    with SupportsPushDownRequiredColumns
+    with SupportsPushDownAggregates
+    with SupportsPushDownLimit
+    with SupportsPushDownTopN
     with Logging {
 
   private var pushedPredicate = Array.empty[Predicate]
 
+  private var requiredSchema = schema
+
+  private var pushedAggregation: Option[Aggregation] = None
+
+  private var pushedLimit: Option[Int] = None
+
+  private var pushedSortOrders = Array.empty[SortOrder]
+
   override def build(): Scan = {
-    FlintScan(tables, schema, options, pushedPredicate)
+    FlintScan(
+      tables,
+      schema,
+      options,
+      pushedPredicate,
+      requiredSchema,
+      pushedAggregation,
+      pushedLimit,
+      pushedSortOrders)
   }
 
+  /**
+   * Pushed predicates with CIDRMATCH are also returned for Spark to evaluate after scan, so the
+   * term query on ip field only pre-filters the docs and cidrmatch still decides the result.
+   */
   override def pushPredicates(predicates: Array[Predicate]): Array[Predicate] = {
     val (pushed, unSupported) =
       predicates.partition(FlintQueryCompiler(schema).compile(_).nonEmpty)
     pushedPredicate = pushed
-    unSupported
+    unSupported ++ pushed.filter(containsCidrMatch)
+  }
+
+  private def containsCidrMatch(expr: Expression): Boolean = expr match {
+    case p: Predicate if p.name() == "CIDRMATCH" => true
+    case _ => expr.children().exists(containsCidrMatch)
+  }
+
+  override def pruneColumns(requiredSchema: StructType): Unit = {
+    this.requiredSchema = requiredSchema
   }
 
+  /**
+   * Each table is aggregated by a single composite aggregation, so the result is complete only if
+   * there is one table. Otherwise Spark merges the buckets of all tables.
+   */
+  override def supportCompletePushDown(aggregation: Aggregation): Boolean = tables.size == 1
+
+  override def pushAggregation(aggregation: Aggregation): Boolean = {
+    if (options.isAggregatePushDownEnabled &&
+      FlintQueryCompiler(schema).compileAggregation(aggregation).isDefined) {
+      logInfo(s"Push down aggregation $aggregation")
+      pushedAggregation = Some(aggregation)
+      true
+    } else {
+      false
+    }
+  }
+
+  override def pushLimit(limit: Int): Boolean = {
+    if (pushedAggregation.isEmpty) {
+      pushedLimit = Some(limit)
+      true
+    } else {
+      false
+    }
+  }
+
+  override def pushTopN(orders: Array[SortOrder], limit: Int): Boolean = {
+    val sort = FlintQueryCompiler(schema).compileSortOrders(orders)
+    if (pushedAggregation.isEmpty && sort.nonEmpty) {
+      pushedSortOrders = orders
+      pushedLimit = Some(limit)
+      true
+    } else {
+      false
+    }
+  }
+
+  /**
+   * Each table returns its own first N docs, so Spark still applies the limit on all of them.
+   */
+  override def isPartiallyPushed(): Boolean = true
+
   override def pushedPredicates(): Array[Predicate] = pushedPredicate
     .filterNot(_.name().equalsIgnoreCase(BloomFilterMightContain.NAME))
 }
@@ -6,6 +6,7 @@
 package org.apache.spark.sql.flint
 
 import org.apache.spark.internal.Logging
+import org.apache.spark.sql.connector.metric.CustomMetric
 import org.apache.spark.sql.connector.write._
 import org.apache.spark.sql.connector.write.streaming.{StreamingDataWriterFactory, StreamingWrite}
 import org.apache.spark.sql.flint.config.FlintSparkConf
@@ -45,6 +46,8 @@ case class FlintWrite(
 
   override def abort(epochId: Long, messages: Array[WriterCommitMessage]): Unit = {}
 
+  override def supportedCustomMetrics(): Array[CustomMetric] = FlintCustomMetrics.writeMetrics
+
   override def toBatch: BatchWrite = this
 
   override def toStreaming: StreamingWrite = this
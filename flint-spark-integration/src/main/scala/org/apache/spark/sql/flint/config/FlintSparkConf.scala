@@ -111,6 +111,37 @@ object FlintSparkConf {
         s"The actual data write to OpenSearch may more than it. Default value is 1mb")
     .createWithDefault(FlintOptions.DEFAULT_BATCH_BYTES)
 
+  val MAX_IN_FLIGHT_BULK_REQUESTS =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.MAX_IN_FLIGHT_BULK_REQUESTS}")
+      .datasourceOption()
+      .doc("maximum number of bulk requests flushed in background per write task. 0 means " +
+        "bulk requests are flushed synchronously")
+      .createWithDefault(FlintOptions.DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS)
+
+  val CLIENT_POOL_ENABLED =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.CLIENT_POOL_ENABLED}")
+      .datasourceOption()
+      .doc("share one OpenSearch client per distinct options in driver and each executor")
+      .createWithDefault(FlintOptions.DEFAULT_CLIENT_POOL_ENABLED)
+
+  val CLIENT_POOL_KEEP_ALIVE_MILLIS =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.CLIENT_POOL_KEEP_ALIVE_MILLIS}")
+      .datasourceOption()
+      .doc("time in milliseconds a pooled OpenSearch client is kept after last use")
+      .createWithDefault(FlintOptions.DEFAULT_CLIENT_POOL_KEEP_ALIVE_MILLIS)
+
+  val MAX_CONNECTIONS =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.MAX_CONNECTIONS}")
+      .datasourceOption()
+      .doc("maximum number of HTTP connections of OpenSearch client")
+      .createWithDefault(FlintOptions.DEFAULT_MAX_CONNECTIONS)
+
+  val MAX_CONNECTIONS_PER_ROUTE =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.MAX_CONNECTIONS_PER_ROUTE}")
+      .datasourceOption()
+      .doc("maximum number of HTTP connections per route of OpenSearch client")
+      .createWithDefault(FlintOptions.DEFAULT_MAX_CONNECTIONS_PER_ROUTE)
+
   val REFRESH_POLICY = FlintConfig("spark.datasource.flint.write.refresh_policy")
     .datasourceOption()
     .doc("refresh_policy, possible value are NONE(false), IMMEDIATE(true), WAIT_UNTIL(wait_for)")
@@ -126,6 +157,44 @@ object FlintSparkConf {
     .doc("scroll duration in minutes")
     .createWithDefault(String.valueOf(FlintOptions.DEFAULT_SCROLL_DURATION))
 
+  val READ_PREFETCH_PAGES =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.READ_PREFETCH_PAGES}")
+      .datasourceOption()
+      .doc("number of search_after pages fetched ahead of the reader, 0 disables prefetch")
+      .createWithDefault(FlintOptions.DEFAULT_READ_PREFETCH_PAGES)
+
+  val READ_STREAMING_ENABLED =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.READ_STREAMING_ENABLED}")
+      .datasourceOption()
+      .doc("parse search response hits one by one from the buffered response body instead of " +
+        "deserializing the whole page into search hit objects")
+      .createWithDefault(FlintOptions.DEFAULT_READ_STREAMING_ENABLED)
+
+  val READ_SPLIT_SIZE =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.READ_SPLIT_SIZE}")
+      .datasourceOption()
+      .doc("target size of a sliced point-in-time split. shards larger than it are read by " +
+        "multiple splits. 0 disables sub-shard slicing")
+      .createWithDefault(FlintOptions.DEFAULT_READ_SPLIT_SIZE)
+
+  val READ_AGGREGATE_PUSHDOWN_ENABLED =
+    FlintConfig("spark.datasource.flint.read.aggregate_pushdown.enabled")
+      .datasourceOption()
+      .doc("push down group-by aggregation to OpenSearch composite aggregation")
+      .createWithDefault("true")
+
+  val READ_COLUMNAR_ENABLED =
+    FlintConfig("spark.datasource.flint.read.columnar.enabled")
+      .datasourceOption()
+      .doc("read documents into columnar batches if all required columns are of primitive type")
+      .createWithDefault("false")
+
+  val READ_COLUMNAR_BATCH_SIZE =
+    FlintConfig("spark.datasource.flint.read.columnar.batch_size")
+      .datasourceOption()
+      .doc("number of documents in each columnar batch")
+      .createWithDefault("4096")
+
   val SUPPORT_SHARD = FlintConfig(s"spark.datasource.flint.${FlintOptions.SUPPORT_SHARD}")
     .datasourceOption()
     .doc("indicate does index support shard or not")
@@ -142,6 +211,38 @@ object FlintSparkConf {
       .doc("[Experimental] Rate limit (requests/sec) for bulk request per worker node. Rate won't be limited by default")
       .createWithDefault(FlintOptions.DEFAULT_BULK_REQUEST_RATE_LIMIT_PER_NODE)
 
+  val BULK_ADAPTIVE_ENABLED =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.BULK_ADAPTIVE_ENABLED}")
+      .datasourceOption()
+      .doc("[Experimental] Adjust batch bytes and bulk request rate limit per node based on " +
+        "bulk response latency and rejections")
+      .createWithDefault(FlintOptions.DEFAULT_BULK_ADAPTIVE_ENABLED)
+
+  val BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE}")
+      .datasourceOption()
+      .doc("lower bound of adaptive bulk request rate limit (requests/sec) per worker node")
+      .createWithDefault(FlintOptions.DEFAULT_BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE)
+
+  val BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE}")
+      .datasourceOption()
+      .doc("upper bound of adaptive bulk request rate limit (requests/sec) per worker node")
+      .createWithDefault(FlintOptions.DEFAULT_BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE)
+
+  val BULK_ADAPTIVE_MAX_BATCH_BYTES =
+    FlintConfig(s"spark.datasource.flint.${FlintOptions.BULK_ADAPTIVE_MAX_BATCH_BYTES}")
+      .datasourceOption()
+      .doc("upper bound of adaptive batch bytes")
+      .createWithDefault(FlintOptions.DEFAULT_BULK_ADAPTIVE_MAX_BATCH_BYTES)
+
+  val BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS =
+    FlintConfig(
+      s"spark.datasource.flint.${FlintOptions.BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS}")
+      .datasourceOption()
+      .doc("adaptive bulk only grows batch bytes and rate limit when bulk latency is below it")
+      .createWithDefault(FlintOptions.DEFAULT_BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS)
+
   val RETRYABLE_HTTP_STATUS_CODES =
     FlintConfig(s"spark.datasource.flint.${FlintRetryOptions.RETRYABLE_HTTP_STATUS_CODES}")
       .datasourceOption()
@@ -167,6 +268,23 @@ object FlintSparkConf {
     .doc("Enable hybrid scan to include latest source data not refreshed to index yet")
     .createWithDefault("false")
 
+  val HYBRID_SCAN_LOCAL_FILTER_THRESHOLD =
+    FlintConfig("spark.flint.index.hybridscan.localFilterThreshold")
+      .doc("Maximum number of source files filtered on driver side in hybrid scan. " +
+        "Spark join with index data is used if source file count exceeds this value")
+      .createWithDefault("1000000")
+
+  val SKIPPING_INDEX_FILE_CACHE_MAX_ENTRIES =
+    FlintConfig("spark.flint.index.skipping.fileCache.maxEntries")
+      .doc("Maximum number of skipping index query results cached on driver. " +
+        "Cache is disabled if set to 0")
+      .createWithDefault("0")
+
+  val SKIPPING_INDEX_BLOOM_FILTER_OFF_HEAP =
+    FlintConfig("spark.flint.index.skipping.bloomFilter.offHeap.enabled")
+      .doc("allocate bloom filter bit arrays in off-heap memory when building skipping index")
+      .createWithDefault("false")
+
   val EXTERNAL_SCHEDULER_ENABLED = FlintConfig("spark.flint.job.externalScheduler.enabled")
     .doc("Enable external scheduler for index refresh")
     .createWithDefault("false")
@@ -249,6 +367,11 @@ object FlintSparkConf {
     FlintConfig(s"spark.flint.job.inactivityLimitMillis")
       .doc("inactivity timeout")
       .createWithDefault(String.valueOf(FlintOptions.DEFAULT_INACTIVITY_LIMIT_MILLIS))
+  val RESULT_PAGE_SIZE =
+    FlintConfig(s"spark.flint.job.resultPageSize")
+      .doc("Number of result rows per result index document. Query result is written " +
+        "as a single document if set to 0")
+      .createWithDefault("0")
   val METADATA_ACCESS_AWS_CREDENTIALS_PROVIDER =
     FlintConfig("spark.metadata.accessAWSCredentialsProvider")
       .doc("AWS credentials provider for metadata access permission")
@@ -294,8 +417,26 @@ case class FlintSparkConf(properties: JMap[String, String]) extends Serializable
   def isCoveringIndexOptimizerEnabled: Boolean =
     OPTIMIZER_RULE_COVERING_INDEX_ENABLED.readFrom(reader).toBoolean
 
+  def resultPageSize: Int = RESULT_PAGE_SIZE.readFrom(reader).toInt
+
+  def isAggregatePushDownEnabled: Boolean =
+    READ_AGGREGATE_PUSHDOWN_ENABLED.readFrom(reader).toBoolean
+
+  def isReadColumnarEnabled: Boolean = READ_COLUMNAR_ENABLED.readFrom(reader).toBoolean
+
+  def readColumnarBatchSize: Int = READ_COLUMNAR_BATCH_SIZE.readFrom(reader).toInt
+
   def isHybridScanEnabled: Boolean = HYBRID_SCAN_ENABLED.readFrom(reader).toBoolean
 
+  def hybridScanLocalFilterThreshold: Int =
+    HYBRID_SCAN_LOCAL_FILTER_THRESHOLD.readFrom(reader).toInt
+
+  def skippingIndexFileCacheMaxEntries: Int =
+    SKIPPING_INDEX_FILE_CACHE_MAX_ENTRIES.readFrom(reader).toInt
+
+  def isBloomFilterOffHeapEnabled: Boolean =
+    SKIPPING_INDEX_BLOOM_FILTER_OFF_HEAP.readFrom(reader).toBoolean
+
   def isExternalSchedulerEnabled: Boolean = EXTERNAL_SCHEDULER_ENABLED.readFrom(reader).toBoolean
 
   def externalSchedulerIntervalThreshold(): String = {
@@ -329,11 +470,19 @@ case class FlintSparkConf(properties: JMap[String, String]) extends Serializable
       HOST_PORT,
       REFRESH_POLICY,
       SCROLL_DURATION,
+      READ_PREFETCH_PAGES,
+      READ_STREAMING_ENABLED,
+      READ_SPLIT_SIZE,
       SCHEME,
       AUTH,
       MAX_RETRIES,
       RETRYABLE_HTTP_STATUS_CODES,
       BULK_REQUEST_RATE_LIMIT_PER_NODE,
+      BULK_ADAPTIVE_ENABLED,
+      BULK_ADAPTIVE_MIN_RATE_LIMIT_PER_NODE,
+      BULK_ADAPTIVE_MAX_RATE_LIMIT_PER_NODE,
+      BULK_ADAPTIVE_MAX_BATCH_BYTES,
+      BULK_ADAPTIVE_LATENCY_THRESHOLD_MILLIS,
       REGION,
       CUSTOM_AWS_CREDENTIALS_PROVIDER,
       SERVICE_NAME,
@@ -342,7 +491,12 @@ case class FlintSparkConf(properties: JMap[String, String]) extends Serializable
       SOCKET_TIMEOUT_MILLIS,
       JOB_TYPE,
       REPL_INACTIVITY_TIMEOUT_MILLIS,
-      BATCH_BYTES)
+      BATCH_BYTES,
+      MAX_IN_FLIGHT_BULK_REQUESTS,
+      CLIENT_POOL_ENABLED,
+      CLIENT_POOL_KEEP_ALIVE_MILLIS,
+      MAX_CONNECTIONS,
+      MAX_CONNECTIONS_PER_ROUTE)
       .map(conf => (conf.optionKey, conf.readFrom(reader)))
       .toMap
 
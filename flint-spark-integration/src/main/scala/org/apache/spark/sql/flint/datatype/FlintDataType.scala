@@ -74,6 +74,11 @@ object FlintDataType {
         metadataBuilder.putString("osType", "text")
         StringType
 
+      // IP address in string form
+      case JString("ip") =>
+        metadataBuilder.putString("osType", "ip")
+        StringType
+
       // object types
       case JString("object") | JNothing => deserializeJValue(fieldProperties)
 
@@ -131,6 +136,8 @@ object FlintDataType {
       case StringType | _: VarcharType | _: CharType =>
         if (metadata.contains("osType") && metadata.getString("osType") == "text") {
           JObject("type" -> JString("text"))
+        } else if (metadata.contains("osType") && metadata.getString("osType") == "ip") {
+          JObject("type" -> JString("ip"))
         } else {
           JObject("type" -> JString("keyword"))
         }
@@ -5,7 +5,7 @@
 
 package org.apache.spark.sql.flint.json
 
-import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.core.{JsonEncoding, JsonFactory}
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter
 import org.opensearch.flint.core.storage.FlintWriter
 
@@ -20,6 +20,7 @@ import org.apache.spark.sql.types._
 /**
  * copy from spark {@link JacksonGenerator}.
  *   1. Add ignoredFieldName, the column is ignored when write.
+ *   2. Encode UTF-8 directly into the FlintWriter output stream instead of writing chars.
  */
 case class FlintJacksonGenerator(
     dataType: DataType,
@@ -61,7 +62,9 @@ case class FlintJacksonGenerator(
   }
 
   private val gen = {
-    val generator = new JsonFactory().createGenerator(writer).setRootValueSeparator(null)
+    val generator = new JsonFactory()
+      .createGenerator(writer.getOutputStream, JsonEncoding.UTF8)
+      .setRootValueSeparator(null)
     if (options.pretty) {
       generator.setPrettyPrinter(new DefaultPrettyPrinter(""))
     }
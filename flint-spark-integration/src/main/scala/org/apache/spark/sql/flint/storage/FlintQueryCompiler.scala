@@ -5,13 +5,20 @@
 
 package org.apache.spark.sql.flint.storage
 
+import java.net.{Inet6Address, InetAddress}
+
 import scala.io.Source
+import scala.util.Try
+
+import org.opensearch.flint.core.storage.OpenSearchCompositeAggregationReader.DOC_COUNT_FIELD
 
 import org.apache.spark.sql.catalyst.expressions.Literal
 import org.apache.spark.sql.catalyst.util.{DateTimeUtils, TimestampFormatter}
-import org.apache.spark.sql.connector.expressions.{Expression, FieldReference, LiteralValue}
+import org.apache.spark.sql.connector.expressions.{Expression, FieldReference, LiteralValue, NullOrdering, SortDirection, SortOrder}
+import org.apache.spark.sql.connector.expressions.aggregate._
 import org.apache.spark.sql.connector.expressions.filter.{And, Predicate}
 import org.apache.spark.sql.flint.datatype.FlintDataType.STRICT_DATE_OPTIONAL_TIME_FORMATTER_WITH_NANOS
+import org.apache.spark.sql.flint.storage.FlintQueryCompiler._
 import org.apache.spark.sql.internal.SQLConf
 import org.apache.spark.sql.types._
 
@@ -114,6 +121,15 @@ case class FlintQueryCompiler(schema: StructType) {
         s"""{"wildcard":{"${compile(p.children()(0))}":{"value":"*${compile(
             p.children()(1),
             false)}"}}}"""
+      case "CIDRMATCH" =>
+        // term query on ip field matches addresses in the CIDR block. Only plain prefix block
+        // is pushed, because OpenSearch parses other forms differently from cidrmatch.
+        (p.children()(0), p.children()(1)) match {
+          case (f: FieldReference, LiteralValue(cidr, StringType))
+              if isIpField(f.toString) && cidr != null && isPrefixBlock(cidr.toString) =>
+            s"""{"term":{"${compile(f)}":{"value":"$cidr"}}}"""
+          case _ => ""
+        }
       case "BLOOM_FILTER_MIGHT_CONTAIN" =>
         val code = Source.fromResource("bloom_filter_query.script").getLines().mkString(" ")
         s"""
@@ -138,6 +154,164 @@ case class FlintQueryCompiler(schema: StructType) {
     }
   }
 
+  /**
+   * Compile aggregation to OpenSearch composite aggregation. Each group-by column is a terms
+   * source of the composite aggregation and each aggregate function except COUNT(*) is a metric
+   * sub-aggregation. SUM has an additional value_count sub-aggregation to tell empty bucket from
+   * zero sum.
+   *
+   * @param aggregation
+   *   aggregation pushed down by Spark
+   * @return
+   *   aggregations DSL, or None if any group-by expression or aggregate function is not supported
+   */
+  def compileAggregation(aggregation: Aggregation): Option[String] = {
+    val sources = aggregation.groupByExpressions().zipWithIndex.map { case (expr, i) =>
+      compileGroupBy(expr).map(source => s"""{"${groupByName(i)}":$source}""")
+    }
+    val metrics = aggregation.aggregateExpressions().zipWithIndex.map { case (func, i) =>
+      compileAggregateFunc(func, aggregateName(i))
+    }
+    if (sources.isEmpty || sources.exists(_.isEmpty) || metrics.exists(_.isEmpty)) {
+      None
+    } else {
+      Some(s"""{"$COMPOSITE_AGGREGATION_NAME":{"composite":{"size":$COMPOSITE_PAGE_SIZE,""" +
+        s""""sources":${sources.flatten.mkString("[", ",", "]")}},""" +
+        s""""aggregations":${metrics.flatten.filter(_.nonEmpty).mkString("{", ",", "}")}}}""")
+    }
+  }
+
+  /**
+   * Schema of the aggregation output, which is group-by columns followed by aggregate functions.
+   * Metric values are double in OpenSearch response and casted to the expected type by Spark,
+   * which is exact because only metrics exactly represented by double are pushed down.
+   */
+  def aggregationSchema(aggregation: Aggregation): StructType = {
+    val groupBy = aggregation.groupByExpressions().zipWithIndex.map { case (expr, i) =>
+      StructField(groupByName(i), schema(expr.asInstanceOf[FieldReference].toString).dataType)
+    }
+    val aggregates = aggregation.aggregateExpressions().zipWithIndex.map {
+      case (_: CountStar, i) => StructField(aggregateName(i), LongType)
+      case (_, i) => StructField(aggregateName(i), DoubleType)
+    }
+    StructType(groupBy ++ aggregates)
+  }
+
+  /**
+   * Schema of the composite aggregation bucket doc returned by Flint reader.
+   */
+  def bucketSchema(aggregation: Aggregation): StructType = {
+    val metrics = aggregation.aggregateExpressions().zipWithIndex.flatMap {
+      case (_: CountStar, _) => Seq.empty
+      case (_: Sum, i) =>
+        Seq(
+          StructField(aggregateName(i), DoubleType),
+          StructField(valueCountName(aggregateName(i)), DoubleType))
+      case (_, i) => Seq(StructField(aggregateName(i), DoubleType))
+    }
+    val groupBy = aggregationSchema(aggregation).take(aggregation.groupByExpressions().length)
+    StructType(groupBy ++ (StructField(DOC_COUNT_FIELD, LongType) +: metrics))
+  }
+
+  /**
+   * Compile sort orders to OpenSearch sort DSL.
+   *
+   * @param orders
+   *   sort orders on columns
+   * @return
+   *   empty if any sort order does not support.
+   */
+  def compileSortOrders(orders: Array[SortOrder]): String = {
+    val sorts = orders.map { order =>
+      order.expression() match {
+        case f: FieldReference if isDocValueColumn(f, numeric = false) =>
+          val direction = if (order.direction() == SortDirection.ASCENDING) "asc" else "desc"
+          val missing = if (order.nullOrdering() == NullOrdering.NULLS_FIRST) "_first" else "_last"
+          s"""{"${f.toString}":{"order":"$direction","missing":"$missing"}}"""
+        case _ => ""
+      }
+    }
+    if (sorts.isEmpty || sorts.exists(_.isEmpty)) "" else sorts.mkString("[", ",", "]")
+  }
+
+  private def compileGroupBy(expr: Expression): Option[String] = expr match {
+    case f: FieldReference if f.fieldNames().length == 1 =>
+      val fieldName = f.toString
+      schema.find(_.name == fieldName).map(_.dataType).collect {
+        case StringType if !isTextField(fieldName) =>
+          s"""{"terms":{"field":"$fieldName","missing_bucket":true}}"""
+        case ByteType | ShortType | IntegerType | LongType | FloatType | DoubleType |
+            TimestampType =>
+          s"""{"terms":{"field":"$fieldName","missing_bucket":true}}"""
+        case DateType =>
+          s"""{"terms":{"field":"$fieldName","missing_bucket":true,"format":"strict_date"}}"""
+      }
+    case _ => None
+  }
+
+  /**
+   * @return
+   *   metric sub-aggregations, empty string if computed from bucket doc count, or None if not
+   *   supported
+   */
+  private def compileAggregateFunc(func: AggregateFunc, name: String): Option[String] =
+    func match {
+      case _: CountStar => Some("")
+      case count: Count if !count.isDistinct && isDocValueColumn(count.column, numeric = false) =>
+        Some(metric(name, "value_count", count.column))
+      case sum: Sum if !sum.isDistinct && isExactInDouble(sum.column, sum = true) =>
+        Some(
+          s"""${metric(name, "sum", sum.column)},""" +
+            s"""${metric(valueCountName(name), "value_count", sum.column)}""")
+      case avg: Avg if !avg.isDistinct && isExactInDouble(avg.column, sum = true) =>
+        Some(metric(name, "avg", avg.column))
+      case min: Min if isExactInDouble(min.column, sum = false) =>
+        Some(metric(name, "min", min.column))
+      case max: Max if isExactInDouble(max.column, sum = false) =>
+        Some(metric(name, "max", max.column))
+      case _ => None
+    }
+
+  /**
+   * OpenSearch computes metric aggregations in double, so a metric is pushed down only if its
+   * result is exactly represented by double. Long value above 2^53 is not, neither is the sum of
+   * integer values over a few million docs. Byte and short sum needs more docs than an index has.
+   */
+  private def isExactInDouble(column: Expression, sum: Boolean): Boolean =
+    isDocValueColumn(column, numeric = true) && schema
+      .find(_.name == column.asInstanceOf[FieldReference].toString)
+      .map(_.dataType)
+      .exists {
+        case ByteType | ShortType | FloatType | DoubleType => true
+        case IntegerType => !sum
+        case _ => false
+      }
+
+  private def metric(name: String, aggType: String, column: Expression): String =
+    s""""$name":{"$aggType":{"field":"${column.asInstanceOf[FieldReference].toString}"}}"""
+
+  private def isDocValueColumn(column: Expression, numeric: Boolean): Boolean = column match {
+    case f: FieldReference if f.fieldNames().length == 1 =>
+      schema.find(_.name == f.toString).map(_.dataType).exists {
+        case ByteType | ShortType | IntegerType | LongType | FloatType | DoubleType => true
+        case StringType => !numeric && !isTextField(f.toString)
+        case TimestampType | DateType | BooleanType => !numeric
+        case _ => false
+      }
+    case _ => false
+  }
+
+  /**
+   * return true if the field is OpenSearch ip field.
+   */
+  protected def isIpField(attribute: String): Boolean = {
+    schema.find(_.name == attribute).exists {
+      case StructField(_, StringType, _, metadata) =>
+        metadata.contains("osType") && metadata.getString("osType") == "ip"
+      case _ => false
+    }
+  }
+
   /**
    * return true if the field is Flint Text field.
    */
@@ -149,3 +323,66 @@ case class FlintQueryCompiler(schema: StructType) {
     }
   }
 }
+
+object FlintQueryCompiler {
+
+  /**
+   * Name of the top level composite aggregation.
+   */
+  val COMPOSITE_AGGREGATION_NAME = "buckets"
+
+  /**
+   * Number of composite aggregation buckets per page.
+   */
+  val COMPOSITE_PAGE_SIZE = 1000
+
+  def groupByName(ordinal: Int): String = s"group_col_$ordinal"
+
+  def aggregateName(ordinal: Int): String = s"agg_func_$ordinal"
+
+  def valueCountName(name: String): String = s"${name}_count"
+
+  /**
+   * Check if the CIDR block is a plain `address/length` prefix block with all host bits zero, and
+   * the address is either IPv4 dotted decimal or IPv6 but not IPv4-mapped. Such a block matches
+   * the same addresses in OpenSearch term query on ip field as in PPL cidrmatch function.
+   *
+   * @param cidrBlock
+   *   CIDR block string
+   * @return
+   *   true if plain prefix block
+   */
+  def isPrefixBlock(cidrBlock: String): Boolean = {
+    val slash = cidrBlock.indexOf('/')
+    val length = cidrBlock.substring(slash + 1)
+    if (slash <= 0 || length.isEmpty || length.length > 3 ||
+      !length.forall(Character.isDigit) || (length.length > 1 && length.startsWith("0"))) {
+      return false
+    }
+    parseAddress(cidrBlock.substring(0, slash)).exists { bytes =>
+      val bits = bytes.length * 8
+      val prefix = length.toInt
+      prefix <= bits && (BigInt(1, bytes) & ((BigInt(1) << (bits - prefix)) - 1)) == 0
+    }
+  }
+
+  private def parseAddress(address: String): Option[Array[Byte]] = {
+    if (address.contains(':')) {
+      if (address.forall(c => c == ':' || Character.digit(c, 16) >= 0)) {
+        // Brackets make sure it's parsed as IPv6 literal without falling back to name lookup
+        Try(InetAddress.getByName(s"[$address]")).toOption.collect { case ip: Inet6Address =>
+          ip.getAddress
+        }
+      } else {
+        None
+      }
+    } else {
+      val segments = address.split("\\.", -1)
+      val valid = segments.length == 4 && segments.forall { segment =>
+        segment.nonEmpty && segment.length <= 3 && segment.forall(Character.isDigit) &&
+        (segment == "0" || !segment.startsWith("0")) && segment.toInt <= 255
+      }
+      if (valid) Some(segments.map(_.toInt.toByte)) else None
+    }
+  }
+}
@@ -7,6 +7,7 @@ package org.opensearch.flint.spark.skipping
 
 import org.opensearch.flint.common.metadata.log.FlintMetadataLogEntry.IndexState.DELETED
 import org.opensearch.flint.spark.{FlintSpark, FlintSparkIndex}
+import org.opensearch.flint.spark.skipping.FlintSparkSkippingFileCache.IndexVersion
 import org.opensearch.flint.spark.skipping.FlintSparkSkippingIndex.{getSkippingIndexName, SKIPPING_INDEX_TYPE}
 
 import org.apache.spark.sql.catalyst.catalog.CatalogTable
@@ -49,7 +50,10 @@ class ApplyFlintSparkSkippingIndex(flint: FlintSpark) extends Rule[LogicalPlan]
          */
         if (indexFilter.isDefined) {
           val indexScan = flint.queryIndex(skippingIndex.name())
-          val fileIndex = FlintSparkSkippingFileIndex(location, indexScan, indexFilter.get)
+          val indexVersion = skippingIndex.latestLogEntry.flatMap(entry =>
+            IndexVersion(skippingIndex.name(), entry))
+          val fileIndex =
+            FlintSparkSkippingFileIndex(location, indexScan, indexFilter.get, indexVersion)
           val indexRelation = baseRelation.copy(location = fileIndex)(baseRelation.sparkSession)
           filter.copy(child = relation.copy(relation = indexRelation))
         } else {
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.spark.skipping
+
+import java.util.{LinkedHashMap => JLinkedHashMap}
+
+import org.opensearch.flint.common.metadata.log.FlintMetadataLogEntry
+import org.opensearch.flint.core.metrics.{MetricConstants, MetricsUtil}
+
+import org.apache.spark.internal.Logging
+import org.apache.spark.sql.catalyst.expressions.Expression
+
+/**
+ * Driver-side LRU cache of source file paths selected from skipping index data. Cache entry is
+ * keyed by skipping index version and canonicalized index filter. Because index version changes
+ * whenever metadata log entry is updated (by refresh or heartbeat of auto refresh job), cached
+ * file paths are never reused across index data updates.
+ */
+object FlintSparkSkippingFileCache extends Logging {
+
+  /**
+   * Skipping index version identified by index name and its latest metadata log entry.
+   *
+   * @param indexName
+   *   skipping index name
+   * @param entryVersion
+   *   entry version fields (sequence number and primary term) of latest log entry
+   * @param lastRefreshCompleteTime
+   *   last refresh complete timestamp of latest log entry
+   */
+  case class IndexVersion(
+      indexName: String,
+      entryVersion: Map[String, Any],
+      lastRefreshCompleteTime: Long)
+
+  object IndexVersion {
+
+    /**
+     * Create index version from latest log entry. Index without entry version cannot be cached
+     * because there is no way to tell if its data changed.
+     */
+    def apply(indexName: String, logEntry: FlintMetadataLogEntry): Option[IndexVersion] = {
+      if (logEntry.entryVersion.nonEmpty) {
+        Some(IndexVersion(indexName, logEntry.entryVersion, logEntry.lastRefreshCompleteTime))
+      } else {
+        None
+      }
+    }
+  }
+
+  /**
+   * Cache key.
+   *
+   * @param version
+   *   skipping index version
+   * @param indexFilter
+   *   canonicalized index filter, or None for all file paths in index data
+   */
+  case class CacheKey(version: IndexVersion, indexFilter: Option[Expression])
+
+  /** Cached entries in access order, the eldest is evicted first */
+  private val cache = new JLinkedHashMap[CacheKey, Set[String]](16, 0.75f, true)
+
+  /**
+   * Get cached file paths or load and cache them if absent.
+   *
+   * @param version
+   *   skipping index version
+   * @param indexFilter
+   *   index filter, or None for all file paths in index data
+   * @param maxEntries
+   *   maximum number of cache entries, caching is disabled if not positive
+   * @param load
+   *   function to load file paths from skipping index
+   * @return
+   *   file paths
+   */
+  def getOrLoad(version: IndexVersion, indexFilter: Option[Expression], maxEntries: Int)(
+      load: => Set[String]): Set[String] = {
+    if (maxEntries <= 0) {
+      return load
+    }
+
+    val key = CacheKey(version, indexFilter.map(_.canonicalized))
+    val cached = synchronized(Option(cache.get(key)))
+    if (cached.isDefined) {
+      MetricsUtil.incrementCounter(MetricConstants.SKIPPING_INDEX_CACHE_HIT_METRIC)
+      cached.get
+    } else {
+      MetricsUtil.incrementCounter(MetricConstants.SKIPPING_INDEX_CACHE_MISS_METRIC)
+      val files = load
+      synchronized {
+        cache.put(key, files)
+        evict(maxEntries)
+      }
+      files
+    }
+  }
+
+  /** Remove all cache entries. */
+  def clear(): Unit = synchronized {
+    cache.clear()
+  }
+
+  /** @return current number of cache entries */
+  def size: Int = synchronized {
+    cache.size()
+  }
+
+  private def evict(maxEntries: Int): Unit = {
+    val iterator = cache.entrySet().iterator()
+    while (cache.size() > maxEntries && iterator.hasNext) {
+      val eldest = iterator.next()
+      logInfo(s"Evict skipping index file cache entry of ${eldest.getKey.version.indexName}")
+      iterator.remove()
+    }
+  }
+}
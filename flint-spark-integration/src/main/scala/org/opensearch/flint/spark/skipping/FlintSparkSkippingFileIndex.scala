@@ -6,13 +6,14 @@
 package org.opensearch.flint.spark.skipping
 
 import org.apache.hadoop.fs.{FileStatus, Path}
+import org.opensearch.flint.spark.skipping.FlintSparkSkippingFileCache.IndexVersion
 import org.opensearch.flint.spark.skipping.FlintSparkSkippingIndex.FILE_PATH_COLUMN
 
 import org.apache.spark.sql.{Column, DataFrame}
 import org.apache.spark.sql.catalyst.expressions.Expression
 import org.apache.spark.sql.execution.datasources.{FileIndex, FileStatusWithMetadata, PartitionDirectory}
 import org.apache.spark.sql.flint.config.FlintSparkConf
-import org.apache.spark.sql.functions.isnull
+import org.apache.spark.sql.functions.{col, isnull}
 import org.apache.spark.sql.types.StructType
 
 /**
@@ -22,11 +23,16 @@ import org.apache.spark.sql.types.StructType
  *   original file index
  * @param indexScan
  *   query skipping index DF with pushed down filters
+ * @param indexFilter
+ *   filter on skipping index data rewritten from query filter
+ * @param indexVersion
+ *   skipping index version to cache selected files with, no caching if empty
  */
 case class FlintSparkSkippingFileIndex(
     baseFileIndex: FileIndex,
     indexScan: DataFrame,
-    indexFilter: Expression)
+    indexFilter: Expression,
+    indexVersion: Option[IndexVersion] = None)
     extends FileIndex {
 
   override def listFiles(
@@ -58,6 +64,41 @@ case class FlintSparkSkippingFileIndex(
 
   override def partitionSchema: StructType = baseFileIndex.partitionSchema
 
+  /*
+   * Keep source files unknown to index data or selected by index filter. Filter source files
+   * on driver side unless the number of source files exceeds the threshold, in which case
+   * a Spark join is used instead.
+   */
+  private def selectFilesFromIndexAndSource(partitions: Seq[PartitionDirectory]): Set[String] = {
+    val sourceFileCount = partitions.map(_.files.size).sum
+    if (sourceFileCount <= FlintSparkConf().hybridScanLocalFilterThreshold) {
+      selectFilesFromIndexAndSourceLocally(partitions)
+    } else {
+      selectFilesFromIndexAndSourceByJoin(partitions)
+    }
+  }
+
+  /*
+   * Look up source files in all index file paths and the ones selected by index filter, which
+   * is the same as the join approach below. Both are collected by scans with the file path
+   * projection pushed down, and index filter pushed down for the selected files, unless cached
+   * already. A file with multiple index rows is selected if any row satisfies the filter:
+   *   SELECT DISTINCT file_path FROM indexScan
+   *   SELECT file_path FROM indexScan WHERE [indexFilter]
+   */
+  private def selectFilesFromIndexAndSourceLocally(
+      partitions: Seq[PartitionDirectory]): Set[String] = {
+    val indexedFiles = cached(None) {
+      collectFilePaths(indexScan.select(col(FILE_PATH_COLUMN)).distinct())
+    }
+    val selectedFiles = selectFilesFromIndexOnly()
+
+    partitions
+      .flatMap(_.files.map(f => f.getPath.toUri.toString))
+      .filter(filePath => !indexedFiles.contains(filePath) || selectedFiles.contains(filePath))
+      .toSet
+  }
+
   /*
    * Left join source partitions and index data to keep unknown source files:
    * Express the logic in SQL:
@@ -68,7 +109,8 @@ case class FlintSparkSkippingFileIndex(
    *   WHERE right.file_path IS NULL
    *     OR [indexFilter]
    */
-  private def selectFilesFromIndexAndSource(partitions: Seq[PartitionDirectory]): Set[String] = {
+  private def selectFilesFromIndexAndSourceByJoin(
+      partitions: Seq[PartitionDirectory]): Set[String] = {
     val sparkSession = indexScan.sparkSession
     import sparkSession.implicits._
 
@@ -88,14 +130,27 @@ case class FlintSparkSkippingFileIndex(
    * to index store.
    */
   private def selectFilesFromIndexOnly(): Set[String] = {
-    indexScan
-      .filter(new Column(indexFilter))
-      .select(FILE_PATH_COLUMN)
+    cached(Some(indexFilter)) {
+      collectFilePaths(indexScan.filter(new Column(indexFilter)))
+    }
+  }
+
+  private def collectFilePaths(df: DataFrame): Set[String] = {
+    df.select(FILE_PATH_COLUMN)
       .collect
       .map(_.getString(0))
       .toSet
   }
 
+  private def cached(filter: Option[Expression])(load: => Set[String]): Set[String] = {
+    val maxEntries = FlintSparkConf().skippingIndexFileCacheMaxEntries
+    indexVersion match {
+      case Some(version) if maxEntries > 0 =>
+        FlintSparkSkippingFileCache.getOrLoad(version, filter, maxEntries)(load)
+      case _ => load
+    }
+  }
+
   private def isFileNotSkipped(selectedFiles: Set[String], f: FileStatusWithMetadata) = {
     selectedFiles.contains(f.getPath.toUri.toString)
   }
@@ -24,6 +24,9 @@ import org.apache.spark.sql.types.{BinaryType, DataType}
  * bits, it couples with its own BloomFilterImpl and most importantly it cannot be extended due to
  * Scala case class restriction.
  *
+ * Bloom filter buffer may hold off-heap memory of the task. It is released once the buffer is
+ * no longer used by Spark, i.e. after it is serialized, evaluated or merged as input.
+ *
  * @param child
  *   child expression that generate Long values for creating a bloom filter
  * @param bloomFilterFactory
@@ -61,25 +64,43 @@ case class BloomFilterAgg(
 
   override def merge(buffer: BloomFilter, input: BloomFilter): BloomFilter = {
     buffer.merge(input)
+    // Input is deserialized by Spark only for this merge
+    input.close()
     buffer
   }
 
   override def eval(buffer: BloomFilter): Any = {
-    if (buffer.bitSize() == 0) {
-      // There's no set bit in the Bloom filter and hence no not-null value is processed.
-      return null
+    try {
+      if (buffer.bitSize() == 0) {
+        // There's no set bit in the Bloom filter and hence no not-null value is processed.
+        return null
+      }
+
+      // Serialize BloomFilter (best candidate if adaptive) as final result
+      buffer match {
+        case filter: AdaptiveBloomFilter =>
+          write(filter.bestCandidate().getBloomFilter)
+        case _ =>
+          write(buffer)
+      }
+    } finally {
+      buffer.close()
     }
+  }
 
-    // Serialize BloomFilter (best candidate if adaptive) as final result
-    buffer match {
-      case filter: AdaptiveBloomFilter =>
-        serialize(filter.bestCandidate().getBloomFilter)
-      case _ =>
-        serialize(buffer)
+  /**
+   * Serialize the buffer, which is called by Spark only when the buffer is no longer used, so the
+   * buffer is released afterwards.
+   */
+  override def serialize(buffer: BloomFilter): Array[Byte] = {
+    try {
+      write(buffer)
+    } finally {
+      buffer.close()
     }
   }
 
-  override def serialize(buffer: BloomFilter): Array[Byte] = {
+  private def write(buffer: BloomFilter): Array[Byte] = {
     // Preallocate space. BloomFilter.writeTo() writes 2 integers (version number and
     // num hash functions) first, hence +8
     val size = (buffer.bitSize() / 8) + 8
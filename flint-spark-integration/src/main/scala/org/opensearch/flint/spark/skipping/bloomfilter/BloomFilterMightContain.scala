@@ -5,9 +5,7 @@
 
 package org.opensearch.flint.spark.skipping.bloomfilter
 
-import java.io.ByteArrayInputStream
-
-import org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter
+import org.opensearch.flint.core.field.bloomfilter.BloomFilter
 import org.opensearch.flint.spark.skipping.bloomfilter.BloomFilterMightContain.NAME
 
 import org.apache.spark.sql.Column
@@ -67,8 +65,7 @@ case class BloomFilterMightContain(bloomFilterExpression: Expression, valueExpre
       null
     } else {
       val bytes = bloomFilterExpression.eval(input).asInstanceOf[Array[Byte]]
-      val bloomFilter = ClassicBloomFilter.readFrom(new ByteArrayInputStream(bytes))
-      bloomFilter.mightContain(value.asInstanceOf[Long])
+      BloomFilter.mightContain(bytes, value.asInstanceOf[Long])
     }
   }
 
@@ -80,18 +77,17 @@ case class BloomFilterMightContain(bloomFilterExpression: Expression, valueExpre
    *   if (!right_isNull) {
    *     filter_isNull_0 = false;
    *     filter_value_0 =
-   *       org.opensearch.flint.core.field.bloomfilter.classic.ClassicBloomFilter.readFrom(
-   *         new java.io.ByteArrayInputStream(left_value)
-   *       ).mightContain(right_value);
+   *       org.opensearch.flint.core.field.bloomfilter.BloomFilter.mightContain(
+   *         left_value, right_value);
    *   }
    * ```
    */
   override def doGenCode(ctx: CodegenContext, ev: ExprCode): ExprCode = {
     val leftGen = left.genCode(ctx)
     val rightGen = right.genCode(ctx)
-    val bloomFilterEncoder = classOf[ClassicBloomFilter].getCanonicalName.stripSuffix("$")
-    val bf = s"$bloomFilterEncoder.readFrom(new java.io.ByteArrayInputStream(${leftGen.value}))"
-    val result = s"$bf.mightContain(${rightGen.value})"
+    val bloomFilterEncoder = classOf[BloomFilter].getCanonicalName.stripSuffix("$")
+    // probe the serialized bloom filter directly to avoid deserializing it per row
+    val result = s"$bloomFilterEncoder.mightContain(${leftGen.value}, ${rightGen.value})"
     val resultCode =
       s"""
          |if (!(${rightGen.isNull})) {
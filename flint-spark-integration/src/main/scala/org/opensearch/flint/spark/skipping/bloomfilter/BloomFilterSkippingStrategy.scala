@@ -14,6 +14,7 @@ import org.opensearch.flint.spark.skipping.FlintSparkSkippingStrategy.SkippingKi
 
 import org.apache.spark.sql.Column
 import org.apache.spark.sql.catalyst.expressions.{EqualTo, Expression, Literal}
+import org.apache.spark.sql.flint.config.FlintSparkConf
 import org.apache.spark.sql.functions.{col, xxhash64}
 
 /**
@@ -26,7 +27,8 @@ case class BloomFilterSkippingStrategy(
     params: Map[String, String] = Map.empty)
     extends FlintSparkSkippingStrategy {
 
-  private val bloomFilterFactory: BloomFilterFactory = BloomFilterFactory.of(params.asJava)
+  private val bloomFilterFactory: BloomFilterFactory =
+    BloomFilterFactory.of(params.asJava, FlintSparkConf().isBloomFilterOffHeapEnabled)
 
   override val parameters: Map[String, String] = bloomFilterFactory.getParameters.asScala.toMap
 
@@ -60,7 +60,8 @@ trait FlintSparkSkippingIndexAstBuilder extends FlintSparkSqlExtensionsVisitor[A
                 Seq(
                   BLOOM_FILTER_ADAPTIVE_KEY,
                   CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY,
-                  CLASSIC_BLOOM_FILTER_FPP_KEY)
+                  CLASSIC_BLOOM_FILTER_FPP_KEY,
+                  BLOOM_FILTER_SPLIT_BLOCK_KEY)
               } else {
                 Seq(ADAPTIVE_NUMBER_CANDIDATE_KEY, CLASSIC_BLOOM_FILTER_FPP_KEY)
               }
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.apache.spark.sql.flint
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable.ArrayBuffer
+
+import org.opensearch.flint.core.storage.FlintReader
+import org.scalatest.matchers.should.Matchers.convertToAnyShouldWrapper
+
+import org.apache.spark.FlintSuite
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.types._
+
+class FlintColumnarPartitionReaderSuite extends FlintSuite {
+
+  private val schema = StructType(
+    Seq(
+      StructField("name", StringType),
+      StructField("age", IntegerType),
+      StructField("score", DoubleType),
+      StructField("active", BooleanType)))
+
+  test("read docs into columnar batches") {
+    val rows = readAll(
+      Seq(
+        """{"name":"a","age":1,"score":1.5,"active":true}""",
+        """{"name":"b","age":2,"unknown":{"x":[1]}}""",
+        """{"name":null,"age":3,"score":3,"active":false}"""),
+      batchSize = 2)
+
+    rows shouldBe Seq(
+      Seq(Row("a", 1, 1.5, true), Row("b", 2, null, null)),
+      Seq(Row(null, 3, 3.0, false)))
+  }
+
+  test("fall back to row parser if doc cannot be decoded directly") {
+    val rows = readAll(
+      Seq(
+        """{"name":123,"age":1}""",
+        """{"name":"b","age":2,"age":3}""",
+        """{"name":"c","age":4,"score":4.5}""",
+        """{"score":null,"score":5.5,"name":"d","age":5}"""),
+      batchSize = 10)
+
+    rows shouldBe Seq(
+      Seq(
+        Row("123", 1, null, null),
+        Row("b", 3, null, null),
+        Row("c", 4, 4.5, null),
+        Row("d", 5, 5.5, null)))
+  }
+
+  test("only primitive schema is supported") {
+    FlintColumnarPartitionReader.isSupported(schema) shouldBe true
+    FlintColumnarPartitionReader.isSupported(new StructType()) shouldBe false
+    FlintColumnarPartitionReader.isSupported(
+      schema.add("tags", ArrayType(StringType))) shouldBe false
+  }
+
+  private def readAll(docs: Seq[String], batchSize: Int): Seq[Seq[Row]] = {
+    val reader = new FlintColumnarPartitionReader(
+      new StubReader(docs),
+      schema,
+      FlintSparkConf(Map.empty[String, String].asJava),
+      batchSize)
+    val batches = ArrayBuffer[Seq[Row]]()
+    try {
+      while (reader.next()) {
+        batches += reader
+          .get()
+          .rowIterator()
+          .asScala
+          .map(row =>
+            Row(
+              if (row.isNullAt(0)) null else row.getUTF8String(0).toString,
+              if (row.isNullAt(1)) null else row.getInt(1),
+              if (row.isNullAt(2)) null else row.getDouble(2),
+              if (row.isNullAt(3)) null else row.getBoolean(3)))
+          .toList
+      }
+    } finally {
+      reader.close()
+    }
+    batches.toSeq
+  }
+
+  private class StubReader(docs: Seq[String]) extends FlintReader {
+    private val iterator = docs.iterator
+
+    override def hasNext: Boolean = iterator.hasNext
+
+    override def next(): String = iterator.next()
+
+    override def close(): Unit = {}
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.apache.spark.sql.flint
+
+import scala.collection.JavaConverters._
+
+import org.mockito.Mockito.when
+import org.opensearch.flint.core.Table
+import org.opensearch.flint.core.metrics.FlintTaskMetrics
+import org.scalatest.matchers.should.Matchers.convertToAnyShouldWrapper
+import org.scalatestplus.mockito.MockitoSugar.mock
+
+import org.apache.spark.FlintSuite
+import org.apache.spark.sql.connector.expressions.{Expression, FieldReference, LiteralValue}
+import org.apache.spark.sql.connector.expressions.filter.Predicate
+import org.apache.spark.sql.flint.config.FlintSparkConf
+import org.apache.spark.sql.types._
+
+class FlintScanSuite extends FlintSuite {
+
+  private val schema = StructType(
+    Seq(StructField("aInt", IntegerType), StructField("aString", StringType)))
+
+  test("estimate statistics from table statistics") {
+    val stats = scan(Seq(table(1000L, 100000L), table(1000L, 100000L))).estimateStatistics()
+
+    stats.numRows().getAsLong shouldBe 2000L
+    stats.sizeInBytes().getAsLong shouldBe 200000L
+  }
+
+  test("scale statistics by pushed predicates, required columns and limit") {
+    val tables = Seq(table(1000L, 100000L))
+    val equalTo = predicate("=", FieldReference("aInt"), LiteralValue(1, IntegerType))
+
+    val filtered = scan(tables, Array(equalTo)).estimateStatistics()
+    filtered.numRows().getAsLong shouldBe 100L
+    filtered.sizeInBytes().getAsLong shouldBe 10000L
+
+    val pruned =
+      scan(tables, requiredSchema = StructType(schema.fields.take(1))).estimateStatistics()
+    pruned.numRows().getAsLong shouldBe 1000L
+    pruned.sizeInBytes().getAsLong should be < 100000L
+
+    val limited = scan(tables, pushedLimit = Some(10)).estimateStatistics()
+    limited.numRows().getAsLong shouldBe 10L
+    limited.sizeInBytes().getAsLong shouldBe 1000L
+  }
+
+  test("report unknown statistics if any table has no statistics") {
+    val unknown = mock[Table]
+    when(unknown.statistics()).thenReturn(None)
+    val stats = scan(Seq(table(1000L, 100000L), unknown)).estimateStatistics()
+
+    stats.numRows().isPresent shouldBe false
+    stats.sizeInBytes().isPresent shouldBe false
+  }
+
+  test("estimate selectivity of pushed predicates") {
+    val aInt = FieldReference("aInt")
+    val equalTo = predicate("=", aInt, LiteralValue(1, IntegerType))
+    val greaterThan = predicate(">", aInt, LiteralValue(1, IntegerType))
+    val unknown = predicate("UNKNOWN", aInt)
+
+    FlintScan.selectivity(equalTo) shouldBe 0.1
+    FlintScan.selectivity(predicate("AND", equalTo, greaterThan)) shouldBe (0.1 / 3 +- 1e-9)
+    FlintScan.selectivity(predicate("OR", equalTo, equalTo)) shouldBe (0.19 +- 1e-9)
+    FlintScan.selectivity(predicate("NOT", equalTo)) shouldBe (0.9 +- 1e-9)
+    FlintScan.selectivity(
+      predicate("IN", aInt, LiteralValue(1, IntegerType), LiteralValue(2, IntegerType))) shouldBe
+      (0.2 +- 1e-9)
+
+    // Unknown predicate filters nothing even if negated
+    FlintScan.selectivity(unknown) shouldBe 1.0
+    FlintScan.selectivity(predicate("NOT", unknown)) shouldBe 1.0
+    FlintScan.selectivity(predicate("AND", equalTo, unknown)) shouldBe 0.1
+    FlintScan.selectivity(predicate("OR", equalTo, unknown)) shouldBe 1.0
+  }
+
+  test("report task values of every supported custom metric") {
+    val metrics = new FlintTaskMetrics
+    metrics.addPageFetched()
+    metrics.addHitBytes(100)
+    metrics.addParseTimeNanos(2000000)
+
+    val taskMetrics = FlintCustomMetrics.scanTaskMetrics(metrics)
+    taskMetrics.map(_.name()) shouldBe
+      scan(Seq(table(1000L, 100000L))).supportedCustomMetrics().map(_.name())
+    taskMetrics.map(_.value()) shouldBe Array(1L, 100L, 2L)
+  }
+
+  test("read table in one split only if pushed limit is small") {
+    val slices = Seq(mock[Table], mock[Table])
+    val splittable = table(1000L, 100000L)
+    when(splittable.isSplittable()).thenReturn(true)
+    when(splittable.slice()).thenReturn(slices)
+
+    scan(Seq(splittable)).planInputPartitions().length shouldBe 2
+    scan(Seq(splittable), pushedLimit = Some(10)).planInputPartitions().length shouldBe 1
+    scan(Seq(splittable), pushedLimit = Some(FlintScan.SINGLE_SPLIT_LIMIT_THRESHOLD + 1))
+      .planInputPartitions().length shouldBe 2
+  }
+
+  private def table(docCount: Long, sizeInBytes: Long): Table = {
+    val table = mock[Table]
+    when(table.statistics()).thenReturn(Some(Table.Statistics(docCount, sizeInBytes)))
+    table
+  }
+
+  private def predicate(name: String, children: Expression*): Predicate =
+    new Predicate(name, children.toArray)
+
+  private def scan(
+      tables: Seq[Table],
+      pushedPredicates: Array[Predicate] = Array.empty,
+      requiredSchema: StructType = schema,
+      pushedLimit: Option[Int] = None): FlintScan =
+    FlintScan(
+      tables,
+      schema,
+      FlintSparkConf(Map.empty[String, String].asJava),
+      pushedPredicates,
+      requiredSchema,
+      None,
+      pushedLimit,
+      Array.empty)
+}
@@ -74,6 +74,33 @@ class FlintSparkConfSuite extends FlintSuite {
     options.getBulkRequestRateLimitPerNode shouldBe 5
   }
 
+  test("test read prefetch pages default value") {
+    val options = FlintSparkConf().flintOptions()
+    options.getReadPrefetchPages shouldBe 0
+  }
+
+  test("test specified read prefetch pages") {
+    val options = FlintSparkConf(Map("read.prefetch_pages" -> "2").asJava).flintOptions()
+    options.getReadPrefetchPages shouldBe 2
+  }
+
+  test("test client pool options") {
+    val defaultOptions = FlintSparkConf().flintOptions()
+    defaultOptions.isClientPoolEnabled shouldBe false
+    defaultOptions.getMaxConnectionsPerRoute shouldBe 10
+
+    val options = FlintSparkConf(
+      Map(
+        "client.pool.enabled" -> "true",
+        "client.pool.keep_alive_millis" -> "1000",
+        "client.max_connections" -> "100",
+        "client.max_connections_per_route" -> "50").asJava).flintOptions()
+    options.isClientPoolEnabled shouldBe true
+    options.getClientPoolKeepAliveMillis shouldBe 1000
+    options.getMaxConnections shouldBe 100
+    options.getMaxConnectionsPerRoute shouldBe 50
+  }
+
   test("test metadata access AWS credentials provider option") {
     withSparkConf("spark.metadata.accessAWSCredentialsProvider") {
       spark.conf.set(
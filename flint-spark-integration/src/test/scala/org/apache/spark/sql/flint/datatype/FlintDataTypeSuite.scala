@@ -43,6 +43,9 @@ class FlintDataTypeSuite extends FlintSuite with Matchers {
                           |    "textField": {
                           |      "type": "text"
                           |    },
+                          |    "ipField": {
+                          |      "type": "ip"
+                          |    },
                           |    "binaryField": {
                           |      "type": "binary",
                           |      "doc_values": true
@@ -63,6 +66,11 @@ class FlintDataTypeSuite extends FlintSuite with Matchers {
           StringType,
           true,
           new MetadataBuilder().putString("osType", "text").build()) ::
+        StructField(
+          "ipField",
+          StringType,
+          true,
+          new MetadataBuilder().putString("osType", "ip").build()) ::
         StructField("binaryField", BinaryType, true) ::
         Nil)
 
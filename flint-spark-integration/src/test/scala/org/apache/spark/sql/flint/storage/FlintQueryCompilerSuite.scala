@@ -8,10 +8,12 @@ package org.apache.spark.sql.flint.storage
 import scala.io.Source
 
 import org.apache.spark.FlintSuite
-import org.apache.spark.sql.connector.expressions.{FieldReference, GeneralScalarExpression, LiteralValue}
+import org.apache.spark.sql.connector.expressions.{Expression, FieldReference, GeneralScalarExpression, LiteralValue, NullOrdering, SortDirection, SortOrder, SortValue}
+import org.apache.spark.sql.connector.expressions.aggregate.{AggregateFunc, Aggregation, Avg, CountStar, Max, Min, Sum}
 import org.apache.spark.sql.connector.expressions.filter.Predicate
 import org.apache.spark.sql.sources._
 import org.apache.spark.sql.types._
+import org.apache.spark.unsafe.types.UTF8String
 
 class FlintQueryCompilerSuite extends FlintSuite {
 
@@ -139,6 +141,53 @@ class FlintQueryCompilerSuite extends FlintSuite {
     assertResult("""{"exists":{"field":"aString"}}""")(query)
   }
 
+  test("compile CIDRMATCH(aIp, cidr) to term query on ip field") {
+    val cidr = LiteralValue(UTF8String.fromString("192.168.0.0/24"), StringType)
+    val compiler = FlintQueryCompiler(schema())
+    assertResult("""{"term":{"aIp":{"value":"192.168.0.0/24"}}}""")(
+      compiler.compile(new Predicate("CIDRMATCH", Array(FieldReference("aIp"), cidr))))
+
+    // Keyword field is matched by Spark
+    assert(
+      compiler.compile(new Predicate("CIDRMATCH", Array(FieldReference("aString"), cidr))).isEmpty)
+    val column = FieldReference("aIp")
+    assert(
+      compiler.compile(new Predicate("CIDRMATCH", Array[Expression](column, column))).isEmpty)
+  }
+
+  test("compile CIDRMATCH(aIp, cidr) only if cidr is plain prefix block") {
+    val compiler = FlintQueryCompiler(schema())
+    def compile(cidr: String): String = {
+      val literal = LiteralValue(UTF8String.fromString(cidr), StringType)
+      compiler.compile(new Predicate("CIDRMATCH", Array(FieldReference("aIp"), literal)))
+    }
+
+    Seq("0.0.0.0/0", "10.0.0.0/8", "192.168.1.5/32", "2001:db8::/32", "::1/128").foreach {
+      cidr => assertResult(s"""{"term":{"aIp":{"value":"$cidr"}}}""")(compile(cidr))
+    }
+    Seq(
+      "192.168.1.5/24", // non-zero host bits
+      "192.168.1.0/255.255.255.0", // netmask
+      "192.168.1.0-255/24", // range
+      "192.168.*.*", // wildcard
+      "192.168.1.0", // no prefix length
+      "192.168.01.0/24", // leading zero
+      "192.168.1.0/024",
+      "192.168.1.0/33",
+      "2001:db8::1/32",
+      "2001:db8::/129",
+      "::ffff:0:0/96", // IPv4-mapped
+      "::ffff:192.168.0.0/120",
+      "fe80::%1/64",
+      "xxx/8",
+      "").foreach { cidr =>
+      assert(compile(cidr).isEmpty, cidr)
+    }
+    val nullCidr = LiteralValue(null, StringType)
+    assert(
+      compiler.compile(new Predicate("CIDRMATCH", Array(FieldReference("aIp"), nullCidr))).isEmpty)
+  }
+
   test("compile BLOOM_FILTER_MIGHT_CONTAIN(aInt, 1) successfully") {
     val query =
       FlintQueryCompiler(schema()).compile(
@@ -167,15 +216,98 @@ class FlintQueryCompilerSuite extends FlintSuite {
          |""".stripMargin)(query)
   }
 
+  test("compile group by aggregation to composite aggregation") {
+    val aggregation = new Aggregation(
+      Array[AggregateFunc](new CountStar(), new Sum(FieldReference("aShort"), false)),
+      Array[Expression](FieldReference("aString")))
+    val compiler = FlintQueryCompiler(schema())
+
+    // scalastyle:off
+    assertResult(
+      Some(
+        """{"buckets":{"composite":{"size":1000,"sources":[{"group_col_0":{"terms":{"field":"aString","missing_bucket":true}}}]},"aggregations":{"agg_func_1":{"sum":{"field":"aShort"}},"agg_func_1_count":{"value_count":{"field":"aShort"}}}}}"""))(
+      compiler.compileAggregation(aggregation))
+    // scalastyle:on
+    assertResult(Seq("group_col_0", "agg_func_0", "agg_func_1"))(
+      compiler.aggregationSchema(aggregation).fieldNames.toSeq)
+    assertResult(Seq("group_col_0", "_doc_count", "agg_func_1", "agg_func_1_count"))(
+      compiler.bucketSchema(aggregation).fieldNames.toSeq)
+  }
+
+  test("compile unsupported aggregation should return none") {
+    val compiler = FlintQueryCompiler(schema())
+    // group by text field
+    assert(
+      compiler
+        .compileAggregation(
+          new Aggregation(
+            Array[AggregateFunc](new CountStar()),
+            Array[Expression](FieldReference("aText"))))
+        .isEmpty)
+    // aggregate on non-numeric field
+    assert(
+      compiler
+        .compileAggregation(
+          new Aggregation(
+            Array[AggregateFunc](new Max(FieldReference("aString"))),
+            Array[Expression](FieldReference("aInt"))))
+        .isEmpty)
+    // metric not exactly represented by double
+    Seq[AggregateFunc](
+      new Sum(FieldReference("aInt"), false),
+      new Avg(FieldReference("aLong"), false),
+      new Min(FieldReference("aLong")),
+      new Max(FieldReference("aLong"))).foreach { func =>
+      assert(
+        compiler
+          .compileAggregation(
+            new Aggregation(Array(func), Array[Expression](FieldReference("aString"))))
+          .isEmpty,
+        func)
+    }
+    // no group by
+    assert(
+      compiler
+        .compileAggregation(
+          new Aggregation(Array[AggregateFunc](new CountStar()), Array.empty[Expression]))
+        .isEmpty)
+  }
+
+  test("compile sort orders to sort DSL") {
+    val sort = FlintQueryCompiler(schema()).compileSortOrders(
+      Array[SortOrder](
+        SortValue(FieldReference("aInt"), SortDirection.DESCENDING, NullOrdering.NULLS_LAST),
+        SortValue(FieldReference("aString"), SortDirection.ASCENDING, NullOrdering.NULLS_FIRST)))
+    // scalastyle:off
+    assertResult(
+      """[{"aInt":{"order":"desc","missing":"_last"}},{"aString":{"order":"asc","missing":"_first"}}]""")(
+      sort)
+    // scalastyle:on
+  }
+
+  test("compile sort orders on text field should return empty string") {
+    val sort = FlintQueryCompiler(schema()).compileSortOrders(
+      Array[SortOrder](
+        SortValue(FieldReference("aText"), SortDirection.ASCENDING, NullOrdering.NULLS_FIRST)))
+    assert(sort.isEmpty)
+  }
+
   protected def schema(): StructType = {
     StructType(
       Seq(
         StructField("aString", StringType, nullable = true),
         StructField("aInt", IntegerType, nullable = true),
+        StructField("aShort", ShortType, nullable = true),
+        StructField("aLong", LongType, nullable = true),
         StructField(
           "aText",
           StringType,
           nullable = true,
-          new MetadataBuilder().putString("osType", "text").build())))
+          new MetadataBuilder().putString("osType", "text").build()),
+        StructField(
+          "aIp",
+          StringType,
+          nullable = true,
+          new MetadataBuilder().putString("osType", "ip").build())))
   }
 }
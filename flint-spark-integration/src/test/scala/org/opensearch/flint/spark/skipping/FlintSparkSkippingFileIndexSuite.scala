@@ -8,6 +8,7 @@ package org.opensearch.flint.spark.skipping
 import org.apache.hadoop.fs.{FileStatus, Path}
 import org.mockito.ArgumentMatchers.any
 import org.mockito.Mockito.when
+import org.opensearch.flint.spark.skipping.FlintSparkSkippingFileCache.IndexVersion
 import org.opensearch.flint.spark.skipping.FlintSparkSkippingIndex.FILE_PATH_COLUMN
 import org.scalatest.matchers.should.Matchers
 import org.scalatestplus.mockito.MockitoSugar.mock
@@ -17,6 +18,7 @@ import org.apache.spark.sql.{Column, DataFrame, Row}
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions.{Literal, Predicate}
 import org.apache.spark.sql.execution.datasources.{FileIndex, FileStatusWithMetadata, PartitionDirectory}
+import org.apache.spark.sql.flint.config.FlintSparkConf.{HYBRID_SCAN_LOCAL_FILTER_THRESHOLD, SKIPPING_INDEX_FILE_CACHE_MAX_ENTRIES}
 import org.apache.spark.sql.functions.col
 import org.apache.spark.sql.types._
 
@@ -83,6 +85,125 @@ class FlintSparkSkippingFileIndexSuite extends FlintSuite with Matchers {
     }
   }
 
+  Seq(0, 1000000).foreach { threshold =>
+    val approach = if (threshold == 0) "join" else "local filter"
+
+    test(s"should select same files by $approach in hybrid-scan mode") {
+      withHybridScanEnabled {
+        setFlintSparkConf(HYBRID_SCAN_LOCAL_FILTER_THRESHOLD, threshold)
+        try {
+          assertFlintFileIndex()
+            .withSourceFiles(Map(partition1, partition2))
+            .withIndexData(
+              schema,
+              Seq(
+                Row("file-1", 2022),
+                Row("file-1", 2023), // file-1 has multiple index rows
+                Row("file-2", 2022),
+                Row("file-4", 2023) // file-4 is deleted from source
+              ))
+            .withIndexFilter(col("year") === 2023)
+            .shouldScanSourceFiles(
+              Map("partition-1" -> Seq("file-1"), "partition-2" -> Seq("file-3")))
+        } finally {
+          spark.conf.unset(HYBRID_SCAN_LOCAL_FILTER_THRESHOLD.key)
+        }
+      }
+    }
+  }
+
+  test("should reuse cached files if index version and filter are the same") {
+    withFileCacheEnabled(maxEntries = 10) {
+      val version = IndexVersion("test_index", Map("seqNo" -> 1L, "primaryTerm" -> 1L), 0L)
+      assertFlintFileIndex()
+        .withSourceFiles(Map(partition1))
+        .withIndexData(schema, Seq(Row("file-1", 2023), Row("file-2", 2022)))
+        .withIndexFilter(col("year") === 2023)
+        .withIndexVersion(version)
+        .shouldScanSourceFiles(Map("partition-1" -> Seq("file-1")))
+
+      // Index data changed without version update is invisible
+      assertFlintFileIndex()
+        .withSourceFiles(Map(partition1))
+        .withIndexData(schema, Seq(Row("file-1", 2022), Row("file-2", 2023)))
+        .withIndexFilter(col("year") === 2023)
+        .withIndexVersion(version)
+        .shouldScanSourceFiles(Map("partition-1" -> Seq("file-1")))
+      FlintSparkSkippingFileCache.size shouldBe 1
+
+      // Cache miss if index version changed
+      assertFlintFileIndex()
+        .withSourceFiles(Map(partition1))
+        .withIndexData(schema, Seq(Row("file-1", 2022), Row("file-2", 2023)))
+        .withIndexFilter(col("year") === 2023)
+        .withIndexVersion(version.copy(entryVersion = Map("seqNo" -> 2L, "primaryTerm" -> 1L)))
+        .shouldScanSourceFiles(Map("partition-1" -> Seq("file-2")))
+      FlintSparkSkippingFileCache.size shouldBe 2
+    }
+  }
+
+  test("should evict least recently used cached files") {
+    withFileCacheEnabled(maxEntries = 1) {
+      val version = IndexVersion("test_index", Map("seqNo" -> 1L, "primaryTerm" -> 1L), 0L)
+      Seq(2022, 2023).foreach { year =>
+        assertFlintFileIndex()
+          .withSourceFiles(Map(partition1))
+          .withIndexData(schema, Seq(Row("file-1", 2023), Row("file-2", 2022)))
+          .withIndexFilter(col("year") === year)
+          .withIndexVersion(version)
+          .shouldScanSourceFiles(
+            Map("partition-1" -> Seq(if (year == 2023) "file-1" else "file-2")))
+      }
+      FlintSparkSkippingFileCache.size shouldBe 1
+    }
+  }
+
+  test("should cache indexed and selected files in hybrid-scan mode") {
+    withHybridScanEnabled {
+      withFileCacheEnabled(maxEntries = 10) {
+        val version = IndexVersion("test_index", Map("seqNo" -> 1L, "primaryTerm" -> 1L), 0L)
+        assertFlintFileIndex()
+          .withSourceFiles(Map(partition1, partition2))
+          .withIndexData(schema, Seq(Row("file-1", 2023), Row("file-2", 2022)))
+          .withIndexFilter(col("year") === 2023)
+          .withIndexVersion(version)
+          .shouldScanSourceFiles(
+            Map("partition-1" -> Seq("file-1"), "partition-2" -> Seq("file-3")))
+        FlintSparkSkippingFileCache.size shouldBe 2
+
+        assertFlintFileIndex()
+          .withSourceFiles(Map(partition1, partition2))
+          .withIndexData(schema, Seq(Row("file-1", 2022), Row("file-3", 2022)))
+          .withIndexFilter(col("year") === 2023)
+          .withIndexVersion(version)
+          .shouldScanSourceFiles(
+            Map("partition-1" -> Seq("file-1"), "partition-2" -> Seq("file-3")))
+      }
+    }
+  }
+
+  test("should not cache files if file cache is disabled") {
+    FlintSparkSkippingFileCache.clear()
+    assertFlintFileIndex()
+      .withSourceFiles(Map(partition1))
+      .withIndexData(schema, Seq(Row("file-1", 2023), Row("file-2", 2022)))
+      .withIndexFilter(col("year") === 2023)
+      .withIndexVersion(IndexVersion("test_index", Map("seqNo" -> 1L), 0L))
+      .shouldScanSourceFiles(Map("partition-1" -> Seq("file-1")))
+    FlintSparkSkippingFileCache.size shouldBe 0
+  }
+
+  private def withFileCacheEnabled(maxEntries: Int)(block: => Unit): Unit = {
+    FlintSparkSkippingFileCache.clear()
+    setFlintSparkConf(SKIPPING_INDEX_FILE_CACHE_MAX_ENTRIES, maxEntries)
+    try {
+      block
+    } finally {
+      spark.conf.unset(SKIPPING_INDEX_FILE_CACHE_MAX_ENTRIES.key)
+      FlintSparkSkippingFileCache.clear()
+    }
+  }
+
   private def assertFlintFileIndex(): AssertionHelper = {
     new AssertionHelper
   }
@@ -91,6 +212,7 @@ class FlintSparkSkippingFileIndexSuite extends FlintSuite with Matchers {
     private val baseFileIndex = mock[FileIndex]
     private var indexScan: DataFrame = _
     private var indexFilter: Predicate = _
+    private var indexVersion: Option[IndexVersion] = None
 
     def withSourceFiles(partitions: Map[String, Seq[String]]): AssertionHelper = {
       when(baseFileIndex.listFiles(any(), any()))
@@ -111,8 +233,14 @@ class FlintSparkSkippingFileIndexSuite extends FlintSuite with Matchers {
       this
     }
 
+    def withIndexVersion(version: IndexVersion): AssertionHelper = {
+      indexVersion = Some(version)
+      this
+    }
+
     def shouldScanSourceFiles(partitions: Map[String, Seq[String]]): Unit = {
-      val fileIndex = FlintSparkSkippingFileIndex(baseFileIndex, indexScan, indexFilter)
+      val fileIndex =
+        FlintSparkSkippingFileIndex(baseFileIndex, indexScan, indexFilter, indexVersion)
       fileIndex.listFiles(Seq.empty, Seq.empty) shouldBe mockPartitions(partitions)
     }
 
@@ -26,4 +26,16 @@ class BloomFilterSkippingStrategySuite
       ADAPTIVE_NUMBER_CANDIDATE_KEY -> DEFAULT_ADAPTIVE_NUMBER_CANDIDATE.toString,
       CLASSIC_BLOOM_FILTER_FPP_KEY -> DEFAULT_CLASSIC_BLOOM_FILTER_FPP.toString)
   }
+
+  test("split block parameters") {
+    val params = Map(BLOOM_FILTER_ADAPTIVE_KEY -> "false", BLOOM_FILTER_SPLIT_BLOCK_KEY -> "true")
+    BloomFilterSkippingStrategy(
+      columnName = "name",
+      columnType = "string",
+      params = params).parameters shouldBe Map(
+      BLOOM_FILTER_ADAPTIVE_KEY -> "false",
+      BLOOM_FILTER_SPLIT_BLOCK_KEY -> "true",
+      CLASSIC_BLOOM_FILTER_NUM_ITEMS_KEY -> DEFAULT_CLASSIC_BLOOM_FILTER_NUM_ITEMS.toString,
+      CLASSIC_BLOOM_FILTER_FPP_KEY -> DEFAULT_CLASSIC_BLOOM_FILTER_FPP.toString)
+  }
 }
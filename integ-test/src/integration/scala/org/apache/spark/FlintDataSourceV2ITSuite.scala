@@ -8,13 +8,16 @@ package org.apache.spark
 import java.sql.{Date, Timestamp}
 
 import org.opensearch.flint.OpenSearchSuite
+import org.opensearch.flint.spark.CidrMatch
 
-import org.apache.spark.sql.{DataFrame, ExplainSuiteHelper, QueryTest, Row}
+import org.apache.spark.sql.{Column, DataFrame, ExplainSuiteHelper, QueryTest, Row}
 import org.apache.spark.sql.catalyst.plans.logical.Filter
-import org.apache.spark.sql.execution.datasources.v2.DataSourceV2ScanRelation
+import org.apache.spark.sql.connector.expressions.filter.Predicate
+import org.apache.spark.sql.execution.datasources.v2.{BatchScanExec, DataSourceV2ScanRelation}
 import org.apache.spark.sql.execution.streaming.MemoryStream
+import org.apache.spark.sql.flint.FlintScan
 import org.apache.spark.sql.flint.config.FlintSparkConf
-import org.apache.spark.sql.flint.config.FlintSparkConf.{DOC_ID_COLUMN_NAME, IGNORE_DOC_ID_COLUMN}
+import org.apache.spark.sql.flint.config.FlintSparkConf.{DOC_ID_COLUMN_NAME, IGNORE_DOC_ID_COLUMN, READ_AGGREGATE_PUSHDOWN_ENABLED}
 import org.apache.spark.sql.functions._
 import org.apache.spark.sql.streaming.{StreamingQuery, StreamTest}
 import org.apache.spark.util.Utils
@@ -534,6 +537,303 @@ class FlintDataSourceV2ITSuite
     })
   }
 
+  test("scan with cidrmatch push-down on ip field") {
+    val indexName = "tcidr"
+    val indexName6 = "tcidr6"
+    withIndexName(indexName, indexName6) {
+      val mappings = """{
+                       |  "properties": {
+                       |    "id": {
+                       |      "type": "integer"
+                       |    },
+                       |    "ip": {
+                       |      "type": "ip"
+                       |    }
+                       |  }
+                       |}""".stripMargin
+      val docs = Seq(
+        """{"id": 1, "ip": "192.168.0.1"}""",
+        """{"id": 2, "ip": "192.168.1.5"}""",
+        """{"id": 3, "ip": "192.168.1.6"}""",
+        """{"id": 4, "ip": "10.0.0.1"}""")
+      index(indexName, oneNodeSetting, mappings, docs)
+      val df = spark.sqlContext.read
+        .format("flint")
+        .options(openSearchOptions)
+        .load(indexName)
+      def cidrMatch(cidr: String): DataFrame =
+        df.filter(new Column(CidrMatch($"ip".expr, lit(cidr).expr))).select("id")
+
+      // Plain prefix block is pushed down and still evaluated after scan
+      val df1 = cidrMatch("192.168.0.0/24")
+      checkFiltersRemoved(df1, removed = false)
+      assert(pushedPredicateNames(df1).contains(CidrMatch.NAME))
+      checkAnswer(df1, Row(1))
+
+      // Non-zero host bits is a single address in cidrmatch but a network in OpenSearch
+      val df2 = cidrMatch("192.168.1.5/24")
+      checkFiltersRemoved(df2, removed = false)
+      assert(!pushedPredicateNames(df2).contains(CidrMatch.NAME))
+      checkAnswer(df2, Row(2))
+
+      // Netmask is not accepted by OpenSearch term query on ip field
+      val df3 = cidrMatch("192.168.1.0/255.255.255.0")
+      assert(!pushedPredicateNames(df3).contains(CidrMatch.NAME))
+      checkAnswer(df3, Seq(Row(2), Row(3)))
+
+      // Doc of the other IP version is skipped by OpenSearch instead of failing the query
+      index(
+        indexName6,
+        oneNodeSetting,
+        mappings,
+        Seq("""{"id": 1, "ip": "192.168.0.1"}""", """{"id": 2, "ip": "2001:db8::1"}"""))
+      val df6 = spark.sqlContext.read
+        .format("flint")
+        .options(openSearchOptions)
+        .load(indexName6)
+      checkAnswer(
+        df6.filter(new Column(CidrMatch($"ip".expr, lit("192.168.0.0/16").expr))).select("id"),
+        Row(1))
+      checkAnswer(
+        df6.filter(new Column(CidrMatch($"ip".expr, lit("2001:db8::/32").expr))).select("id"),
+        Row(2))
+    }
+  }
+
+  test("scan with aggregate push-down") {
+    val indexName = "tagg1"
+    val indexName2 = "tagg2"
+    withIndexName(indexName, indexName2) {
+      val mappings = """{
+                       |  "properties": {
+                       |    "aString": {
+                       |      "type": "keyword"
+                       |    },
+                       |    "aShort": {
+                       |      "type": "short"
+                       |    },
+                       |    "aLong": {
+                       |      "type": "long"
+                       |    }
+                       |  }
+                       |}""".stripMargin
+      // More buckets than a composite aggregation page, and docs without group-by value
+      val base = 9007199254740993L // 2^53 + 1, not exactly represented by double
+      val docs = (1 to 2500).map { i =>
+        s"""{"aString": "k${i % 1200}", "aShort": ${i % 10}, "aLong": ${base + i}}"""
+      } ++ Seq("""{"aShort": 1, "aLong": 1}""", """{"aShort": 2}""")
+      index(indexName, oneNodeSetting, mappings, docs)
+      index(
+        indexName2,
+        oneNodeSetting,
+        mappings,
+        Seq("""{"aString": "k1", "aShort": 7}""", """{"aShort": 3}"""))
+
+      def load(name: String, pushDown: Boolean): DataFrame =
+        spark.sqlContext.read
+          .format("flint")
+          .options(openSearchOptions +
+            (READ_AGGREGATE_PUSHDOWN_ENABLED.optionKey -> pushDown.toString))
+          .load(name)
+      def aggregate(df: DataFrame): DataFrame =
+        df.groupBy("aString")
+          .agg(count("*"), sum("aShort"), min("aShort"), max("aShort"), avg("aShort"))
+
+      val df1 = aggregate(load(indexName, pushDown = true))
+      checkPushedInfo(df1, "PushedAggregation:")
+      val expected1 = aggregate(load(indexName, pushDown = false)).collect()
+      assert(expected1.length == 1201)
+      assert(expected1.exists(_.isNullAt(0)))
+      checkAnswer(df1, expected1)
+
+      // Long metric is not pushed down and stays exact
+      val df2 = load(indexName, pushDown = true).groupBy("aString").agg(max("aLong"))
+      checkAnswer(df2.filter($"aString" === "k100"), Row("k100", base + 2500))
+      checkAnswer(df2.filter($"aString".isNull), Row(null, 1L))
+
+      // Each index is aggregated separately and Spark merges the buckets
+      val both = s"$indexName,$indexName2"
+      val df3 = aggregate(load(both, pushDown = true))
+      checkPushedInfo(df3, "PushedAggregation:")
+      checkAnswer(df3, aggregate(load(both, pushDown = false)).collect())
+    }
+  }
+
+  test("scan with required columns push-down") {
+    val indexName = "tcolumns"
+    withIndexName(indexName) {
+      val mappings = """{
+                       |  "properties": {
+                       |    "aInt": {
+                       |      "type": "integer"
+                       |    },
+                       |    "aString": {
+                       |      "type": "keyword"
+                       |    },
+                       |    "aText": {
+                       |      "type": "text"
+                       |    },
+                       |    "aStruct": {
+                       |      "properties": {
+                       |        "aInner": {
+                       |          "type": "keyword"
+                       |        }
+                       |      }
+                       |    }
+                       |  }
+                       |}""".stripMargin
+      val docs = Seq(
+        """{"aInt": 1, "aString": "a", "aText": "i am first", "aStruct": {"aInner": "x"}}""",
+        """{"aInt": 2, "aString": "b", "aText": "i am second", "aStruct": {"aInner": "y"}}""",
+        """{"aInt": 3, "aText": "i am third"}""")
+      index(indexName, oneNodeSetting, mappings, docs)
+
+      def load(): DataFrame =
+        spark.sqlContext.read
+          .format("flint")
+          .options(openSearchOptions + (READ_AGGREGATE_PUSHDOWN_ENABLED.optionKey -> "false"))
+          .load(indexName)
+
+      val df1 = load().select("aString", "aStruct.aInner")
+      assert(requiredColumns(df1).toSet == Set("aString", "aStruct"))
+      checkAnswer(df1, Seq(Row("a", "x"), Row("b", "y"), Row(null, null)))
+
+      // Pushed filter column is not read back
+      val df2 = load().filter($"aInt" > 1).select("aText")
+      assert(requiredColumns(df2) == Seq("aText"))
+      checkAnswer(df2, Seq(Row("i am second"), Row("i am third")))
+
+      // No column is required to count docs
+      val df3 = load().agg(count("*"))
+      assert(requiredColumns(df3).isEmpty)
+      checkAnswer(df3, Row(3L))
+      assert(load().filter($"aInt" < 3).count() == 2)
+    }
+  }
+
+  test("scan with limit and top-N push-down") {
+    val indexName = "tlimit"
+    withIndexName(indexName) {
+      val mappings = """{
+                       |  "properties": {
+                       |    "aInt": {
+                       |      "type": "integer"
+                       |    },
+                       |    "aString": {
+                       |      "type": "keyword"
+                       |    }
+                       |  }
+                       |}""".stripMargin
+      val docs = (1 to 5).map(i => s"""{"aInt": $i, "aString": "s$i"}""") ++
+        Seq("""{"aString": "s0"}""")
+      index(indexName, oneNodeSetting, mappings, docs)
+
+      // Limit spans several pages of scroll size
+      val df = spark.sqlContext.read
+        .format("flint")
+        .options(openSearchOptions + (FlintSparkConf.SCROLL_SIZE.optionKey -> "2"))
+        .load(indexName)
+
+      val df1 = df.limit(3)
+      checkPushedInfo(df1, "PushedLimit: 3")
+      assert(df1.collect().length == 3)
+
+      def topN(order: Column, pushedOrder: String, expected: Seq[Any]): Unit = {
+        val topDf = df.orderBy(order).limit(3).select("aInt")
+        checkPushedInfo(topDf, "PushedLimit: 3", s"PushedSortOrders: [aInt $pushedOrder]")
+        assert(topDf.collect().map(row => if (row.isNullAt(0)) null else row.getInt(0)).toSeq ==
+          expected)
+      }
+      topN(asc_nulls_first("aInt"), "ASC NULLS FIRST", Seq(null, 1, 2))
+      topN(asc_nulls_last("aInt"), "ASC NULLS LAST", Seq(1, 2, 3))
+      topN(desc_nulls_first("aInt"), "DESC NULLS FIRST", Seq(null, 5, 4))
+      topN(desc_nulls_last("aInt"), "DESC NULLS LAST", Seq(5, 4, 3))
+    }
+  }
+
+  test("scan with columnar reads") {
+    val indexName = "tcolumnar"
+    withIndexName(indexName) {
+      val mappings = """{
+                       |  "properties": {
+                       |    "aBoolean": {
+                       |      "type": "boolean"
+                       |    },
+                       |    "aShort": {
+                       |      "type": "short"
+                       |    },
+                       |    "aInt": {
+                       |      "type": "integer"
+                       |    },
+                       |    "aLong": {
+                       |      "type": "long"
+                       |    },
+                       |    "aDouble": {
+                       |      "type": "double"
+                       |    },
+                       |    "aString": {
+                       |      "type": "keyword"
+                       |    },
+                       |    "aDate": {
+                       |      "type": "date",
+                       |      "format": "strict_date"
+                       |    },
+                       |    "aTimestamp": {
+                       |      "type": "date"
+                       |    },
+                       |    "aStruct": {
+                       |      "properties": {
+                       |        "aInner": {
+                       |          "type": "keyword"
+                       |        }
+                       |      }
+                       |    }
+                       |  }
+                       |}""".stripMargin
+      val docs = (1 to 5).map { i =>
+        s"""{"aBoolean": ${i % 2 == 0}, "aShort": $i, "aInt": ${i * 10}, "aLong": ${i * 100},
+           | "aDouble": $i.5, "aString": "s$i", "aDate": "2024-01-0$i",
+           | "aTimestamp": "2024-01-0${i}T01:02:03Z", "aStruct": {"aInner": "x$i"}}"""
+          .stripMargin
+          .replace("\n", "")
+      } ++ Seq("""{"aInt": 60}""")
+      index(indexName, oneNodeSetting, mappings, docs)
+
+      def load(columnar: Boolean): DataFrame =
+        spark.sqlContext.read
+          .format("flint")
+          .options(
+            openSearchOptions +
+              (FlintSparkConf.READ_COLUMNAR_ENABLED.optionKey -> columnar.toString) +
+              (FlintSparkConf.READ_COLUMNAR_BATCH_SIZE.optionKey -> "2"))
+          .load(indexName)
+
+      val columns = Seq(
+        "aBoolean",
+        "aShort",
+        "aInt",
+        "aLong",
+        "aDouble",
+        "aString",
+        "aDate",
+        "aTimestamp")
+      val df1 = load(columnar = true).select(columns.map(col): _*)
+      assert(supportsColumnar(df1))
+      val expected = load(columnar = false).select(columns.map(col): _*).collect()
+      assert(expected.length == 6)
+      checkAnswer(df1, expected)
+
+      val df2 = load(columnar = true).filter($"aInt" > 20).select("aString", "aLong")
+      assert(supportsColumnar(df2))
+      checkAnswer(df2, Seq(Row("s3", 300L), Row("s4", 400L), Row("s5", 500L), Row(null, null)))
+
+      // Struct column is read row by row
+      val df3 = load(columnar = true).select("aInt", "aStruct")
+      assert(!supportsColumnar(df3))
+      checkAnswer(df3, load(columnar = false).select("aInt", "aStruct").collect())
+    }
+  }
+
   /**
    * Copy from SPARK JDBCV2Suite.
    */
@@ -556,4 +856,26 @@ class FlintDataSourceV2ITSuite
       assert(filters.nonEmpty)
     }
   }
+
+  private def supportsColumnar(df: DataFrame): Boolean = {
+    val scans = df.queryExecution.executedPlan.collect { case scan: BatchScanExec => scan }
+    scans.nonEmpty && scans.forall(_.supportsColumnar)
+  }
+
+  private def requiredColumns(df: DataFrame): Seq[String] = {
+    df.queryExecution.optimizedPlan.collect { case relation: DataSourceV2ScanRelation =>
+      relation.scan.asInstanceOf[FlintScan].requiredSchema.fieldNames.toSeq
+    }.flatten
+  }
+
+  private def pushedPredicateNames(df: DataFrame): Seq[String] = {
+    df.queryExecution.optimizedPlan.collect { case relation: DataSourceV2ScanRelation =>
+      relation.scan.asInstanceOf[FlintScan].pushedPredicates.toSeq.flatMap(collectNames)
+    }.flatten
+  }
+
+  private def collectNames(predicate: Predicate): Seq[String] =
+    predicate.name() +: predicate.children().toSeq.collect { case p: Predicate =>
+      collectNames(p)
+    }.flatten
 }
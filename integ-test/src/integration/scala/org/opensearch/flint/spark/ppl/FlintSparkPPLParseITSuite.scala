@@ -7,11 +7,12 @@ package org.opensearch.flint.spark.ppl
 
 import scala.reflect.internal.Reporter.Count
 
+import org.opensearch.flint.spark.RegExpExtractGroups
 import org.opensearch.sql.ppl.utils.DataTypeTransformer.seq
 
 import org.apache.spark.sql.{AnalysisException, QueryTest, Row}
 import org.apache.spark.sql.catalyst.analysis.{UnresolvedAttribute, UnresolvedFunction, UnresolvedRelation, UnresolvedStar}
-import org.apache.spark.sql.catalyst.expressions.{Alias, Ascending, Coalesce, Descending, GreaterThan, Literal, NullsFirst, NullsLast, RegExpExtract, SortOrder}
+import org.apache.spark.sql.catalyst.expressions.{Alias, Ascending, Coalesce, Descending, GetStructField, GreaterThan, Literal, NullsFirst, NullsLast, RegExpExtract, SortOrder}
 import org.apache.spark.sql.catalyst.plans.logical.{Aggregate, Filter, GlobalLimit, LocalLimit, LogicalPlan, Project, Sort}
 import org.apache.spark.sql.streaming.StreamTest
 
@@ -237,19 +238,14 @@ class FlintSparkPPLParseITSuite
     val streetNumberAttribute = UnresolvedAttribute("streetNumber")
     val streetAttribute = UnresolvedAttribute("street")
 
-    val streetNumberExpression = Alias(
-      RegExpExtract(
-        addressAttribute,
-        Literal("(?<streetNumber>\\d+) (?<street>.+)"),
-        Literal("1")),
-      "streetNumber")()
-
-    val streetExpression = Alias(
-      RegExpExtract(
-        addressAttribute,
-        Literal("(?<streetNumber>\\d+) (?<street>.+)"),
-        Literal("2")),
-      "street")()
+    val groups = RegExpExtractGroups(
+      addressAttribute,
+      Literal("(?<streetNumber>\\d+) (?<street>.+)"),
+      Seq("streetNumber", "street"),
+      Seq(1, 2))
+    val streetNumberExpression =
+      Alias(GetStructField(groups, 0, Some("streetNumber")), "streetNumber")()
+    val streetExpression = Alias(GetStructField(groups, 1, Some("street")), "street")()
 
     val expectedPlan = Project(
       Seq(streetNumberAttribute, streetAttribute),
@@ -19,10 +19,9 @@ import org.apache.spark.sql.catalyst.expressions.ListQuery$;
 import org.apache.spark.sql.catalyst.expressions.MakeInterval$;
 import org.apache.spark.sql.catalyst.expressions.NamedExpression;
 import org.apache.spark.sql.catalyst.expressions.Predicate;
-import org.apache.spark.sql.catalyst.expressions.ScalaUDF;
 import org.apache.spark.sql.catalyst.expressions.ScalarSubquery$;
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
-import org.apache.spark.sql.types.DataTypes;
+import org.opensearch.flint.spark.CidrMatch;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.AggregateFunction;
 import org.opensearch.sql.ast.expression.Alias;
@@ -55,7 +54,6 @@ import org.opensearch.sql.ast.tree.FillNull;
 import org.opensearch.sql.ast.tree.Kmeans;
 import org.opensearch.sql.ast.tree.RareTopN;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
-import org.opensearch.sql.expression.function.SerializableUdf;
 import org.opensearch.sql.ppl.utils.AggregatorTransformer;
 import org.opensearch.sql.ppl.utils.BuiltinFunctionTransformer;
 import org.opensearch.sql.ppl.utils.ComparatorTransformer;
@@ -411,16 +409,7 @@ public class CatalystExpressionVisitor extends AbstractNodeVisitor<Expression, C
         analyze(node.getCidrBlock(), context);
         Expression cidrBlockExpression = context.getNamedParseExpressions().pop();
 
-        ScalaUDF udf = new ScalaUDF(SerializableUdf.cidrFunction,
-                DataTypes.BooleanType,
-                seq(ipAddressExpression,cidrBlockExpression),
-                seq(),
-                Option.empty(),
-                Option.apply("cidr"),
-                false,
-                true);
-
-        return context.getNamedParseExpressions().push(udf);
+        return context.getNamedParseExpressions().push(new CidrMatch(ipAddressExpression, cidrBlockExpression));
     }
 
     private List<Expression> visitExpressionList(List<UnresolvedExpression> expressionList, CatalystPlanContext context) {
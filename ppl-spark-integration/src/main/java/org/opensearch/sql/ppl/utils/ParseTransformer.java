@@ -7,6 +7,7 @@ package org.opensearch.sql.ppl.utils;
 
 import org.apache.spark.sql.catalyst.analysis.UnresolvedStar$;
 import org.apache.spark.sql.catalyst.expressions.Expression;
+import org.apache.spark.sql.catalyst.expressions.GetStructField;
 import org.apache.spark.sql.catalyst.expressions.NamedExpression;
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
 import org.opensearch.sql.ast.expression.AllFields;
@@ -30,6 +31,8 @@ public interface ParseTransformer {
     /**
      * transform the parse/grok/patterns command into a standard catalyst RegExpExtract expression  
      * Since spark's RegExpExtract cant accept actual regExp group name we need to translate the group's name into its corresponding index
+     * If a parse/grok command extracts several groups, a single RegExpExtractGroups expression matches the source field once per row
+     * and each group is extracted from its struct result instead
      * 
      * @param node
      * @param sourceField
@@ -60,21 +63,26 @@ public interface ParseTransformer {
             }
         });
         //list the group numbers of these projected fields
-        // match the regExpExtract group identifier with its number
-        namedGroupNumbers.forEach((group, index) -> {
-            //first create the regExp
-            org.apache.spark.sql.catalyst.expressions.Literal patternLiteral = org.apache.spark.sql.catalyst.expressions.Literal.create(cleanedPattern, StringType);
-            org.apache.spark.sql.catalyst.expressions.Literal groupIndexLiteral = org.apache.spark.sql.catalyst.expressions.Literal.create(index + 1, IntegerType);
-            Expression regExp = ParseUtils.getRegExpCommand(parseMethod, sourceField, patternLiteral, groupIndexLiteral);
-            //next Alias the extracted fields
-            context.getNamedParseExpressions().push(
-                    org.apache.spark.sql.catalyst.expressions.Alias$.MODULE$.apply(regExp,
-                            group,
-                            NamedExpression.newExprId(),
-                            seq(new java.util.ArrayList<String>()),
-                            Option.empty(),
-                            seq(new java.util.ArrayList<String>())));
-        });
+        org.apache.spark.sql.catalyst.expressions.Literal patternLiteral = org.apache.spark.sql.catalyst.expressions.Literal.create(cleanedPattern, StringType);
+        if (parseMethod != ParseMethod.PATTERNS && namedGroupNumbers.size() > 1) {
+            // match the source field once for all the groups and extract each group from the matched struct
+            Map<String, Integer> groupIndexes = new LinkedHashMap<>();
+            namedGroupNumbers.forEach((group, index) -> groupIndexes.put(group, index + 1));
+            Expression regExpGroups = ParseUtils.getRegExpGroupsCommand(sourceField, patternLiteral, groupIndexes);
+            int ordinal = 0;
+            for (String group : groupIndexes.keySet()) {
+                pushAlias(new GetStructField(regExpGroups, ordinal++, Option.apply(group)), group, context);
+            }
+        } else {
+            // match the regExpExtract group identifier with its number
+            namedGroupNumbers.forEach((group, index) -> {
+                //first create the regExp
+                org.apache.spark.sql.catalyst.expressions.Literal groupIndexLiteral = org.apache.spark.sql.catalyst.expressions.Literal.create(index + 1, IntegerType);
+                Expression regExp = ParseUtils.getRegExpCommand(parseMethod, sourceField, patternLiteral, groupIndexLiteral);
+                //next Alias the extracted fields
+                pushAlias(regExp, group, context);
+            });
+        }
 
         // Create an UnresolvedStar for all-fields projection (possible external wrapping projection that may include additional fields)
         context.getNamedParseExpressions().push(UnresolvedStar$.MODULE$.apply(Option.<Seq<String>>empty()));
@@ -85,4 +93,14 @@ public interface ParseTransformer {
         return child;
     }
 
+    private static void pushAlias(Expression expression, String name, CatalystPlanContext context) {
+        context.getNamedParseExpressions().push(
+                org.apache.spark.sql.catalyst.expressions.Alias$.MODULE$.apply(expression,
+                        name,
+                        NamedExpression.newExprId(),
+                        seq(new java.util.ArrayList<String>()),
+                        Option.empty(),
+                        seq(new java.util.ArrayList<String>())));
+    }
+
 }
@@ -9,6 +9,7 @@ import com.google.common.collect.ImmutableList;
 import org.apache.spark.sql.catalyst.expressions.Expression;
 import org.apache.spark.sql.catalyst.expressions.RegExpExtract;
 import org.apache.spark.sql.catalyst.expressions.RegExpReplace;
+import org.opensearch.flint.spark.RegExpExtractGroups;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.ParseMethod;
 import org.opensearch.sql.common.grok.Grok;
@@ -99,6 +100,21 @@ public class ParseUtils {
         }
     }
 
+    /**
+     * Create a single expression which matches the source field once and extracts all the given groups into a struct.
+     * Only supported by regex and grok, whose named groups are extracted by group index.
+     *
+     * @param sourceField    field to parse
+     * @param patternLiteral regular expression
+     * @param groupIndexes   1-based group index by group name, in struct field order
+     * @return struct of the extracted groups
+     */
+    public static Expression getRegExpGroupsCommand(Expression sourceField,
+                                                    org.apache.spark.sql.catalyst.expressions.Literal patternLiteral,
+                                                    Map<String, Integer> groupIndexes) {
+        return RegExpExtractGroups.create(sourceField, patternLiteral, groupIndexes);
+    }
+
     public static class RegexExpression {
         /**
          * Get list of derived fields based on parse pattern.
@@ -0,0 +1,373 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.flint.spark
+
+import inet.ipaddr.{AddressStringException, IPAddress, IPAddressString, IPAddressStringParameters}
+import org.opensearch.flint.spark.CidrMatch.NAME
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.{BinaryComparison, Expression, ImplicitCastInputTypes}
+import org.apache.spark.sql.catalyst.expressions.codegen.{CodegenContext, ExprCode, FalseLiteral}
+import org.apache.spark.sql.catalyst.expressions.codegen.Block.BlockHelper
+import org.apache.spark.sql.types.{AbstractDataType, StringType}
+import org.apache.spark.unsafe.Platform
+import org.apache.spark.unsafe.types.UTF8String
+
+/**
+ * PPL cidrmatch function that returns true if `ipAddress` is within `cidrBlock`. Both must be
+ * valid and non-null, and either both IPv4 or both IPv6, otherwise the function throws.
+ *
+ * A literal CIDR block is compiled into numeric address bounds only once, and IP address in
+ * common form is parsed into numbers without allocation. As a binary comparison with symbol
+ * `CIDRMATCH`, it is translated to a data source predicate. A plain prefix block on ip field is
+ * pushed down to OpenSearch as term query to pre-filter docs, and still evaluated after scan.
+ *
+ * @param ipAddress
+ *   IP address string expression
+ * @param cidrBlock
+ *   CIDR block string expression
+ */
+case class CidrMatch(ipAddress: Expression, cidrBlock: Expression)
+    extends BinaryComparison
+    with ImplicitCastInputTypes {
+
+  override def left: Expression = ipAddress
+
+  override def right: Expression = cidrBlock
+
+  override def inputType: AbstractDataType = StringType
+
+  override def nullable: Boolean = false
+
+  override def prettyName: String = "cidrmatch"
+
+  override def symbol: String = NAME
+
+  @transient private lazy val compiledCidrBlock: CidrMatch.CidrBlock =
+    CidrMatch.compile(cidrBlock.eval().asInstanceOf[UTF8String])
+
+  @transient private lazy val addressBuffer: Array[Long] = new Array[Long](2)
+
+  override def eval(input: InternalRow): Any = {
+    val ip = ipAddress.eval(input).asInstanceOf[UTF8String]
+    val block =
+      if (cidrBlock.foldable) {
+        compiledCidrBlock
+      } else {
+        CidrMatch.compile(cidrBlock.eval(input).asInstanceOf[UTF8String])
+      }
+    block.contains(ip, addressBuffer)
+  }
+
+  /**
+   * Generate expression code for Spark codegen execution. Literal CIDR block is compiled once per
+   * partition in the init of generated class. Sample result code:
+   * ```
+   *   boolean filter_value_0 =
+   *     filter_mutableStateArray_0[0].contains(ip_isNull ? null : ip_value, filter_address_0);
+   * ```
+   */
+  override protected def doGenCode(ctx: CodegenContext, ev: ExprCode): ExprCode = {
+    val cidrMatch = s"${CidrMatch.getClass.getName}.MODULE$$"
+    val ipGen = ipAddress.genCode(ctx)
+    val ip = s"(${ipGen.isNull} ? null : ${ipGen.value})"
+    val address = ctx.addMutableState("long[]", "address", v => s"$v = new long[2];")
+    val (blockCode, block) =
+      if (cidrBlock.foldable) {
+        val cidr = ctx.addReferenceObj("cidr", cidrBlock.eval(), classOf[UTF8String].getName)
+        val blockClass = classOf[CidrMatch.CidrBlock].getName
+        val compiled =
+          ctx.addMutableState(blockClass, "cidrBlock", v => s"$v = $cidrMatch.compile($cidr);")
+        ("", compiled)
+      } else {
+        val cidrGen = cidrBlock.genCode(ctx)
+        (
+          cidrGen.code.toString,
+          s"$cidrMatch.compile(${cidrGen.isNull} ? null : ${cidrGen.value})")
+      }
+    ev.copy(
+      code = code"""
+        ${ipGen.code}
+        $blockCode
+        boolean ${ev.value} = $block.contains($ip, $address);""",
+      isNull = FalseLiteral)
+  }
+
+  override protected def withNewChildrenInternal(
+      newIpAddress: Expression,
+      newCidrBlock: Expression): CidrMatch =
+    copy(ipAddress = newIpAddress, cidrBlock = newCidrBlock)
+}
+
+object CidrMatch {
+
+  val NAME = "CIDRMATCH"
+
+  private val IPV4 = 4
+  private val IPV6 = 6
+
+  private val options: IPAddressStringParameters = new IPAddressStringParameters.Builder()
+    .allowEmpty(false)
+    .setEmptyAsLoopback(false)
+    .allow_inet_aton(false)
+    .allowSingleSegment(false)
+    .toParams
+
+  /**
+   * CIDR block compiled into inclusive bounds of 128-bit address value, each as high and low 64
+   * bits. IPv4 address value is in the low 64 bits.
+   */
+  case class CidrBlock(
+      cidrBlock: String,
+      version: Int,
+      lowerHigh: Long,
+      lowerLow: Long,
+      upperHigh: Long,
+      upperLow: Long) {
+
+    /**
+     * Check if the IP address is within the CIDR block.
+     *
+     * @param ipAddress
+     *   IP address string, null is invalid
+     * @param buffer
+     *   reusable array of 2 longs to parse the IP address into
+     * @return
+     *   true if within the block
+     */
+    def contains(ipAddress: UTF8String, buffer: Array[Long]): Boolean = {
+      if (parseAddress(ipAddress, buffer) == version) {
+        within(buffer(0), buffer(1))
+      } else {
+        // Parse uncommon form, such as embedded IPv4 or prefix length, and report error
+        val address = parse(String.valueOf(ipAddress), "ipAddress", "IPv4 or IPv6 address")
+        if (versionOf(address) != version) {
+          throw new RuntimeException(
+            s"The given ipAddress '$ipAddress' and cidrBlock '$cidrBlock' are not compatible. " +
+              "Both must be either IPv4 or IPv6.")
+        }
+        val lower = address.getLower.getValue
+        val upper = address.getUpper.getValue
+        within(lower.shiftRight(64).longValue(), lower.longValue()) &&
+        within(upper.shiftRight(64).longValue(), upper.longValue())
+      }
+    }
+
+    private def within(high: Long, low: Long): Boolean =
+      compare(high, low, lowerHigh, lowerLow) >= 0 && compare(high, low, upperHigh, upperLow) <= 0
+  }
+
+  /**
+   * Compile CIDR block into address bounds.
+   *
+   * @param cidrBlock
+   *   CIDR block string, null is invalid
+   * @return
+   *   compiled CIDR block
+   */
+  def compile(cidrBlock: UTF8String): CidrBlock = {
+    val block = parse(String.valueOf(cidrBlock), "cidrBlock", "CIDR or netmask")
+    val lower = block.getLower.getValue
+    val upper = block.getUpper.getValue
+    CidrBlock(
+      String.valueOf(cidrBlock),
+      versionOf(block),
+      lower.shiftRight(64).longValue(),
+      lower.longValue(),
+      upper.shiftRight(64).longValue(),
+      upper.longValue())
+  }
+
+  /**
+   * Parse IP address in common form, i.e. IPv4 dotted decimal or IPv6 hexadecimal groups with
+   * optional `::` compression, into 128-bit value without allocation.
+   *
+   * @param ipAddress
+   *   IP address string
+   * @param buffer
+   *   array to store high and low 64 bits of the address value
+   * @return
+   *   4 or 6 for IPv4 or IPv6, or 0 if null or not in common form
+   */
+  def parseAddress(ipAddress: UTF8String, buffer: Array[Long]): Int = {
+    if (ipAddress == null) {
+      0
+    } else {
+      val base = ipAddress.getBaseObject
+      val offset = ipAddress.getBaseOffset
+      val length = ipAddress.numBytes()
+      var i = 0
+      while (i < length && Platform.getByte(base, offset + i) != ':') {
+        i += 1
+      }
+      if (i < length) {
+        if (parseIPv6(base, offset, length, buffer)) IPV6 else 0
+      } else {
+        if (parseIPv4(base, offset, length, buffer)) IPV4 else 0
+      }
+    }
+  }
+
+  private def parseIPv4(base: AnyRef, offset: Long, length: Int, buffer: Array[Long]): Boolean = {
+    var value = 0L
+    var segment = 0
+    var digits = 0
+    var segments = 0
+    var i = 0
+    while (i < length) {
+      val b = Platform.getByte(base, offset + i)
+      if (b >= '0' && b <= '9') {
+        // Leading zero is left to IPAddressString
+        if ((digits == 1 && segment == 0) || digits == 3) {
+          return false
+        }
+        segment = segment * 10 + (b - '0')
+        digits += 1
+        if (segment > 255) {
+          return false
+        }
+      } else if (b == '.' && digits > 0 && segments < 3) {
+        value = (value << 8) | segment
+        segments += 1
+        segment = 0
+        digits = 0
+      } else {
+        return false
+      }
+      i += 1
+    }
+    if (digits == 0 || segments != 3) {
+      return false
+    }
+    buffer(0) = 0L
+    buffer(1) = (value << 8) | segment
+    true
+  }
+
+  private def parseIPv6(base: AnyRef, offset: Long, length: Int, buffer: Array[Long]): Boolean = {
+    // Groups before "::" if compressed, and groups after "::" or all groups if not compressed
+    var headHigh = 0L
+    var headLow = 0L
+    var headGroups = -1
+    var high = 0L
+    var low = 0L
+    var groups = 0
+    var group = 0
+    var digits = 0
+    var compressedAtEnd = false
+    var i = 0
+    while (i < length) {
+      val b = Platform.getByte(base, offset + i)
+      val hex = hexValue(b)
+      if (hex >= 0) {
+        if (digits == 4) {
+          return false
+        }
+        group = (group << 4) | hex
+        digits += 1
+        compressedAtEnd = false
+        i += 1
+      } else if (b == ':') {
+        if (digits > 0) {
+          if (groups == 8) {
+            return false
+          }
+          high = (high << 16) | (low >>> 48)
+          low = (low << 16) | group
+          groups += 1
+          group = 0
+          digits = 0
+        } else if (i > 0) {
+          return false
+        }
+        if (i + 1 < length && Platform.getByte(base, offset + i + 1) == ':') {
+          if (headGroups >= 0) {
+            return false
+          }
+          headHigh = high
+          headLow = low
+          headGroups = groups
+          high = 0L
+          low = 0L
+          groups = 0
+          compressedAtEnd = true
+          i += 2
+        } else if (i == 0 || i + 1 == length) {
+          return false
+        } else {
+          i += 1
+        }
+      } else {
+        return false
+      }
+    }
+
+    if (digits > 0) {
+      if (groups == 8) {
+        return false
+      }
+      high = (high << 16) | (low >>> 48)
+      low = (low << 16) | group
+      groups += 1
+    } else if (!compressedAtEnd) {
+      return false
+    }
+
+    if (headGroups < 0) {
+      if (groups != 8) {
+        return false
+      }
+    } else {
+      if (headGroups + groups > 7) {
+        return false
+      }
+      // Shift head groups to the top and fill the compressed groups with zero
+      val shift = 16 * (8 - headGroups)
+      if (headGroups > 0) {
+        if (shift >= 64) {
+          high |= headLow << (shift - 64)
+        } else {
+          high |= (headHigh << shift) | (headLow >>> (64 - shift))
+          low |= headLow << shift
+        }
+      }
+    }
+    buffer(0) = high
+    buffer(1) = low
+    true
+  }
+
+  private def hexValue(b: Byte): Int = {
+    if (b >= '0' && b <= '9') {
+      b - '0'
+    } else if (b >= 'a' && b <= 'f') {
+      b - 'a' + 10
+    } else if (b >= 'A' && b <= 'F') {
+      b - 'A' + 10
+    } else {
+      -1
+    }
+  }
+
+  private def parse(address: String, name: String, expected: String): IPAddress = {
+    val parsed = new IPAddressString(address, options)
+    try {
+      parsed.validate()
+    } catch {
+      case e: AddressStringException =>
+        throw new RuntimeException(
+          s"The given $name '$address' is invalid. It must be a valid $expected. " +
+            s"Error details: ${e.getMessage}")
+    }
+    parsed.getAddress
+  }
+
+  private def versionOf(address: IPAddress): Int = if (address.isIPv4) IPV4 else IPV6
+
+  private def compare(high1: Long, low1: Long, high2: Long, low2: Long): Int = {
+    val result = java.lang.Long.compareUnsigned(high1, high2)
+    if (result != 0) result else java.lang.Long.compareUnsigned(low1, low2)
+  }
+}
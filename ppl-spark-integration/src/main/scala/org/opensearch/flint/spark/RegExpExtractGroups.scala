@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.flint.spark
+
+import java.util.regex.{Matcher, Pattern}
+
+import scala.collection.JavaConverters._
+
+import org.apache.spark.sql.catalyst.analysis.TypeCheckResult
+import org.apache.spark.sql.catalyst.expressions.{BinaryExpression, Expression, GenericInternalRow, ImplicitCastInputTypes, NullIntolerant}
+import org.apache.spark.sql.catalyst.expressions.codegen.{CodegenContext, ExprCode}
+import org.apache.spark.sql.types.{AbstractDataType, DataType, StringType, StructField, StructType}
+import org.apache.spark.unsafe.types.UTF8String
+
+/**
+ * Extracts several groups of a regular expression at once. Unlike a RegExpExtract per group, the
+ * subject is matched only once per row and all groups are returned as a struct of strings named
+ * after the groups. As in RegExpExtract, a group is empty string if the regular expression or the
+ * group doesn't match.
+ *
+ * The regular expression must be foldable, so it is compiled once per expression instance in
+ * interpreted mode and once per partition in generated code.
+ *
+ * @param subject
+ *   string to match
+ * @param regexp
+ *   regular expression
+ * @param groupNames
+ *   struct field name of each extracted group
+ * @param groupIndexes
+ *   1-based index of each extracted group in the regular expression
+ */
+case class RegExpExtractGroups(
+    subject: Expression,
+    regexp: Expression,
+    groupNames: Seq[String],
+    groupIndexes: Seq[Int])
+    extends BinaryExpression
+    with ImplicitCastInputTypes
+    with NullIntolerant {
+
+  require(groupNames.size == groupIndexes.size, "Group names and indexes must be of same size")
+
+  override def left: Expression = subject
+
+  override def right: Expression = regexp
+
+  override def inputTypes: Seq[AbstractDataType] = Seq(StringType, StringType)
+
+  override def dataType: DataType =
+    StructType(groupNames.map(name => StructField(name, StringType, nullable = false)))
+
+  override def prettyName: String = "regexp_extract_groups"
+
+  override def checkInputDataTypes(): TypeCheckResult = {
+    val result = super.checkInputDataTypes()
+    if (result.isFailure) {
+      result
+    } else if (!regexp.foldable) {
+      TypeCheckResult.TypeCheckFailure(s"Regular expression of $prettyName must be foldable")
+    } else {
+      TypeCheckResult.TypeCheckSuccess
+    }
+  }
+
+  @transient private lazy val regexString: String = regexp.eval().asInstanceOf[UTF8String].toString
+
+  @transient private lazy val pattern: Pattern = Pattern.compile(regexString)
+
+  override protected def nullSafeEval(s: Any, r: Any): Any = {
+    val matcher = pattern.matcher(s.toString)
+    val values: Array[Any] = if (matcher.find()) {
+      groupIndexes.map(index => RegExpExtractGroups.group(matcher, index)).toArray
+    } else {
+      Array.fill(groupIndexes.size)(UTF8String.EMPTY_UTF8)
+    }
+    new GenericInternalRow(values)
+  }
+
+  override protected def doGenCode(ctx: CodegenContext, ev: ExprCode): ExprCode = {
+    val patternClass = classOf[Pattern].getCanonicalName
+    val matcherClass = classOf[Matcher].getCanonicalName
+    val rowClass = classOf[GenericInternalRow].getName
+    val utf8Class = classOf[UTF8String].getName
+    val regexRef = ctx.addReferenceObj("regexp", regexString)
+    // Compiled in the init of generated class, i.e. once per partition
+    val patternRef =
+      ctx.addMutableState(patternClass, "pattern", v => s"$v = $patternClass.compile($regexRef);")
+    val matcher = ctx.freshName("matcher")
+    val values = ctx.freshName("values")
+    val group = ctx.freshName("group")
+
+    val extractGroups = groupIndexes.zipWithIndex.map { case (groupIndex, i) =>
+      s"""
+         |$group = $matcher.group($groupIndex);
+         |$values[$i] = $group == null ? $utf8Class.EMPTY_UTF8 : $utf8Class.fromString($group);
+         |""".stripMargin
+    }
+    val emptyGroups = groupIndexes.indices.map(i => s"$values[$i] = $utf8Class.EMPTY_UTF8;")
+
+    nullSafeCodeGen(
+      ctx,
+      ev,
+      (s, _) => s"""
+         |$matcherClass $matcher = $patternRef.matcher($s.toString());
+         |Object[] $values = new Object[${groupIndexes.size}];
+         |if ($matcher.find()) {
+         |  String $group;
+         |  ${extractGroups.mkString("\n")}
+         |} else {
+         |  ${emptyGroups.mkString("\n")}
+         |}
+         |${ev.value} = new $rowClass($values);
+         |""".stripMargin)
+  }
+
+  override protected def withNewChildrenInternal(
+      newLeft: Expression,
+      newRight: Expression): RegExpExtractGroups =
+    copy(subject = newLeft, regexp = newRight)
+}
+
+object RegExpExtractGroups {
+
+  /**
+   * Create the expression from the 1-based group index by group name, in struct field order.
+   */
+  def create(
+      subject: Expression,
+      regexp: Expression,
+      groups: java.util.Map[String, Integer]): RegExpExtractGroups = {
+    val entries = groups.asScala.toSeq
+    RegExpExtractGroups(subject, regexp, entries.map(_._1), entries.map(_._2.intValue()))
+  }
+
+  private def group(matcher: Matcher, index: Int): UTF8String = {
+    val value = matcher.group(index)
+    if (value == null) UTF8String.EMPTY_UTF8 else UTF8String.fromString(value)
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.spark
+
+import org.scalatest.matchers.should.Matchers
+
+import org.apache.spark.SparkFunSuite
+import org.apache.spark.sql.catalyst.expressions.{AttributeReference, ExpressionEvalHelper, Literal, NonFoldableLiteral}
+import org.apache.spark.sql.catalyst.util.V2ExpressionBuilder
+import org.apache.spark.sql.connector.expressions.filter.Predicate
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.unsafe.types.UTF8String
+
+class CidrMatchSuite extends SparkFunSuite with ExpressionEvalHelper with Matchers {
+
+  private def cidrMatch(ipAddress: String, cidrBlock: String): CidrMatch =
+    CidrMatch(Literal.create(ipAddress, StringType), Literal.create(cidrBlock, StringType))
+
+  test("match IPv4 and IPv6 address") {
+    checkEvaluation(cidrMatch("192.168.0.0", "192.168.0.0/24"), true)
+    checkEvaluation(cidrMatch("192.168.0.255", "192.168.0.0/24"), true)
+    checkEvaluation(cidrMatch("10.10.0.0", "192.168.0.0/24"), false)
+    checkEvaluation(cidrMatch("192.168.1.0", "192.168.0.0/24"), false)
+    checkEvaluation(cidrMatch("2001:0db8:85a3:0000:0000:8a2e:0370:7334", "2001:db8::/32"), true)
+    checkEvaluation(cidrMatch("2001:0db7:85a3:0000:0000:8a2e:0370:7334", "2001:0db8::/32"), false)
+    checkEvaluation(cidrMatch("2001:db8::1", "2001:db8::/120"), true)
+    checkEvaluation(cidrMatch("::", "::/128"), true)
+  }
+
+  test("match IP address in uncommon form") {
+    checkEvaluation(cidrMatch("::ffff:192.168.0.1", "::ffff:192.168.0.0/120"), true)
+    checkEvaluation(cidrMatch("::ffff:192.168.1.1", "::ffff:192.168.0.0/120"), false)
+    checkEvaluation(cidrMatch("192.168.0.0/25", "192.168.0.0/24"), true)
+    checkEvaluation(cidrMatch("192.168.0.0/23", "192.168.0.0/24"), false)
+  }
+
+  test("match non-literal CIDR block") {
+    val expr = CidrMatch(Literal("192.168.0.1"), NonFoldableLiteral("192.168.0.0/24"))
+    checkEvaluation(expr, true)
+  }
+
+  test("throw on invalid or null IP address") {
+    Seq(null, "", "xxx", "256.0.0.1", "1:2:3:4:5:6:7:8:9").foreach { ipAddress =>
+      checkExceptionInExpression[RuntimeException](
+        cidrMatch(ipAddress, "192.168.0.0/24"),
+        "is invalid")
+    }
+  }
+
+  test("throw on invalid or null CIDR block") {
+    Seq(null, "", "xxx", "2001:db8::/324").foreach { cidrBlock =>
+      checkExceptionInExpression[RuntimeException](cidrMatch("192.168.0.0", cidrBlock), "invalid")
+    }
+  }
+
+  test("throw on IPv4 and IPv6 mix") {
+    checkExceptionInExpression[RuntimeException](
+      cidrMatch("2001:0db8:85a3:0000:0000:8a2e:0370:7334", "192.168.0.0/24"),
+      "not compatible")
+    checkExceptionInExpression[RuntimeException](
+      cidrMatch("192.168.0.0", "2001:db8::/32"),
+      "not compatible")
+  }
+
+  test("parse IP address in common form without fallback") {
+    val buffer = new Array[Long](2)
+    CidrMatch.parseAddress(UTF8String.fromString("1.2.3.4"), buffer) shouldBe 4
+    buffer shouldBe Array(0L, 0x01020304L)
+
+    CidrMatch.parseAddress(UTF8String.fromString("2001:db8::1"), buffer) shouldBe 6
+    buffer shouldBe Array(0x20010db800000000L, 1L)
+
+    CidrMatch.parseAddress(UTF8String.fromString("1:2:3:4:5:6:7:8"), buffer) shouldBe 6
+    buffer shouldBe Array(0x0001000200030004L, 0x0005000600070008L)
+
+    CidrMatch.parseAddress(UTF8String.fromString("1:2:3:4:5::"), buffer) shouldBe 6
+    buffer shouldBe Array(0x0001000200030004L, 0x0005000000000000L)
+
+    Seq("01.2.3.4", "1.2.3", "::ffff:1.2.3.4", "1::2::3", ":1::", "1:2:3:4:5:6:7:8:9", "fe80::1%0")
+      .foreach { ipAddress =>
+        CidrMatch.parseAddress(UTF8String.fromString(ipAddress), buffer) shouldBe 0
+      }
+  }
+
+  test("translate to data source predicate for pushdown") {
+    val expr = CidrMatch(AttributeReference("ip", StringType)(), Literal("192.168.0.0/24"))
+    val predicate = new V2ExpressionBuilder(expr, true).build()
+    predicate.map(_.asInstanceOf[Predicate].name()) shouldBe Some(CidrMatch.NAME)
+  }
+}
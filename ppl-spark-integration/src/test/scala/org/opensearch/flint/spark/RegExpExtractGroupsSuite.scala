@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.flint.spark
+
+import org.scalatest.matchers.should.Matchers
+
+import org.apache.spark.SparkFunSuite
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.catalyst.expressions.{AttributeReference, ExpressionEvalHelper, Literal, RegExpExtract}
+import org.apache.spark.sql.types.{StringType, StructField, StructType}
+
+class RegExpExtractGroupsSuite extends SparkFunSuite with ExpressionEvalHelper with Matchers {
+
+  private val regexp = Literal("(?<streetNumber>\\d+) (?<street>.+?)(, (?<city>.+))?$")
+
+  private def groups(subject: String): RegExpExtractGroups =
+    RegExpExtractGroups(
+      Literal.create(subject, StringType),
+      regexp,
+      Seq("street", "streetNumber", "city"),
+      Seq(2, 1, 4))
+
+  test("extract all groups in a single match") {
+    checkEvaluation(groups("505 Spruce St, Miami"), Row("Spruce St", "505", "Miami"))
+  }
+
+  test("extract empty string for unmatched group or subject as RegExpExtract") {
+    checkEvaluation(groups("505 Spruce St"), Row("Spruce St", "505", ""))
+    checkEvaluation(groups("Spruce St"), Row("", "", ""))
+    checkEvaluation(RegExpExtract(Literal("505 Spruce St"), regexp, Literal(4)), "")
+  }
+
+  test("return null for null subject") {
+    checkEvaluation(groups(null), null)
+  }
+
+  test("name struct fields after groups") {
+    groups("").dataType shouldBe StructType(
+      Seq(
+        StructField("street", StringType, nullable = false),
+        StructField("streetNumber", StringType, nullable = false),
+        StructField("city", StringType, nullable = false)))
+  }
+
+  test("require foldable regular expression") {
+    groups("").checkInputDataTypes().isSuccess shouldBe true
+
+    val nonFoldable = RegExpExtractGroups(
+      Literal("505 Spruce St"),
+      AttributeReference("regexp", StringType)(),
+      Seq("street"),
+      Seq(2))
+    nonFoldable.checkInputDataTypes().isFailure shouldBe true
+  }
+}
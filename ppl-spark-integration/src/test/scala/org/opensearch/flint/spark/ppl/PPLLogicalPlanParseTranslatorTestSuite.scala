@@ -5,6 +5,7 @@
 
 package org.opensearch.flint.spark.ppl
 
+import org.opensearch.flint.spark.RegExpExtractGroups
 import org.opensearch.flint.spark.ppl.PlaneUtils.plan
 import org.opensearch.sql.ppl.{CatalystPlanContext, CatalystQueryPlanVisitor}
 import org.opensearch.sql.ppl.utils.DataTypeTransformer.seq
@@ -13,7 +14,7 @@ import org.scalatest.matchers.should.Matchers
 import org.apache.spark.SparkFunSuite
 import org.apache.spark.sql.catalyst.ScalaReflection.universe.Star
 import org.apache.spark.sql.catalyst.analysis.{UnresolvedAttribute, UnresolvedFunction, UnresolvedRelation, UnresolvedStar}
-import org.apache.spark.sql.catalyst.expressions.{Alias, Ascending, Coalesce, Descending, GreaterThan, Literal, NamedExpression, NullsFirst, NullsLast, RegExpExtract, SortOrder}
+import org.apache.spark.sql.catalyst.expressions.{Alias, Ascending, Coalesce, Descending, GetStructField, GreaterThan, Literal, NamedExpression, NullsFirst, NullsLast, RegExpExtract, SortOrder}
 import org.apache.spark.sql.catalyst.plans.PlanTest
 import org.apache.spark.sql.catalyst.plans.logical.{Aggregate, Filter, GlobalLimit, LocalLimit, Project, Sort}
 
@@ -133,19 +134,14 @@ class PPLLogicalPlanParseTranslatorTestSuite
     val streetNumberAttribute = UnresolvedAttribute("streetNumber")
     val streetAttribute = UnresolvedAttribute("street")
 
-    val streetNumberExpression = Alias(
-      RegExpExtract(
-        addressAttribute,
-        Literal("(?<streetNumber>\\d+) (?<street>.+)"),
-        Literal("1")),
-      "streetNumber")()
-
-    val streetExpression = Alias(
-      RegExpExtract(
-        addressAttribute,
-        Literal("(?<streetNumber>\\d+) (?<street>.+)"),
-        Literal("2")),
-      "street")()
+    val groups = RegExpExtractGroups(
+      addressAttribute,
+      Literal("(?<streetNumber>\\d+) (?<street>.+)"),
+      Seq("streetNumber", "street"),
+      Seq(1, 2))
+    val streetNumberExpression =
+      Alias(GetStructField(groups, 0, Some("streetNumber")), "streetNumber")()
+    val streetExpression = Alias(GetStructField(groups, 1, Some("street")), "street")()
 
     val expectedPlan = Project(
       Seq(streetNumberAttribute, streetAttribute),
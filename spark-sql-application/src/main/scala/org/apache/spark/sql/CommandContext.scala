@@ -21,4 +21,5 @@ case class CommandContext(
     queryExecutionTimeout: Duration,
     inactivityLimitMillis: Long,
     queryWaitTimeMillis: Long,
-    queryLoopExecutionFrequency: Long)
+    queryLoopExecutionFrequency: Long,
+    queryLoopMaxExecutionFrequency: Long = 0L)
@@ -6,6 +6,7 @@
 package org.apache.spark.sql
 
 import java.util.Locale
+import java.util.concurrent.ConcurrentHashMap
 
 import com.amazonaws.services.glue.model.{AccessDeniedException, AWSGlueException}
 import com.amazonaws.services.s3.model.AmazonS3Exception
@@ -104,6 +105,20 @@ trait FlintJobExecutor {
       }
     }""".stripMargin
 
+  // Added to result index only when query result is written in pages, so that result index
+  // created before or by other writers still passes the mapping check above
+  val resultPageMapping =
+    """{
+      "properties": {
+        "resultPage" : {
+          "type" : "long"
+        }
+      }
+    }""".stripMargin
+
+  // Result indexes known to have resultPage field mapped
+  private val resultPageMappedIndexes = ConcurrentHashMap.newKeySet[String]()
+
   // Define the data schema
   val schema = StructType(
     Seq(
@@ -122,6 +137,17 @@ trait FlintJobExecutor {
       StructField("updateTime", LongType, nullable = false),
       StructField("queryRunTime", LongType, nullable = true)))
 
+  // Define the result page schema if query result is written in pages
+  val resultPageSchema = StructType(
+    Seq(
+      StructField("result", ArrayType(StringType, containsNull = true), nullable = true),
+      StructField("jobRunId", StringType, nullable = true),
+      StructField("applicationId", StringType, nullable = true),
+      StructField("dataSourceName", StringType, nullable = true),
+      StructField("queryId", StringType, nullable = true),
+      StructField("sessionId", StringType, nullable = true),
+      StructField("resultPage", LongType, nullable = false)))
+
   def createSparkConf(): SparkConf = {
     val conf = new SparkConf().setAppName(getClass.getSimpleName)
 
@@ -198,14 +224,55 @@ trait FlintJobExecutor {
     }
   }
 
+  /**
+   * Writes query result pages to the specified OpenSearch index. Unlike
+   * writeDataFrameToOpensearch, write failure is thrown because the query result is incomplete
+   * without any of its pages. The `resultPage` field is added to the index mapping before the
+   * first pages are written, because result index is not dynamically mapped.
+   *
+   * @param resultPages
+   *   result pages to write
+   * @param resultIndex
+   *   result index
+   * @param osClient
+   *   OpenSearch client
+   */
+  def writeResultPagesToOpensearch(
+      resultPages: DataFrame,
+      resultIndex: String,
+      osClient: OSClient): Unit = {
+    if (!resultPageMappedIndexes.contains(resultIndex)) {
+      val existingMapping = Json.parse(osClient.getIndexMetadata(resultIndex))
+      if ((existingMapping \ "properties" \ "resultPage").isEmpty) {
+        logInfo(s"Add resultPage field to mapping of $resultIndex")
+        osClient.updateIndexMapping(resultIndex, resultPageMapping)
+      }
+      resultPageMappedIndexes.add(resultIndex)
+    }
+    resultPages.write
+      .format("flint")
+      .option(REFRESH_POLICY.optionKey, osClient.flintOptions.getRefreshPolicy)
+      .mode("append")
+      .save(resultIndex)
+  }
+
   // scalastyle:off
   /**
    * Create a new formatted dataframe with json result, json schema and EMR_STEP_ID.
    *
+   * If result page size is configured and result page writer is given, query result is not
+   * collected to driver. Instead, result rows are serialized on executors and written by the
+   * writer in pages of `resultPageSize` rows, each page as a document with a `resultPage`
+   * number. Page numbers are increasing but not contiguous. The returned dataframe has empty
+   * result and is written after all pages, which means all pages can be read in `resultPage`
+   * order once its status is visible. Rows in result pages are JSON strings as is.
+   *
    * @param result
    *   sql query result dataframe
    * @param spark
    *   spark session
+   * @param resultPageWriter
+   *   writer of result pages
    * @return
    *   dataframe with result, schema and emr step id
    */
@@ -220,7 +287,8 @@ trait FlintJobExecutor {
       sessionId: String,
       startTime: Long,
       timeProvider: TimeProvider,
-      cleaner: Cleaner): DataFrame = {
+      cleaner: Cleaner,
+      resultPageWriter: Option[DataFrame => Unit] = None): DataFrame = {
     // Create the schema dataframe
     val schemaRows = result.schema.fields.map { field =>
       Row(field.name, field.dataType.typeName)
@@ -232,8 +300,23 @@ trait FlintJobExecutor {
           StructField("column_name", StringType, nullable = false),
           StructField("data_type", StringType, nullable = false))))
 
-    val resultToSave = result.toJSON.collect.toList
-      .map(_.replaceAll("'", "\\\\'").replaceAll("\"", "'"))
+    val resultPageSize = FlintSparkConf().resultPageSize
+    val resultToSave =
+      if (resultPageSize > 0 && resultPageWriter.isDefined) {
+        resultPageWriter.get(
+          toResultPages(
+            result,
+            resultPageSize,
+            applicationId,
+            jobId,
+            dataSource,
+            queryId,
+            sessionId))
+        List.empty[String]
+      } else {
+        result.toJSON.collect.toList
+          .map(_.replaceAll("'", "\\\\'").replaceAll("\"", "'"))
+      }
 
     val resultSchemaToSave = resultSchema.toJSON.collect.toList.map(_.replaceAll("\"", "'"))
     val endTime = timeProvider.currentEpochMillis()
@@ -263,6 +346,30 @@ trait FlintJobExecutor {
     spark.createDataFrame(rows).toDF(schema.fields.map(_.name): _*)
   }
 
+  private def toResultPages(
+      result: DataFrame,
+      resultPageSize: Int,
+      applicationId: String,
+      jobId: String,
+      dataSource: String,
+      queryId: String,
+      sessionId: String): DataFrame = {
+    val pages = result.toJSON.rdd.mapPartitionsWithIndex { (partitionId, rows) =>
+      // Page number is partition id in high bits and page index in the partition in low bits
+      rows.grouped(resultPageSize).zipWithIndex.map { case (page, pageIndex) =>
+        Row(
+          page,
+          jobId,
+          applicationId,
+          dataSource,
+          queryId,
+          sessionId,
+          (partitionId.toLong << 32) | pageIndex)
+      }
+    }
+    result.sparkSession.createDataFrame(pages, resultPageSchema)
+  }
+
   def constructErrorDF(
       applicationId: String,
       jobId: String,
@@ -415,7 +522,8 @@ trait FlintJobExecutor {
       dataSource: String,
       queryId: String,
       sessionId: String,
-      streaming: Boolean): DataFrame = {
+      streaming: Boolean,
+      resultPageWriter: Option[DataFrame => Unit] = None): DataFrame = {
     // Execute SQL query
     val startTime = System.currentTimeMillis()
     // we have to set job group in the same thread that started the query according to spark doc
@@ -433,7 +541,8 @@ trait FlintJobExecutor {
       sessionId,
       startTime,
       currentTimeProvider,
-      CleanerFactory.cleaner(streaming))
+      CleanerFactory.cleaner(streaming),
+      resultPageWriter)
   }
 
   private def handleQueryException(
@@ -34,6 +34,7 @@ object FlintREPLConfConstants {
   val DEFAULT_QUERY_EXECUTION_TIMEOUT = Duration(30, MINUTES)
   val DEFAULT_QUERY_WAIT_TIMEOUT_MILLIS = 10 * 60 * 1000
   val DEFAULT_QUERY_LOOP_EXECUTION_FREQUENCY = 100L
+  val DEFAULT_QUERY_LOOP_MAX_EXECUTION_FREQUENCY = 10000L
   val INITIAL_DELAY_MILLIS = 3000L
   val EARLY_TERMINATION_CHECK_FREQUENCY = 60000L
 }
@@ -131,6 +132,10 @@ object FlintREPL extends Logging with FlintJobExecutor {
         conf.getLong(
           "spark.flint.job.queryLoopExecutionFrequency",
           DEFAULT_QUERY_LOOP_EXECUTION_FREQUENCY)
+      val queryLoopMaxExecutionFrequency: Long =
+        conf.getLong(
+          "spark.flint.job.queryLoopMaxExecutionFrequency",
+          DEFAULT_QUERY_LOOP_MAX_EXECUTION_FREQUENCY)
       val sessionTimerContext = getTimerContext(MetricConstants.REPL_PROCESSING_TIME_METRIC)
 
       /**
@@ -180,7 +185,8 @@ object FlintREPL extends Logging with FlintJobExecutor {
           queryExecutionTimeoutSecs,
           inactivityLimitMillis,
           queryWaitTimeoutMillis,
-          queryLoopExecutionFrequency)
+          queryLoopExecutionFrequency,
+          queryLoopMaxExecutionFrequency)
         exponentialBackoffRetry(maxRetries = 5, initialDelay = 2.seconds) {
           queryLoop(commandContext)
         }
@@ -328,6 +334,7 @@ object FlintREPL extends Logging with FlintJobExecutor {
       var verificationResult: VerificationResult = NotVerified
       var canPickUpNextStatement = true
       var lastCanPickCheckTime = 0L
+      var queryLoopInterval = commandContext.queryLoopExecutionFrequency
       while (currentTimeProvider
           .currentEpochMillis() - lastActivityTime <= commandContext.inactivityLimitMillis && canPickUpNextStatement) {
 
@@ -351,6 +358,10 @@ object FlintREPL extends Logging with FlintJobExecutor {
             updatedCanPickUpNextStatement,
             updatedLastCanPickCheckTime) = result
 
+          queryLoopInterval = nextQueryLoopInterval(
+            commandContext,
+            queryLoopInterval,
+            updatedLastActivityTime > lastActivityTime)
           lastActivityTime = updatedLastActivityTime
           verificationResult = updatedVerificationResult
           canPickUpNextStatement = updatedCanPickUpNextStatement
@@ -359,7 +370,7 @@ object FlintREPL extends Logging with FlintJobExecutor {
           statementsExecutionManager.terminateStatementExecution()
         }
 
-        Thread.sleep(commandContext.queryLoopExecutionFrequency)
+        statementsExecutionManager.awaitNextStatement(queryLoopInterval)
       }
     } finally {
       if (threadPool != null) {
@@ -368,6 +379,35 @@ object FlintREPL extends Logging with FlintJobExecutor {
     }
   }
 
+  /**
+   * Compute interval before next statement pickup. Poll at query loop execution frequency right
+   * after any statement processed, and double the interval on each idle iteration up to the max
+   * execution frequency. This keeps statement latency low for active session without polling
+   * session index as often for idle session. While waiting, statement execution manager may
+   * return early once a new statement is submitted.
+   *
+   * @param commandContext
+   *   command context with query loop execution frequency
+   * @param currentInterval
+   *   current interval in milliseconds
+   * @param active
+   *   whether any statement was processed in last iteration
+   * @return
+   *   next interval in milliseconds
+   */
+  def nextQueryLoopInterval(
+      commandContext: CommandContext,
+      currentInterval: Long,
+      active: Boolean): Long = {
+    val minInterval = commandContext.queryLoopExecutionFrequency
+    val maxInterval = Math.max(commandContext.queryLoopMaxExecutionFrequency, minInterval)
+    if (active) {
+      minInterval
+    } else {
+      Math.max(minInterval, Math.min(currentInterval * 2, maxInterval))
+    }
+  }
+
   private def setupFlintJob(
       applicationId: String,
       jobId: String,
@@ -12,8 +12,9 @@ import java.util.Locale
 import scala.util.{Failure, Success, Try}
 
 import org.opensearch.action.get.{GetRequest, GetResponse}
+import org.opensearch.action.search.SearchRequest
 import org.opensearch.client.RequestOptions
-import org.opensearch.client.indices.{CreateIndexRequest, GetIndexRequest}
+import org.opensearch.client.indices.{CreateIndexRequest, GetIndexRequest, PutMappingRequest}
 import org.opensearch.common.Strings
 import org.opensearch.common.settings.Settings
 import org.opensearch.common.xcontent.{NamedXContentRegistry, XContentType}
@@ -87,6 +88,31 @@ class OSClient(val flintOptions: FlintOptions) extends Logging {
     }
   }
 
+  /**
+   * Add new fields to the mapping of an existing index.
+   *
+   * @param osIndexName
+   *   the name of the index
+   * @param mapping
+   *   the mapping of new fields
+   */
+  def updateIndexMapping(osIndexName: String, mapping: String): Unit = {
+    logInfo(s"update mapping of $osIndexName")
+
+    using(flintClient.createClient()) { client =>
+      val request = new PutMappingRequest(osIndexName)
+      request.source(mapping, XContentType.JSON)
+
+      try {
+        client.updateIndexMapping(request, RequestOptions.DEFAULT)
+        logInfo(s"update mapping of $osIndexName successfully")
+      } catch {
+        case e: Exception =>
+          throw new IllegalStateException(s"Failed to update mapping of index $osIndexName", e)
+      }
+    }
+  }
+
   /**
    * the loan pattern to manage resource.
    *
@@ -154,18 +180,47 @@ class OSClient(val flintOptions: FlintOptions) extends Logging {
       query: String,
       sort: String,
       sortOrder: SortOrder): FlintReader = try {
-    var queryBuilder: QueryBuilder = new MatchAllQueryBuilder
-    if (!Strings.isNullOrEmpty(query)) {
-      val parser =
-        XContentType.JSON.xContent.createParser(xContentRegistry, IGNORE_DEPRECATIONS, query)
-      queryBuilder = AbstractQueryBuilder.parseInnerQueryBuilder(parser)
-    }
     new OpenSearchQueryReader(
       flintClient.createClient(),
       indexName,
-      new SearchSourceBuilder().query(queryBuilder).sort(sort, sortOrder))
+      new SearchSourceBuilder().query(parseQuery(query)).sort(sort, sortOrder))
   } catch {
     case e: IOException =>
       throw new RuntimeException(e)
   }
+
+  /**
+   * Check if any doc matches the query. The search neither sorts nor fetches hits, and stops at
+   * the first match on each shard.
+   *
+   * @param indexName
+   *   the name of the index
+   * @param query
+   *   DSL query string
+   * @return
+   *   true if any doc matches
+   */
+  def hasDocs(indexName: String, query: String): Boolean = {
+    using(flintClient.createClient()) { client =>
+      val request = new SearchRequest(indexName)
+        .source(
+          new SearchSourceBuilder()
+            .query(parseQuery(query))
+            .size(0)
+            .terminateAfter(1)
+            .trackTotalHits(true))
+      val response = client.search(request, RequestOptions.DEFAULT)
+      response.getHits.getTotalHits != null && response.getHits.getTotalHits.value > 0
+    }
+  }
+
+  private def parseQuery(query: String): QueryBuilder = {
+    if (Strings.isNullOrEmpty(query)) {
+      new MatchAllQueryBuilder
+    } else {
+      val parser =
+        XContentType.JSON.xContent.createParser(xContentRegistry, IGNORE_DEPRECATIONS, query)
+      AbstractQueryBuilder.parseInnerQueryBuilder(parser)
+    }
+  }
 }
@@ -46,6 +46,7 @@ class QueryResultWriterImpl(commandContext: CommandContext)
       sessionId,
       queryStartTime,
       currentTimeProvider,
-      CleanerFactory.cleaner(false))
+      CleanerFactory.cleaner(false),
+      Some(pages => writeResultPagesToOpensearch(pages, resultIndex, osClient)))
   }
 }
@@ -52,6 +52,7 @@ class SingleStatementExecutionManager(
       dataSource,
       statement.queryId,
       sessionId,
-      isStreaming)
+      isStreaming,
+      Some(pages => writeResultPagesToOpensearch(pages, resultIndex, osClient)))
   }
 }
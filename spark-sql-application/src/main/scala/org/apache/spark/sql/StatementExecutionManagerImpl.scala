@@ -58,6 +58,35 @@ class StatementExecutionManagerImpl(commandContext: CommandContext)
     }
   }
 
+  /**
+   * Wait in steps of query loop execution frequency, and return early once a waiting statement is
+   * found by a cheap existence check. This way an idle session backed off to a long interval
+   * still picks up new statement within one step, while the full statement query runs only once
+   * per interval.
+   */
+  override def awaitNextStatement(maxWaitMillis: Long): Unit = {
+    val step = Math.max(commandContext.queryLoopExecutionFrequency, 1L)
+    val deadline = System.currentTimeMillis() + maxWaitMillis
+    var remaining = maxWaitMillis
+    while (remaining > 0) {
+      Thread.sleep(Math.min(step, remaining))
+      remaining = deadline - System.currentTimeMillis()
+      if (remaining > 0 && hasWaitingStatement) {
+        return
+      }
+    }
+  }
+
+  private def hasWaitingStatement: Boolean = {
+    try {
+      osClient.hasDocs(sessionIndex, waitingStatementQuery)
+    } catch {
+      case e: Exception =>
+        logWarning("Failed to check waiting statement", e)
+        false
+    }
+  }
+
   override def executeStatement(statement: FlintStatement): DataFrame = {
     import commandContext.spark
     // we have to set job group in the same thread that started the query according to spark doc
@@ -69,14 +98,18 @@ class StatementExecutionManagerImpl(commandContext: CommandContext)
   }
 
   private def createOpenSearchQueryReader() = {
+    osClient.createQueryReader(sessionIndex, waitingStatementQuery, "submitTime", SortOrder.ASC)
+  }
+
+  private def waitingStatementQuery: String = {
     import commandContext._
     // all state in index are in lower case
     // we only search for statement submitted in the last hour in case of unexpected bugs causing infinite loop in the
-    // same doc
-    val dsl =
-      s"""{
+    // same doc. Clauses are in filter context to skip scoring and round the range to minute
+    // so that OpenSearch can cache them across polls
+    s"""{
        |  "bool": {
-       |    "must": [
+       |    "filter": [
        |    {
        |        "term": {
        |          "type": "statement"
@@ -99,12 +132,11 @@ class StatementExecutionManagerImpl(commandContext: CommandContext)
        |      },
        |      {
        |        "range": {
-       |          "submitTime": { "gte": "now-1h" }
+       |          "submitTime": { "gte": "now-1h/m" }
        |        }
        |      }
        |    ]
        |  }
        |}""".stripMargin
-    osClient.createQueryReader(sessionIndex, dsl, "submitTime", SortOrder.ASC)
   }
 }
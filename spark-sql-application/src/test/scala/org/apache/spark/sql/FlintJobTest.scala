@@ -88,6 +88,49 @@ class FlintJobTest extends SparkFunSuite with JobMatchers {
     assertEqualDataframe(expected, result)
   }
 
+  test("Test getFormattedData method with result pages") {
+    val currentTime: Long = System.currentTimeMillis()
+    var resultPages: Option[DataFrame] = None
+
+    spark.conf.set(FlintSparkConf.RESULT_PAGE_SIZE.key, "2")
+    try {
+      val result =
+        FlintJob.getFormattedData(
+          applicationId,
+          jobId,
+          input.coalesce(1),
+          spark,
+          "myGlueS3",
+          "10",
+          "select 1",
+          "20",
+          currentTime - 3000L,
+          new MockTimeProvider(currentTime),
+          CleanerFactory.cleaner(false),
+          Some(pages => resultPages = Some(pages)))
+
+      // Result rows are written as pages instead
+      val row = result.collect().head
+      row.getAs[Seq[String]]("result") shouldBe empty
+      row.getAs[Seq[String]]("schema") should have size 2
+      row.getAs[String]("status") shouldBe "SUCCESS"
+
+      resultPages shouldBe defined
+      resultPages.get.schema shouldBe FlintJob.resultPageSchema
+      val pages = resultPages.get.orderBy("resultPage").collect()
+      pages.map(_.getAs[Long]("resultPage")) shouldBe Array(0L, 1L)
+      pages.map(_.getAs[Seq[String]]("result")) shouldBe Array(
+        Seq("""{"Letter":"A","Number":1}""", """{"Letter":"B","Number":2}"""),
+        Seq("""{"Letter":"C","Number":3}"""))
+      pages.foreach { page =>
+        page.getAs[String]("queryId") shouldBe "10"
+        page.getAs[String]("jobRunId") shouldBe jobId
+      }
+    } finally {
+      spark.conf.unset(FlintSparkConf.RESULT_PAGE_SIZE.key)
+    }
+  }
+
   test("test isSuperset") {
     // Note in input false has enclosed double quotes, while mapping just has false
     val input =
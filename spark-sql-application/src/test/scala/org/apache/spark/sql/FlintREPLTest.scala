@@ -1391,6 +1391,69 @@ class FlintREPLTest
     verify(mockOSClient, Mockito.atMost(expectedCalls)).createQueryReader(*, *, *, *)
   }
 
+  test("nextQueryLoopInterval should back off when idle and reset on activity") {
+    val spark = mock[SparkSession]
+    val commandContext = CommandContext(
+      applicationId,
+      jobId,
+      spark,
+      "testDataSource",
+      INTERACTIVE_JOB_TYPE,
+      "testSessionId",
+      mock[SessionManager],
+      Duration(10, MINUTES),
+      60000,
+      60,
+      100L,
+      1000L)
+
+    val idleIntervals = Iterator
+      .iterate(100L)(interval => FlintREPL.nextQueryLoopInterval(commandContext, interval, false))
+      .take(6)
+      .toSeq
+    idleIntervals shouldBe Seq(100L, 200L, 400L, 800L, 1000L, 1000L)
+    FlintREPL.nextQueryLoopInterval(commandContext, 1000L, true) shouldBe 100L
+
+    // No back off if max execution frequency is not greater
+    val fixedContext = commandContext.copy(queryLoopMaxExecutionFrequency = 0L)
+    FlintREPL.nextQueryLoopInterval(fixedContext, 100L, false) shouldBe 100L
+  }
+
+  test("awaitNextStatement should return early once a waiting statement is found") {
+    val osClient = mock[OSClient]
+    when(osClient.hasDocs(any[String], any[String])).thenReturn(false, true)
+    val sessionManager = mock[SessionManager]
+    when(sessionManager.getSessionContext).thenReturn(
+      Map(
+        "sessionIndex" -> "sessionIndex",
+        "resultIndex" -> "resultIndex",
+        "osClient" -> osClient,
+        "flintSessionIndexUpdater" -> mock[OpenSearchUpdater]))
+    val commandContext = CommandContext(
+      applicationId,
+      jobId,
+      mock[SparkSession],
+      "testDataSource",
+      INTERACTIVE_JOB_TYPE,
+      "testSessionId",
+      sessionManager,
+      Duration(10, MINUTES),
+      60000,
+      60,
+      10L,
+      60000L)
+    val statementExecutionManager = new StatementExecutionManagerImpl(commandContext)
+
+    // No check if waiting no longer than one step
+    statementExecutionManager.awaitNextStatement(10L)
+    verify(osClient, never()).hasDocs(any[String], any[String])
+
+    val startTime = System.currentTimeMillis()
+    statementExecutionManager.awaitNextStatement(60000L)
+    assert(System.currentTimeMillis() - startTime < 30000L)
+    verify(osClient, times(2)).hasDocs(eqTo("sessionIndex"), any[String])
+  }
+
   val testCases = Table(
     ("inactivityLimit", "queryLoopExecutionFrequency"),
     (5000, 100L), // 5 seconds, 100 ms